@@ -38,6 +38,7 @@ import io.zeebe.transport.SocketAddress;
 import io.zeebe.util.DeferredCommandContext;
 import io.zeebe.util.actor.Actor;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class Gossip implements Actor
 {
@@ -52,6 +53,10 @@ public class Gossip implements Actor
 
     private final DeferredCommandContext commandContext;
 
+    private final Topology topology = new Topology();
+    private long topologyVersion = -1L;
+    private DirectBuffer topologyBuffer;
+
     public Gossip(final GossipContext context)
     {
         this.peer = context.getLocalPeer();
@@ -129,45 +134,69 @@ public class Gossip implements Actor
         return directory + GOSSIP_FILE_NAME;
     }
 
-    public CompletableFuture<Topology> getTopology()
+    /**
+     * Returns the serialized {@link Topology}. The topology is only rebuilt from the
+     * peers if it changed since the last call, see {@link PeerList#topologyVersion()}.
+     * The version of the topology is a checksum of its content, so that a client can
+     * detect if the topology changed, independent of the broker which it asks.
+     * The returned buffer is not modified afterwards.
+     */
+    public CompletableFuture<DirectBuffer> getTopology()
     {
         return commandContext.runAsync(future ->
         {
-            final Topology topology = new Topology();
-
             // force update local peer in peer list to sync local raft changes
             peers.update(peer);
 
-            for (final Peer peer : peers)
+            final long currentTopologyVersion = peers.topologyVersion();
+            if (topologyBuffer == null || topologyVersion != currentTopologyVersion)
             {
-                if (PeerState.ALIVE == peer.state())
-                {
-                    // TODO(menski): creates garbage
-                    final SocketAddress clientEndpoint = new SocketAddress(peer.clientEndpoint());
+                topologyBuffer = writeTopology();
+                topologyVersion = currentTopologyVersion;
+            }
 
-                    topology.brokers().add()
-                            .setHost(clientEndpoint.getHostBuffer(), 0, clientEndpoint.hostLength())
-                            .setPort(clientEndpoint.port());
+            future.complete(topologyBuffer);
+        });
+    }
+
+    protected DirectBuffer writeTopology()
+    {
+        topology.reset();
 
-                    for (final RaftMembership raftMembership : peer.raftMemberships())
+        for (final Peer peer : peers)
+        {
+            if (PeerState.ALIVE == peer.state())
+            {
+                // TODO(menski): creates garbage
+                final SocketAddress clientEndpoint = new SocketAddress(peer.clientEndpoint());
+
+                topology.brokers().add()
+                        .setHost(clientEndpoint.getHostBuffer(), 0, clientEndpoint.hostLength())
+                        .setPort(clientEndpoint.port());
+
+                for (final RaftMembership raftMembership : peer.raftMemberships())
+                {
+                    if (RaftMembershipState.LEADER == raftMembership.state())
                     {
-                        if (RaftMembershipState.LEADER == raftMembership.state())
-                        {
-                            // TODO(menski): creates garbage
-                            final DirectBuffer topicName = cloneBuffer(raftMembership.topicNameBuffer(), 0, raftMembership.topicNameLength());
-
-                            topology.topicLeaders().add()
-                                    .setTopicName(topicName, 0, topicName.capacity())
-                                    .setPartitionId(raftMembership.partitionId())
-                                    .setHost(clientEndpoint.getHostBuffer(), 0, clientEndpoint.hostLength())
-                                    .setPort(clientEndpoint.port());
-                        }
+                        // TODO(menski): creates garbage
+                        final DirectBuffer topicName = cloneBuffer(raftMembership.topicNameBuffer(), 0, raftMembership.topicNameLength());
+
+                        topology.topicLeaders().add()
+                                .setTopicName(topicName, 0, topicName.capacity())
+                                .setPartitionId(raftMembership.partitionId())
+                                .setHost(clientEndpoint.getHostBuffer(), 0, clientEndpoint.hostLength())
+                                .setPort(clientEndpoint.port());
                     }
                 }
             }
+        }
 
-            future.complete(topology);
-        });
+        topology.updateVersion();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[topology.getLength()]);
+        topology.write(buffer, 0);
+
+        return buffer;
     }
 
 }
@@ -21,6 +21,7 @@ import io.zeebe.broker.clustering.gossip.config.GossipConfiguration;
 import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.PeerList;
 import io.zeebe.broker.clustering.gossip.data.PeerSelector;
+import io.zeebe.broker.clustering.gossip.protocol.LocalHealth;
 import io.zeebe.transport.BufferingServerTransport;
 import io.zeebe.transport.ClientTransport;
 
@@ -36,6 +37,8 @@ public class GossipContext
 
     private PeerSelector peerSelector;
 
+    private LocalHealth localHealth;
+
     public GossipConfiguration getConfig()
     {
         return config;
@@ -96,4 +99,14 @@ public class GossipContext
         this.peerSelector = peerSelector;
     }
 
+    public LocalHealth getLocalHealth()
+    {
+        return localHealth;
+    }
+
+    public void setLocalHealth(LocalHealth localHealth)
+    {
+        this.localHealth = localHealth;
+    }
+
 }
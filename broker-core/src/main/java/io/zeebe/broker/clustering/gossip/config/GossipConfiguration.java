@@ -33,6 +33,17 @@ public class GossipConfiguration extends DirectoryConfiguration
     public int disseminationInterval = 1;
     public int disseminationTimeout = 10;
 
+    /**
+     * The number of seconds in which changed raft memberships of a peer are disseminated.
+     * Afterwards, the raft memberships are omitted in gossip messages until a full sync.
+     */
+    public int raftMembershipsDisseminationPeriod = 10;
+
+    /**
+     * The interval in seconds in which the raft memberships of all peers are disseminated.
+     */
+    public int raftMembershipsFullSyncInterval = 60;
+
     public int failureDetectionCapacity = 8;
     public int failureDetectionProbeCapacity = 3;
     public int failureDetectorTimeout = 15;
@@ -42,6 +53,12 @@ public class GossipConfiguration extends DirectoryConfiguration
 
     public int suspicionTimeout = 10;
 
+    /**
+     * The maximal factor by which the suspicion timeout and the dissemination interval
+     * are multiplied if gossip requests of the local peer fail, e.g. because it is overloaded.
+     */
+    public int localHealthMaxMultiplier = 8;
+
     public int numClientChannelMax = disseminatorCapacity + (failureDetectionCapacity * failureDetectionProbeCapacity) + 1;
 
     @Override
@@ -68,6 +68,15 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
 
     protected final RaftMembershipList raftMemberships = new RaftMembershipList();
 
+    // the heartbeat of the peer when its raft memberships changed the last time
+    protected final Heartbeat raftMembershipsVersion = new Heartbeat();
+
+    // the local time when the raft memberships changed or had to be disseminated again
+    protected long raftMembershipsChangeTime = -1L;
+
+    // false if the raft memberships were omitted in a gossip message
+    protected boolean hasRaftMemberships = true;
+
     protected PeerState state = NULL_VAL;
 
     protected long changeStateTime = -1L;
@@ -120,6 +129,40 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
         return this;
     }
 
+    public Heartbeat raftMembershipsVersion()
+    {
+        return raftMembershipsVersion;
+    }
+
+    public long raftMembershipsChangeTime()
+    {
+        return raftMembershipsChangeTime;
+    }
+
+    public Peer raftMembershipsChangeTime(final long raftMembershipsChangeTime)
+    {
+        this.raftMembershipsChangeTime = raftMembershipsChangeTime;
+        return this;
+    }
+
+    public boolean hasRaftMemberships()
+    {
+        return hasRaftMemberships;
+    }
+
+    public Peer hasRaftMemberships(final boolean hasRaftMemberships)
+    {
+        this.hasRaftMemberships = hasRaftMemberships;
+        return this;
+    }
+
+    public Peer resetRaftMembershipsVersion()
+    {
+        raftMembershipsVersion.generation(PeerDescriptorEncoder.raftMembershipsGenerationNullValue());
+        raftMembershipsVersion.version(PeerDescriptorEncoder.raftMembershipsVersionNullValue());
+        return this;
+    }
+
     public long changeStateTime()
     {
         return changeStateTime;
@@ -222,6 +265,12 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
             .generation(decoder.generation())
             .version(decoder.version());
 
+        raftMembershipsVersion()
+            .generation(decoder.raftMembershipsGeneration())
+            .version(decoder.raftMembershipsVersion());
+
+        raftMembershipsChangeTime(decoder.raftMembershipsChangeTime());
+
         for (final EndpointsDecoder endpointsDecoder : decoder.endpoints())
         {
             final SocketAddress endpoint;
@@ -265,6 +314,9 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
         replicationEndpoint().wrap(peer.replicationEndpoint());
 
         raftMemberships(peer.raftMemberships());
+        raftMembershipsVersion().wrap(peer.raftMembershipsVersion());
+        raftMembershipsChangeTime(peer.raftMembershipsChangeTime());
+        hasRaftMemberships(peer.hasRaftMemberships());
 
         this.state(peer.state()).changeStateTime(peer.changeStateTime());
     }
@@ -313,6 +365,9 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
             .generation(heartbeat.generation())
             .version(heartbeat.version())
             .changeStateTime(changeStateTime())
+            .raftMembershipsGeneration(raftMembershipsVersion.generation())
+            .raftMembershipsVersion(raftMembershipsVersion.version())
+            .raftMembershipsChangeTime(raftMembershipsChangeTime())
             .endpointsCount(PEER_ENDPOINT_COUNT);
 
         endpointsEncoder.next()
@@ -356,6 +411,9 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
         replicationEndpoint().port(EndpointsDecoder.portNullValue());
 
         raftMemberships.clear();
+        resetRaftMembershipsVersion();
+        raftMembershipsChangeTime = -1L;
+        hasRaftMemberships = true;
 
         state = NULL_VAL;
         changeStateTime = -1L;
@@ -382,6 +440,7 @@ public class Peer implements BufferWriter, BufferReader, Comparable<Peer>
             ", replicationEndpoint=" + replicationEndpoint +
             ", heartbeat=" + heartbeat +
             ", raftMembershipList=" + raftMemberships +
+            ", raftMembershipsVersion=" + raftMembershipsVersion +
             ", state=" + state +
             ", changeStateTime=" + changeStateTime +
             '}';
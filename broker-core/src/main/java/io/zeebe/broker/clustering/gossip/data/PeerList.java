@@ -31,9 +31,11 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2IntHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.zeebe.clustering.gossip.PeerDescriptorDecoder;
+import io.zeebe.transport.SocketAddress;
 import io.zeebe.util.CloseableSilently;
 import io.zeebe.util.allocation.DirectBufferAllocator;
 import io.zeebe.util.collection.CompactList;
@@ -65,6 +67,23 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
     protected final UnsafeBuffer tmpPeerBuffer = new UnsafeBuffer(new byte[MAX_PEER_LENGTH]);
     protected final UnsafeBuffer tmpPeerBufferView = new UnsafeBuffer(0, 0);
 
+    protected final UnsafeBuffer storedPeerBuffer = new UnsafeBuffer(new byte[MAX_PEER_LENGTH]);
+    protected final Peer storedPeer = new Peer();
+
+    /**
+     * Maps the hash of the management endpoint of a peer to the index
+     * at which the peer was found last time. An entry is only a hint and
+     * is verified on lookup, since it may be outdated after a peer was added
+     * or collide with the hash of another peer.
+     */
+    protected final Int2IntHashMap addressIndex = new Int2IntHashMap(-1);
+
+    /**
+     * Incremented each time a peer joins or changes its state, client endpoint
+     * or raft memberships, i.e. when the topology of the cluster changed.
+     */
+    protected long topologyVersion = 0;
+
     protected final Peer shuffledPeer = new Peer();
     protected final Random shuffleRandom = new Random();
 
@@ -114,6 +133,11 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
      * If the passed updates contains outdated information to a peer, then
      * the updated information are added to the passed list {@code diff}.
      *
+     * The raft memberships of a peer are versioned separately from its heartbeat
+     * and are only taken over if the update contains them and they are newer. If the
+     * update has outdated raft memberships, the local ones are marked as changed so that
+     * they are disseminated again.
+     *
      * @param updates to merge.
      * @param diff to determine the diff between this list and the updates.
      */
@@ -142,19 +166,23 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
                 {
                     if (diff != null)
                     {
+                        // the peer is unknown to the other side
+                        thisPeer.raftMembershipsChangeTime(System.currentTimeMillis());
+                        set(localIterator.position(), thisPeer);
+
                         diff.append(thisPeer);
                     }
 
                     if (!localIterator.hasNext() && thatPeer != null)
                     {
-                        append(thatPeer);
+                        append(newPeer(thatPeer));
                     }
                 }
                 else if (cmp > 0)
                 {
                     if (thatPeer.state() == ALIVE)
                     {
-                        add(localIterator.position(), thatPeer);
+                        add(localIterator.position(), newPeer(thatPeer));
                     }
                     else
                     {
@@ -188,9 +216,24 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
         while (updates.hasNext())
         {
             final Peer peer = updates.next();
-            append(peer);
+            append(newPeer(peer));
+        }
+
+    }
+
+    protected Peer newPeer(final Peer peer)
+    {
+        if (peer.hasRaftMemberships())
+        {
+            peer.raftMembershipsChangeTime(System.currentTimeMillis());
+        }
+        else
+        {
+            // accept the raft memberships of the peer when they are received
+            peer.resetRaftMembershipsVersion();
         }
 
+        return peer;
     }
 
     protected boolean mergePeer(final Peer thisPeer, final Peer thatPeer, final int idx)
@@ -205,7 +248,22 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
             thisPeer.clientEndpoint().wrap(thatPeer.clientEndpoint());
             thisPeer.managementEndpoint().wrap(thatPeer.managementEndpoint());
             thisPeer.replicationEndpoint().wrap(thatPeer.replicationEndpoint());
+        }
+
+        final int raftMembershipsCmp = thisPeer.raftMembershipsVersion().compareTo(thatPeer.raftMembershipsVersion());
+
+        if (raftMembershipsCmp < 0 && thatPeer.hasRaftMemberships())
+        {
             thisPeer.raftMemberships(thatPeer.raftMemberships());
+            thisPeer.raftMembershipsVersion().wrap(thatPeer.raftMembershipsVersion());
+            thisPeer.raftMembershipsChangeTime(System.currentTimeMillis());
+            set(idx, thisPeer);
+        }
+        else if (raftMembershipsCmp > 0)
+        {
+            // the other side has outdated raft memberships, disseminate them again
+            thisPeer.raftMembershipsChangeTime(System.currentTimeMillis());
+            set(idx, thisPeer);
         }
 
         switch (thatPeer.state())
@@ -257,7 +315,7 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
             }
         }
 
-        return cmp > 0;
+        return cmp > 0 || raftMembershipsCmp > 0;
     }
 
     /**
@@ -274,15 +332,57 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
 
     public void set(final int idx, final Peer src)
     {
+        if (isTopologyChange(idx, src))
+        {
+            topologyVersion += 1;
+        }
+
         src.write(tmpPeerBuffer, 0);
         underlyingList.set(idx, tmpPeerBuffer, 0, src.getLength());
     }
 
+    protected boolean isTopologyChange(final int idx, final Peer peer)
+    {
+        final int length = underlyingList.get(idx, storedPeerBuffer, 0);
+        storedPeer.wrap(storedPeerBuffer, 0, length);
+
+        if (storedPeer.state() != peer.state() || !storedPeer.clientEndpoint().equals(peer.clientEndpoint()))
+        {
+            return true;
+        }
+
+        final RaftMembershipList storedRaftMemberships = storedPeer.raftMemberships();
+        final RaftMembershipList raftMemberships = peer.raftMemberships();
+
+        if (storedRaftMemberships.size() != raftMemberships.size())
+        {
+            return true;
+        }
+
+        for (int i = 0; i < raftMemberships.size(); i++)
+        {
+            final RaftMembership storedRaftMembership = storedRaftMemberships.get(i);
+            final RaftMembership raftMembership = raftMemberships.get(i);
+
+            // the topic name of a partition doesn't change
+            if (storedRaftMembership.partitionId() != raftMembership.partitionId() ||
+                storedRaftMembership.term() != raftMembership.term() ||
+                storedRaftMembership.state() != raftMembership.state())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     public void add(final int idx, final Peer peer)
     {
         peer.write(tmpPeerBuffer, 0);
         underlyingList.add(tmpPeerBuffer, 0, peer.getLength(), idx);
 
+        topologyVersion += 1;
+
         for (int i = 0; i < listeners.size(); i++)
         {
             listeners.get(i).onPeerJoin(peer);
@@ -335,11 +435,40 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
     }
 
     /**
-     * Searches the list for the specified peer.
+     * Searches the list for the specified peer. The peer is looked up
+     * by its management endpoint in the address index first and only
+     * if it is not indexed, the list is searched.
      *
      * @see CompactList#find(org.agrona.DirectBuffer, Comparator)
      */
     public int find(final Peer peer)
+    {
+        final SocketAddress managementEndpoint = peer.managementEndpoint();
+        final int hash = managementEndpoint.hashCode();
+
+        final int indexed = addressIndex.get(hash);
+        if (indexed >= 0 && indexed < size())
+        {
+            final int length = underlyingList.get(indexed, storedPeerBuffer, 0);
+            storedPeer.wrap(storedPeerBuffer, 0, length);
+
+            if (managementEndpoint.equals(storedPeer.managementEndpoint()))
+            {
+                return indexed;
+            }
+        }
+
+        final int index = search(peer);
+
+        if (index >= 0)
+        {
+            addressIndex.put(hash, index);
+        }
+
+        return index;
+    }
+
+    protected int search(final Peer peer)
     {
         peer.write(tmpPeerBuffer, 0);
 
@@ -360,6 +489,9 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
     public void clear()
     {
         underlyingList.clear();
+        addressIndex.clear();
+
+        topologyVersion += 1;
     }
 
     /**
@@ -382,6 +514,15 @@ public class PeerList implements Iterable<Peer>, CloseableSilently
         return underlyingList.capacity();
     }
 
+    /**
+     * @return the version of the topology which is contained by this list of peers,
+     *  see {@link #set(int, Peer)} and {@link #add(int, Peer)}
+     */
+    public long topologyVersion()
+    {
+        return topologyVersion;
+    }
+
     public void shuffle()
     {
         final int size = size();
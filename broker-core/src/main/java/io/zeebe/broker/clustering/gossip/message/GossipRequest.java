@@ -53,6 +53,12 @@ public class GossipRequest implements BufferReader, BufferWriter
         return this;
     }
 
+    public GossipRequest raftMembershipsSince(final long raftMembershipsSince)
+    {
+        gossipWriter.raftMembershipsSince(raftMembershipsSince);
+        return this;
+    }
+
     @Override
     public int getLength()
     {
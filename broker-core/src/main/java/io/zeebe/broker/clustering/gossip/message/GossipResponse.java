@@ -53,6 +53,12 @@ public class GossipResponse implements BufferReader, BufferWriter
         return this;
     }
 
+    public GossipResponse raftMembershipsSince(final long raftMembershipsSince)
+    {
+        gossipWriter.raftMembershipsSince(raftMembershipsSince);
+        return this;
+    }
+
     @Override
     public int getLength()
     {
@@ -24,6 +24,7 @@ import org.agrona.MutableDirectBuffer;
 
 import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.RaftMembershipList;
+import io.zeebe.clustering.gossip.BooleanType;
 import io.zeebe.clustering.gossip.GossipDecoder;
 import io.zeebe.clustering.gossip.GossipDecoder.PeersDecoder;
 import io.zeebe.clustering.gossip.GossipDecoder.PeersDecoder.EndpointsDecoder;
@@ -63,6 +64,12 @@ public class GossipMessageReader implements BufferReader, Iterator<Peer>
             .generation(decoder.generation())
             .version(decoder.version());
 
+        currentPeer.raftMembershipsVersion()
+            .generation(decoder.raftMembershipsGeneration())
+            .version(decoder.raftMembershipsVersion());
+
+        final boolean hasRaftMemberships = decoder.raftMembershipsIncluded() == BooleanType.TRUE;
+
         for (final EndpointsDecoder endpointsDecoder : decoder.endpoints())
         {
             final SocketAddress endpoint;
@@ -97,7 +104,8 @@ public class GossipMessageReader implements BufferReader, Iterator<Peer>
         }
 
         currentPeer.state(decoder.state())
-            .changeStateTime(-1L);
+            .changeStateTime(-1L)
+            .hasRaftMemberships(hasRaftMemberships);
 
         return currentPeer;
     }
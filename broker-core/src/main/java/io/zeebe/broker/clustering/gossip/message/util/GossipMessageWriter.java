@@ -29,6 +29,7 @@ import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.PeerList;
 import io.zeebe.broker.clustering.gossip.data.RaftMembership;
 import io.zeebe.broker.clustering.gossip.data.RaftMembershipList;
+import io.zeebe.clustering.gossip.BooleanType;
 import io.zeebe.clustering.gossip.EndpointType;
 import io.zeebe.clustering.gossip.GossipDecoder.PeersDecoder;
 import io.zeebe.clustering.gossip.GossipDecoder.PeersDecoder.EndpointsDecoder;
@@ -43,6 +44,7 @@ import io.zeebe.util.buffer.BufferWriter;
 public class GossipMessageWriter implements BufferWriter
 {
     protected PeerList peers;
+    protected long raftMembershipsSince = Long.MIN_VALUE;
 
     protected final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
     protected final GossipEncoder bodyEncoder = new GossipEncoder();
@@ -53,6 +55,21 @@ public class GossipMessageWriter implements BufferWriter
         return this;
     }
 
+    /**
+     * Only includes the raft memberships of the peers which changed at or after the given time.
+     * By default, the raft memberships of all peers are included.
+     */
+    public GossipMessageWriter raftMembershipsSince(final long raftMembershipsSince)
+    {
+        this.raftMembershipsSince = raftMembershipsSince;
+        return this;
+    }
+
+    protected boolean includeRaftMemberships(final Peer peer)
+    {
+        return peer.raftMembershipsChangeTime() >= raftMembershipsSince;
+    }
+
     @Override
     public int getLength()
     {
@@ -75,12 +92,15 @@ public class GossipMessageWriter implements BufferWriter
             length += current.replicationEndpoint().hostLength();
             length += RaftMembershipsEncoder.sbeHeaderSize();
 
-            for (final RaftMembership raftMembership : current.raftMemberships())
+            if (includeRaftMemberships(current))
             {
-                length +=
-                    RaftMembershipsEncoder.sbeBlockLength() +
-                    RaftMembershipsEncoder.topicNameHeaderLength() +
-                    raftMembership.topicNameLength();
+                for (final RaftMembership raftMembership : current.raftMemberships())
+                {
+                    length +=
+                        RaftMembershipsEncoder.sbeBlockLength() +
+                        RaftMembershipsEncoder.topicNameHeaderLength() +
+                        raftMembership.topicNameLength();
+                }
             }
         }
 
@@ -115,10 +135,16 @@ public class GossipMessageWriter implements BufferWriter
             final int replicationHostLength = replicationEndpoint.hostLength();
             final int replicationPort = replicationEndpoint.port();
 
+            final Heartbeat raftMembershipsVersion = current.raftMembershipsVersion();
+            final boolean includeRaftMemberships = includeRaftMemberships(current);
+
             final EndpointsEncoder endpointsEncoder = encoder.next()
                 .state(current.state())
                 .generation(heartbeat.generation())
                 .version(heartbeat.version())
+                .raftMembershipsGeneration(raftMembershipsVersion.generation())
+                .raftMembershipsVersion(raftMembershipsVersion.version())
+                .raftMembershipsIncluded(includeRaftMemberships ? BooleanType.TRUE : BooleanType.FALSE)
                 .endpointsCount(PEER_ENDPOINT_COUNT);
 
             endpointsEncoder.next()
@@ -137,14 +163,22 @@ public class GossipMessageWriter implements BufferWriter
                 .putHost(replicationHostBuffer, 0, replicationHostLength);
 
             final RaftMembershipList raftMemberships = current.raftMemberships();
-            final RaftMembershipsEncoder raftMembershipsEncoder = encoder.raftMembershipsCount(raftMemberships.size());
-            for (final RaftMembership raftMembership : raftMemberships)
+
+            if (includeRaftMemberships)
+            {
+                final RaftMembershipsEncoder raftMembershipsEncoder = encoder.raftMembershipsCount(raftMemberships.size());
+                for (final RaftMembership raftMembership : raftMemberships)
+                {
+                    raftMembershipsEncoder.next()
+                        .partitionId(raftMembership.partitionId())
+                        .term(raftMembership.term())
+                        .state(raftMembership.state())
+                        .putTopicName(raftMembership.topicNameBuffer(), 0, raftMembership.topicNameLength());
+                }
+            }
+            else
             {
-                raftMembershipsEncoder.next()
-                    .partitionId(raftMembership.partitionId())
-                    .term(raftMembership.term())
-                    .state(raftMembership.state())
-                    .putTopicName(raftMembership.topicNameBuffer(), 0, raftMembership.topicNameLength());
+                encoder.raftMembershipsCount(0);
             }
 
         }
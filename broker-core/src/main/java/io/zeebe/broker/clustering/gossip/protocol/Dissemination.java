@@ -66,6 +66,8 @@ public class Dissemination
     private final GossipContext gossipContext;
     private DisseminationContext disseminationContext;
 
+    private long raftMembershipsSince = Long.MIN_VALUE;
+
     private final WaitState<DisseminationContext> closedState = (c) ->
     {
     };
@@ -119,8 +121,13 @@ public class Dissemination
 
     }
 
-    public void open()
+    /**
+     * @param raftMembershipsSince only the raft memberships of the peers which changed at or after this
+     *  time are included in the gossip request
+     */
+    public void open(final long raftMembershipsSince)
     {
+        this.raftMembershipsSince = raftMembershipsSince;
         disseminationStateMachine.addCommand(OPEN_STATE_MACHINE_COMMAND);
     }
 
@@ -216,7 +223,9 @@ public class Dissemination
             final RequestResponseController requestController = context.requestController;
             final Peer peer = context.peer;
 
-            request.peers(peers);
+            request
+                .peers(peers)
+                .raftMembershipsSince(raftMembershipsSince);
 
             final SocketAddress endpoint = peer.managementEndpoint();
             requestController.open(endpoint, request, context.response);
@@ -260,6 +269,8 @@ public class Dissemination
 
             peers.merge(response.peers());
 
+            gossipContext.getLocalHealth().onSuccess();
+
             context.take(TRANSITION_DEFAULT);
         }
     }
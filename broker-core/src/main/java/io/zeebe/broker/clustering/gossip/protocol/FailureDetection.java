@@ -311,6 +311,10 @@ public class FailureDetection
             response.wrap(responseBuffer, 0, responseLength);
             peers.merge(response.peers());
 
+            // the peer is reachable by other peers but the gossip request of
+            // the local peer failed, i.e. the local peer may be too slow
+            gossipContext.getLocalHealth().onFailure();
+
             context.take(TRANSITION_DEFAULT);
         }
     }
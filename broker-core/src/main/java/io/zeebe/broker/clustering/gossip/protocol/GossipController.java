@@ -20,9 +20,6 @@ package io.zeebe.broker.clustering.gossip.protocol;
 import static io.zeebe.clustering.gossip.PeerState.ALIVE;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.security.MessageDigest;
 import java.util.concurrent.TimeUnit;
 
 import io.zeebe.broker.Loggers;
@@ -33,12 +30,14 @@ import io.zeebe.broker.clustering.gossip.config.GossipConfiguration;
 import io.zeebe.broker.clustering.gossip.data.Heartbeat;
 import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.PeerList;
+import io.zeebe.broker.clustering.gossip.data.RaftMembership;
+import io.zeebe.broker.clustering.gossip.data.RaftMembershipList;
 import io.zeebe.broker.clustering.gossip.message.GossipRequest;
 import io.zeebe.broker.clustering.gossip.message.GossipResponse;
+import io.zeebe.broker.util.DoubleBufferedMappedFile;
 import io.zeebe.transport.RemoteAddress;
 import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerResponse;
-import io.zeebe.util.StreamUtil;
 
 public class GossipController
 {
@@ -50,6 +49,9 @@ public class GossipController
     private final GossipContext context;
 
     private long lastDissemination = 0;
+    private long lastRaftMembershipsFullSync = 0;
+    // the raft memberships of the local peer when they were versioned the last time
+    private final RaftMembershipList lastRaftMemberships = new RaftMembershipList();
     private long lastStorage = -1;
 
     private final PeerList diff;
@@ -64,6 +66,7 @@ public class GossipController
     private Probe[] proberHandlers;
 
     private final String gossipFileName;
+    private DoubleBufferedMappedFile storage;
 
     public GossipController(final GossipContext context)
     {
@@ -145,6 +148,12 @@ public class GossipController
 
         peers.close();
         diff.close();
+
+        if (storage != null)
+        {
+            storage.close();
+            storage = null;
+        }
     }
 
     public int doWork()
@@ -238,15 +247,19 @@ public class GossipController
         {
             workcount += 1;
 
-            final File file = new File(gossipFileName);
-            final MessageDigest messageDigest = StreamUtil.getSha1Digest();
+            final DirectBuffer rawPeers = peers.getPeers().getRawBuffer();
 
-            try (InputStream is = peers.toInputStream())
+            try
             {
-                StreamUtil.write(file, is, messageDigest);
+                if (storage == null)
+                {
+                    storage = new DoubleBufferedMappedFile(new File(gossipFileName), rawPeers.capacity());
+                }
+
+                storage.write(rawPeers, 0, rawPeers.capacity());
                 Loggers.CLUSTERING_LOGGER.info("Write Gossip snapshot.");
             }
-            catch (final IOException e)
+            catch (final RuntimeException e)
             {
                 // ignore
                 Loggers.CLUSTERING_LOGGER.error("Gossip snapshot failed!", e);
@@ -267,13 +280,14 @@ public class GossipController
         final GossipConfiguration config = context.getConfig();
         final int interval = config.disseminationInterval;
 
-        final boolean elapsed = interval > 0 && now >= TimeUnit.SECONDS.toMillis(interval) + lastDissemination;
+        final boolean elapsed = interval > 0 && now >= context.getLocalHealth().scale(TimeUnit.SECONDS.toMillis(interval)) + lastDissemination;
 
         if (elapsed)
         {
             localPeer.alive();
             final Heartbeat heartbeat = localPeer.heartbeat();
             heartbeat.version(heartbeat.version() + 1);
+            updateRaftMembershipsVersion(now);
             peers.update(localPeer);
 
             lastDissemination = now;
@@ -282,13 +296,70 @@ public class GossipController
             if (disseminator != null)
             {
                 workcount += 1;
-                disseminator.open();
+
+                final long raftMembershipsSince;
+                if (now >= TimeUnit.SECONDS.toMillis(config.raftMembershipsFullSyncInterval) + lastRaftMembershipsFullSync)
+                {
+                    raftMembershipsSince = Long.MIN_VALUE;
+                    lastRaftMembershipsFullSync = now;
+                }
+                else
+                {
+                    raftMembershipsSince = now - TimeUnit.SECONDS.toMillis(config.raftMembershipsDisseminationPeriod);
+                }
+
+                disseminator.open(raftMembershipsSince);
             }
         }
 
         return workcount;
     }
 
+    /**
+     * The raft memberships of the local peer refer to the actual rafts. If their state changed since the last
+     * dissemination, then the raft memberships get a new version so that they are disseminated again.
+     */
+    protected void updateRaftMembershipsVersion(final long now)
+    {
+        final RaftMembershipList raftMemberships = localPeer.raftMemberships();
+
+        if (!hasSameRaftMemberships(raftMemberships, lastRaftMemberships) || localPeer.raftMembershipsChangeTime() < 0)
+        {
+            localPeer.raftMembershipsVersion().wrap(localPeer.heartbeat());
+            localPeer.raftMembershipsChangeTime(now);
+
+            lastRaftMemberships.clear();
+            for (final RaftMembership raftMembership : raftMemberships)
+            {
+                lastRaftMemberships.add(raftMembership);
+            }
+        }
+    }
+
+    protected static boolean hasSameRaftMemberships(final RaftMembershipList memberships, final RaftMembershipList otherMemberships)
+    {
+        if (memberships.size() != otherMemberships.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < memberships.size(); i++)
+        {
+            final RaftMembership membership = memberships.get(i);
+            final RaftMembership otherMembership = otherMemberships.get(i);
+
+            // the topic name of a partition does not change
+            if (membership.partitionId() != otherMembership.partitionId() ||
+                membership.term() != otherMembership.term() ||
+                membership.state() != otherMembership.state())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     protected Dissemination getClosedDisseminator()
     {
         Dissemination dissemination = null;
@@ -337,6 +408,8 @@ public class GossipController
             if (tmp.state() != ALIVE)
             {
                 // refute
+                context.getLocalHealth().onRefute();
+
                 localPeer.alive();
                 localPeer.heartbeat().generation(System.currentTimeMillis());
                 peers.set(idx, localPeer);
@@ -353,7 +426,11 @@ public class GossipController
             }
         }
 
-        gossipResponse.peers(diff);
+        final long raftMembershipsSince = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(context.getConfig().raftMembershipsDisseminationPeriod);
+
+        gossipResponse
+            .peers(diff)
+            .raftMembershipsSince(raftMembershipsSince);
 
         // try to write response only once, if it fails
         // do not retry it, since with the next request
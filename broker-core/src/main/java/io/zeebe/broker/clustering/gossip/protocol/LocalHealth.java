@@ -0,0 +1,70 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.gossip.protocol;
+
+/**
+ * Estimates the health of the local peer by a multiplier which is increased if a gossip request of
+ * the local peer failed while the peer was reachable by other peers or the local peer had to refute
+ * a suspicion, and decreased if a gossip request succeeded (see Lifeguard: Local Health Awareness
+ * for More Accurate Failure Detection).
+ *
+ * <p>If the local peer is slow (e.g. because of a GC pause or an overloaded machine), then it is
+ * likely that its requests time out even if the other peers are alive. The timeouts and intervals
+ * of the local peer are scaled by the multiplier, so that it doesn't suspect healthy peers and
+ * sends fewer requests.
+ */
+public class LocalHealth
+{
+    private final int maxMultiplier;
+
+    private int multiplier = 0;
+
+    public LocalHealth(final int maxMultiplier)
+    {
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    public void onSuccess()
+    {
+        multiplier = Math.max(0, multiplier - 1);
+    }
+
+    public void onFailure()
+    {
+        multiplier = Math.min(maxMultiplier, multiplier + 1);
+    }
+
+    public void onRefute()
+    {
+        onFailure();
+    }
+
+    public int multiplier()
+    {
+        return multiplier;
+    }
+
+    /**
+     * @return the given timeout or interval scaled by the current multiplier
+     */
+    public long scale(final long value)
+    {
+        return value * (multiplier + 1);
+    }
+
+}
@@ -32,6 +32,7 @@ public class Suspicion
     private int timeout;
     private final PeerList peers;
     private final PeerListIterator iterator;
+    private final LocalHealth localHealth;
 
     public Suspicion(final GossipContext context)
     {
@@ -39,6 +40,7 @@ public class Suspicion
         this.timeout = config.suspicionTimeout;
         this.peers = context.getPeers();
         this.iterator = new PeerListIterator(peers);
+        this.localHealth = context.getLocalHealth();
     }
 
     public void open()
@@ -53,6 +55,8 @@ public class Suspicion
     {
         int workcount = 0;
 
+        final long suspicionTimeout = localHealth.scale(TimeUnit.SECONDS.toMillis(timeout));
+
         iterator.reset();
         while (iterator.hasNext())
         {
@@ -60,7 +64,7 @@ public class Suspicion
             if (peer.state() == SUSPECT)
             {
                 final long suspectTime = peer.changeStateTime();
-                if (System.currentTimeMillis() > suspectTime + TimeUnit.SECONDS.toMillis(timeout))
+                if (System.currentTimeMillis() > suspectTime + suspicionTimeout)
                 {
                     workcount += 1;
                     peer.dead();
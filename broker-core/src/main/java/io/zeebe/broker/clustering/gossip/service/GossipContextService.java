@@ -22,6 +22,7 @@ import io.zeebe.broker.clustering.gossip.config.GossipConfiguration;
 import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.PeerList;
 import io.zeebe.broker.clustering.gossip.data.PeerSelector;
+import io.zeebe.broker.clustering.gossip.protocol.LocalHealth;
 import io.zeebe.servicecontainer.Injector;
 import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceStartContext;
@@ -63,6 +64,7 @@ public class GossipContextService implements Service<GossipContext>
         context.setClientTransport(clientTransport);
         context.setServerTransport(serverTransport);
         context.setPeerSelector(peerSelector);
+        context.setLocalHealth(new LocalHealth(config.localHealthMaxMultiplier));
     }
 
     @Override
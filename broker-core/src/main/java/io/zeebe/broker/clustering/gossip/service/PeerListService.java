@@ -25,12 +25,16 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import io.zeebe.broker.Loggers;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.zeebe.broker.clustering.gossip.config.GossipConfiguration;
 import io.zeebe.broker.clustering.gossip.data.Peer;
 import io.zeebe.broker.clustering.gossip.data.PeerList;
+import io.zeebe.broker.util.DoubleBufferedMappedFile;
 import io.zeebe.util.collection.CompactList;
+import io.zeebe.util.collection.CompactListIterator;
 import io.zeebe.servicecontainer.Injector;
 import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceStartContext;
@@ -84,11 +88,50 @@ public class PeerListService implements Service<PeerList>
 
     protected void addStoredPeers(final PeerList peers, final String path)
     {
-        final File file = new File(path);
+        final byte[] data = readStoredPeers(new File(path));
 
-        if (StreamUtil.canRead(file, StreamUtil.getSha1Digest()))
+        if (data != null)
         {
-            final byte[] data = new byte[(int) file.length()];
+            final UnsafeBuffer buffer = new UnsafeBuffer(data);
+            final CompactList underlyingList = new CompactList(buffer);
+            final PeerList stored = new PeerList(underlyingList);
+
+            if (isCompatible(underlyingList))
+            {
+                peers.addAll(stored);
+            }
+            else
+            {
+                Loggers.CLUSTERING_LOGGER.warn("Ignore stored peers of file '{}' because they have an incompatible format.", path);
+            }
+        }
+    }
+
+    protected byte[] readStoredPeers(final File file)
+    {
+        byte[] data = null;
+
+        if (DoubleBufferedMappedFile.isMappedFile(file))
+        {
+            final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 0);
+            try
+            {
+                final DirectBuffer stored = mappedFile.read();
+                if (stored != null)
+                {
+                    data = new byte[stored.capacity()];
+                    stored.getBytes(0, data);
+                }
+            }
+            finally
+            {
+                mappedFile.close();
+            }
+        }
+        else if (StreamUtil.canRead(file, StreamUtil.getSha1Digest()))
+        {
+            // peers which are stored by a previous version of the broker
+            data = new byte[(int) file.length()];
 
             try (InputStream is = new FileInputStream(file))
             {
@@ -99,13 +142,39 @@ public class PeerListService implements Service<PeerList>
                 Loggers.CLUSTERING_LOGGER.error("Cannot read stored peers.", e);
                 // ignore
             }
+        }
 
-            final UnsafeBuffer buffer = new UnsafeBuffer(data);
-            final CompactList underlyingList = new CompactList(buffer);
-            final PeerList stored = new PeerList(underlyingList);
+        return data;
+    }
+
+    /**
+     * The stored peers are written without a message header, i.e. peers which were
+     * stored by a previous version of the broker may not be readable anymore.
+     */
+    protected boolean isCompatible(final CompactList storedPeers)
+    {
+        final Peer peer = new Peer();
 
-            peers.addAll(stored);
+        try
+        {
+            final CompactListIterator iterator = storedPeers.iterator();
+            while (iterator.hasNext())
+            {
+                final MutableDirectBuffer element = iterator.next();
+                peer.wrap(element, 0, element.capacity());
+
+                if (peer.getLength() != element.capacity())
+                {
+                    return false;
+                }
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            return false;
         }
+
+        return true;
     }
 
     protected void addContacts(final PeerList peers, final String[] contacts)
@@ -29,6 +29,7 @@ import io.zeebe.broker.transport.controlmessage.ControlMessageResponseWriter;
 import io.zeebe.protocol.clientapi.ControlMessageType;
 import io.zeebe.protocol.clientapi.ErrorCode;
 import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.buffer.DirectBufferWriter;
 
 public class RequestTopologyHandler implements ControlMessageHandler
 {
@@ -36,6 +37,7 @@ public class RequestTopologyHandler implements ControlMessageHandler
     protected final Gossip gossip;
     protected final ControlMessageResponseWriter responseWriter;
     protected final ErrorResponseWriter errorResponseWriter;
+    protected final DirectBufferWriter topologyWriter = new DirectBufferWriter();
 
     public RequestTopologyHandler(final ServerOutput ouput, final Gossip gossip)
     {
@@ -58,8 +60,10 @@ public class RequestTopologyHandler implements ControlMessageHandler
             {
                 if (failure == null)
                 {
+                    topologyWriter.wrap(topology, 0, topology.capacity());
+
                     responseWriter
-                        .dataWriter(topology);
+                        .dataWriter(topologyWriter);
 
                     if (!responseWriter.tryWriteResponse(metadata.getRequestStreamId(), metadata.getRequestId()))
                     {
@@ -17,8 +17,13 @@
  */
 package io.zeebe.broker.clustering.handler;
 
+import java.util.zip.CRC32;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.ArrayProperty;
+import io.zeebe.msgpack.property.LongProperty;
 import io.zeebe.msgpack.value.ArrayValue;
 import io.zeebe.msgpack.value.ValueArray;
 
@@ -33,11 +38,17 @@ public class Topology extends UnpackedObject
         ArrayValue.emptyArray(),
         new BrokerAddress());
 
+    /**
+     * A checksum of the topology, i.e. the same topology has the same version on each broker
+     */
+    protected LongProperty versionProp = new LongProperty("version", 0L);
+
     public Topology()
     {
         this
             .declareProperty(topicLeadersProp)
-            .declareProperty(brokersProp);
+            .declareProperty(brokersProp)
+            .declareProperty(versionProp);
     }
 
     public ValueArray<TopicLeader> topicLeaders()
@@ -50,4 +61,31 @@ public class Topology extends UnpackedObject
         return brokersProp;
     }
 
+    public long getVersion()
+    {
+        return versionProp.getValue();
+    }
+
+    public Topology setVersion(final long version)
+    {
+        versionProp.setValue(version);
+        return this;
+    }
+
+    /**
+     * Sets the version to the checksum of the topic leaders and brokers.
+     */
+    public Topology updateVersion()
+    {
+        setVersion(0L);
+
+        final byte[] content = new byte[getLength()];
+        write(new UnsafeBuffer(content), 0);
+
+        final CRC32 checksum = new CRC32();
+        checksum.update(content, 0, content.length);
+
+        return setVersion(checksum.getValue());
+    }
+
 }
@@ -46,7 +46,6 @@ import io.zeebe.logstreams.impl.log.fs.FsLogStorage;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.raft.Raft;
-import io.zeebe.raft.RaftPersistentStorage;
 import io.zeebe.raft.state.RaftState;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.servicecontainer.ServiceName;
@@ -141,7 +140,7 @@ public class ClusterManager implements Actor
                 if (logStream == null)
                 {
                     final String directory = storage.getLogDirectory();
-                    logStream = logStreamManager.createLogStream(topicName, partitionId, directory);
+                    logStream = logStreamManager.createLogStream(topicName, partitionId, directory, storage.getLogSegmentSize());
                 }
 
                 storage.setLogStream(logStream);
@@ -241,6 +240,7 @@ public class ClusterManager implements Actor
             .topicName(logStream.getTopicName())
             .partitionId(logStream.getPartitionId())
             .term(raft.getTerm())
+            .logSegmentSize(getLogSegmentSize(logStream))
             .members(members);
 
         LOG.debug("Send invitation request to {} for partition {} in term {}", peer.managementEndpoint(), logStream.getPartitionId(), raft.getTerm());
@@ -322,6 +322,7 @@ public class ClusterManager implements Actor
         storage
             .setLogStream(logStream)
             .setLogDirectory(path)
+            .setLogSegmentSize(getLogSegmentSize(logStream))
             .save();
 
         createRaft(socketAddress, logStream, members, storage);
@@ -331,7 +332,7 @@ public class ClusterManager implements Actor
             final SocketAddress socketAddress,
             final LogStream logStream,
             final List<SocketAddress> members,
-            final RaftPersistentStorage persistentStorage)
+            final RaftPersistentFileStorage persistentStorage)
     {
         final RaftService raftService = new RaftService(socketAddress, logStream, members, persistentStorage);
 
@@ -350,20 +351,29 @@ public class ClusterManager implements Actor
         return logStreamsManager.hasLogStream(partitionId);
     }
 
+    protected int getLogSegmentSize(final LogStream logStream)
+    {
+        final FsLogStorage logStorage = (FsLogStorage) logStream.getLogStorage();
+        return logStorage.getConfig().getSegmentSize();
+    }
+
     /**
      * Creates log stream and sets up raft service to participate in raft group
      */
     protected void createPartition(DirectBuffer topicName, int partitionId)
     {
-        createPartition(topicName, partitionId, Collections.emptyList());
+        createPartition(topicName, partitionId, -1, Collections.emptyList());
     }
 
     /**
      * Creates log stream and sets up raft service to participate in raft group
+     *
+     * @param logSegmentSize the log segment size in bytes, or a value <code>&lt;= 0</code>
+     *   to use the configured default log segment size
      */
-    protected void createPartition(DirectBuffer topicName, int partitionId, List<SocketAddress> members)
+    protected void createPartition(DirectBuffer topicName, int partitionId, int logSegmentSize, List<SocketAddress> members)
     {
-        final LogStream logStream = logStreamsManager.createLogStream(topicName, partitionId);
+        final LogStream logStream = logStreamsManager.createLogStream(topicName, partitionId, logSegmentSize);
 
         final SocketAddress socketAddress = context.getLocalPeer().replicationEndpoint();
         createRaft(socketAddress, logStream, members);
@@ -385,7 +395,9 @@ public class ClusterManager implements Actor
         final DirectBuffer topicName = invitationRequest.topicName();
         final int partitionId = invitationRequest.partitionId();
 
-        createPartition(topicName, partitionId, new ArrayList<>(invitationRequest.members()));
+        final int logSegmentSize = invitationRequest.logSegmentSize();
+
+        createPartition(topicName, partitionId, logSegmentSize, new ArrayList<>(invitationRequest.members()));
 
         invitationResponse.reset();
         response.reset()
@@ -410,7 +422,7 @@ public class ClusterManager implements Actor
         if (!partitionExists(partitionId))
         {
             LOG.debug("Creating partition {}", createPartitionMessage.getPartitionId());
-            createPartition(createPartitionMessage.getTopicName(), partitionId);
+            createPartition(createPartitionMessage.getTopicName(), partitionId, createPartitionMessage.getLogSegmentSize(), Collections.emptyList());
         }
         else
         {
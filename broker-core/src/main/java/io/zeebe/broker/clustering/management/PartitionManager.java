@@ -27,7 +27,11 @@ import io.zeebe.transport.SocketAddress;
 public interface PartitionManager
 {
 
-    boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId);
+    /**
+     * @param logSegmentSize the log segment size of the partition in bytes, or a value
+     *   <code>&lt;= 0</code> to use the default log segment size of the remote broker
+     */
+    boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId, int logSegmentSize);
 
     Iterator<Member> getKnownMembers();
 
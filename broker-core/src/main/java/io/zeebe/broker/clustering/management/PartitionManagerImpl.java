@@ -53,12 +53,13 @@ public class PartitionManagerImpl implements PartitionManager
     }
 
     @Override
-    public boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId)
+    public boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId, int logSegmentSize)
     {
         final DirectBuffer nameBuffer = BufferUtil.cloneBuffer(topicName);
 
         messageWriter
             .partitionId(partitionId)
+            .logSegmentSize(logSegmentSize)
             .topicName(nameBuffer);
 
         final RemoteAddress remoteAddress = transport.registerRemoteAddress(remote);
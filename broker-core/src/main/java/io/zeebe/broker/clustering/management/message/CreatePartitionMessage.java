@@ -39,6 +39,7 @@ public class CreatePartitionMessage implements BufferReader, BufferWriter
 
     protected DirectBuffer topicName = new UnsafeBuffer(0, 0);
     protected int partitionId = CreatePartitionMessageEncoder.partitionIdNullValue();
+    protected int logSegmentSize = CreatePartitionMessageEncoder.logSegmentSizeNullValue();
 
     @Override
     public int getLength()
@@ -61,6 +62,12 @@ public class CreatePartitionMessage implements BufferReader, BufferWriter
         return this;
     }
 
+    public CreatePartitionMessage logSegmentSize(int logSegmentSize)
+    {
+        this.logSegmentSize = logSegmentSize;
+        return this;
+    }
+
     public DirectBuffer getTopicName()
     {
         return topicName;
@@ -71,6 +78,11 @@ public class CreatePartitionMessage implements BufferReader, BufferWriter
         return partitionId;
     }
 
+    public int getLogSegmentSize()
+    {
+        return logSegmentSize;
+    }
+
     @Override
     public void write(MutableDirectBuffer buffer, int offset)
     {
@@ -82,6 +94,7 @@ public class CreatePartitionMessage implements BufferReader, BufferWriter
 
         bodyEncoder.wrap(buffer, offset + headerEncoder.encodedLength())
             .partitionId(partitionId)
+            .logSegmentSize(logSegmentSize)
             .putTopicName(topicName, 0, topicName.capacity());
     }
 
@@ -98,6 +111,7 @@ public class CreatePartitionMessage implements BufferReader, BufferWriter
                 headerDecoder.version());
 
         partitionId = bodyDecoder.partitionId();
+        logSegmentSize = bodyDecoder.logSegmentSize();
 
         offset += headerDecoder.blockLength();
 
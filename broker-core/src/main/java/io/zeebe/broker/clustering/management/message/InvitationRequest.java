@@ -17,6 +17,7 @@
  */
 package io.zeebe.broker.clustering.management.message;
 
+import static io.zeebe.clustering.management.InvitationRequestEncoder.logSegmentSizeNullValue;
 import static io.zeebe.clustering.management.InvitationRequestEncoder.partitionIdNullValue;
 import static io.zeebe.clustering.management.InvitationRequestEncoder.termNullValue;
 import static io.zeebe.clustering.management.InvitationRequestEncoder.topicNameHeaderLength;
@@ -53,6 +54,7 @@ public class InvitationRequest implements BufferWriter, BufferReader
     protected DirectBuffer topicName = new UnsafeBuffer(0, 0);
     protected int partitionId = partitionIdNullValue();
     protected int term = termNullValue();
+    protected int logSegmentSize = logSegmentSizeNullValue();
     protected List<SocketAddress> members = new CopyOnWriteArrayList<>();
 
     public int partitionId()
@@ -88,6 +90,17 @@ public class InvitationRequest implements BufferWriter, BufferReader
         return this;
     }
 
+    public int logSegmentSize()
+    {
+        return logSegmentSize;
+    }
+
+    public InvitationRequest logSegmentSize(final int logSegmentSize)
+    {
+        this.logSegmentSize = logSegmentSize;
+        return this;
+    }
+
     public List<SocketAddress> members()
     {
         return members;
@@ -140,6 +153,7 @@ public class InvitationRequest implements BufferWriter, BufferReader
         final MembersEncoder encoder = bodyEncoder.wrap(buffer, offset)
             .partitionId(partitionId)
             .term(term)
+            .logSegmentSize(logSegmentSize)
             .membersCount(size);
 
         for (int i = 0; i < size; i++)
@@ -166,6 +180,7 @@ public class InvitationRequest implements BufferWriter, BufferReader
 
         partitionId = bodyDecoder.partitionId();
         term = bodyDecoder.term();
+        logSegmentSize = bodyDecoder.logSegmentSize();
 
         members.clear();
 
@@ -201,6 +216,7 @@ public class InvitationRequest implements BufferWriter, BufferReader
         topicName.wrap(0, 0);
         partitionId = partitionIdNullValue();
         term = termNullValue();
+        logSegmentSize = logSegmentSizeNullValue();
         members.clear();
     }
 
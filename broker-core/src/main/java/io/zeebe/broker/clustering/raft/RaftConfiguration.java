@@ -42,6 +42,7 @@ public class RaftConfiguration extends UnpackedObject
     protected StringProperty topicNameProp = new StringProperty("topicName", "");
     protected IntegerProperty partitionIdProp = new IntegerProperty("partitionId", -1);
     protected StringProperty logDirectoryProp = new StringProperty("logDirectory", "");
+    protected IntegerProperty logSegmentSizeProp = new IntegerProperty("logSegmentSize", -1);
     protected IntegerProperty termProp = new IntegerProperty("term", 0);
     protected StringProperty votedForHostProp = new StringProperty("votedForHost", "");
     protected IntegerProperty votedForPortProp = new IntegerProperty("votedForPort", 0);
@@ -56,6 +57,7 @@ public class RaftConfiguration extends UnpackedObject
         declareProperty(partitionIdProp);
         declareProperty(topicNameProp);
         declareProperty(logDirectoryProp);
+        declareProperty(logSegmentSizeProp);
         declareProperty(termProp);
         declareProperty(votedForHostProp);
         declareProperty(votedForPortProp);
@@ -94,6 +96,16 @@ public class RaftConfiguration extends UnpackedObject
         logDirectoryProp.setValue(logDirectory);
     }
 
+    public int getLogSegmentSize()
+    {
+        return logSegmentSizeProp.getValue();
+    }
+
+    public void setLogSegmentSize(final int logSegmentSize)
+    {
+        logSegmentSizeProp.setValue(logSegmentSize);
+    }
+
     public int getTerm()
     {
         return termProp.getValue();
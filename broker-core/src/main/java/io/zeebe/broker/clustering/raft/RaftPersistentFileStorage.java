@@ -17,31 +17,28 @@
  */
 package io.zeebe.broker.clustering.raft;
 
-import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-
 import java.io.*;
-import java.nio.file.*;
 import java.util.*;
 
+import io.zeebe.broker.util.DoubleBufferedMappedFile;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.raft.RaftPersistentStorage;
 import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.CloseableSilently;
 import io.zeebe.util.StreamUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-public class RaftPersistentFileStorage implements RaftPersistentStorage
+public class RaftPersistentFileStorage implements RaftPersistentStorage, CloseableSilently
 {
+    private static final int INITIAL_CAPACITY = 4 * 1024;
 
     private final RaftConfiguration configuration = new RaftConfiguration();
 
 
     private final File file;
-    private final File tmpFile;
-    private final Path path;
-    private final Path tmpPath;
+    private DoubleBufferedMappedFile mappedFile;
 
     private final MutableDirectBuffer buffer = new UnsafeBuffer(0, 0);
 
@@ -51,9 +48,6 @@ public class RaftPersistentFileStorage implements RaftPersistentStorage
     public RaftPersistentFileStorage(final String filename)
     {
         file = new File(filename);
-        tmpFile = new File(filename + ".tmp");
-        path = Paths.get(filename);
-        tmpPath = Paths.get(filename + ".tmp");
 
         load();
     }
@@ -142,68 +136,96 @@ public class RaftPersistentFileStorage implements RaftPersistentStorage
 
     private void load()
     {
-        if (file.exists())
+        if (DoubleBufferedMappedFile.isMappedFile(file))
         {
-            final long length = file.length();
-            if (length > buffer.capacity())
-            {
-                allocateBuffer((int) length);
-            }
+            mappedFile = new DoubleBufferedMappedFile(file, INITIAL_CAPACITY);
 
-            try (InputStream is = new FileInputStream(file))
+            final DirectBuffer data = mappedFile.read();
+            if (data != null)
             {
-                StreamUtil.read(is, buffer.byteArray());
-            }
-            catch (final IOException e)
-            {
-                throw new RuntimeException("Unable to read raft storage", e);
+                allocateBuffer(data.capacity());
+                data.getBytes(0, buffer, 0, data.capacity());
+
+                configuration.wrap(buffer);
+                configuration.getVotedFor(votedFor);
             }
+        }
+        else if (file.exists())
+        {
+            loadPreviousFormat();
+
+            // replace the file by the mapped one without truncating it first
+            final int length = writeConfiguration();
+            DoubleBufferedMappedFile.replace(file, INITIAL_CAPACITY, buffer, 0, length);
 
-            configuration.wrap(buffer);
-            configuration.getVotedFor(votedFor);
+            mappedFile = new DoubleBufferedMappedFile(file, INITIAL_CAPACITY);
+        }
+        else
+        {
+            mappedFile = new DoubleBufferedMappedFile(file, INITIAL_CAPACITY);
         }
     }
 
-    @Override
-    public RaftPersistentFileStorage save()
+    /**
+     * Reads the storage which is written by a previous version of the broker
+     * as plain msgpack file.
+     */
+    private void loadPreviousFormat()
     {
-        final int length = configuration.getEncodedLength();
-
+        final long length = file.length();
         if (length > buffer.capacity())
         {
-            allocateBuffer(length);
+            allocateBuffer((int) length);
         }
 
-        configuration.write(buffer, 0);
-
-        try (FileOutputStream os = new FileOutputStream(tmpFile))
+        try (InputStream is = new FileInputStream(file))
         {
-            os.write(buffer.byteArray(), 0, length);
-            os.flush();
+            StreamUtil.read(is, buffer.byteArray());
         }
         catch (final IOException e)
         {
-            throw new RuntimeException("Unable to write raft storage", e);
+            throw new RuntimeException("Unable to read raft storage", e);
         }
 
-        try
-        {
-            try
-            {
-                Files.move(tmpPath, path, ATOMIC_MOVE);
-            }
-            catch (final Exception e)
-            {
-                // failed with atomic move, lets try again with normal replace move
-                Files.move(tmpPath, path, REPLACE_EXISTING);
-            }
-        }
-        catch (final IOException e)
+        configuration.wrap(buffer);
+        configuration.getVotedFor(votedFor);
+    }
+
+    @Override
+    public RaftPersistentFileStorage save()
+    {
+        final int length = writeConfiguration();
+
+        // writes only the changed bytes to the slot which doesn't contain the latest configuration
+        mappedFile.write(buffer, 0, length);
+
+        return this;
+    }
+
+    /**
+     * Unmaps the storage file. The storage must not be used afterwards.
+     */
+    @Override
+    public void close()
+    {
+        mappedFile.close();
+    }
+
+    /**
+     * @return the length of the configuration which is written to the buffer
+     */
+    private int writeConfiguration()
+    {
+        final int length = configuration.getEncodedLength();
+
+        if (length > buffer.capacity())
         {
-            throw new RuntimeException("Unable to replace raft storage", e);
+            allocateBuffer(length);
         }
 
-        return this;
+        configuration.write(buffer, 0);
+
+        return length;
     }
 
     private void allocateBuffer(final int capacity)
@@ -226,6 +248,11 @@ public class RaftPersistentFileStorage implements RaftPersistentStorage
         return configuration.getLogDirectory();
     }
 
+    public int getLogSegmentSize()
+    {
+        return configuration.getLogSegmentSize();
+    }
+
     public RaftPersistentFileStorage setLogStream(final LogStream logStream)
     {
         this.logStream = logStream;
@@ -244,4 +271,11 @@ public class RaftPersistentFileStorage implements RaftPersistentStorage
 
         return this;
     }
+
+    public RaftPersistentFileStorage setLogSegmentSize(final int logSegmentSize)
+    {
+        configuration.setLogSegmentSize(logSegmentSize);
+
+        return this;
+    }
 }
@@ -22,7 +22,6 @@ import java.util.concurrent.CompletableFuture;
 
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.raft.Raft;
-import io.zeebe.raft.RaftPersistentStorage;
 import io.zeebe.servicecontainer.Injector;
 import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceStartContext;
@@ -39,7 +38,7 @@ public class RaftService implements Service<Raft>
     private final SocketAddress socketAddress;
     private final LogStream logStream;
     private final List<SocketAddress> members;
-    private final RaftPersistentStorage persistentStorage;
+    private final RaftPersistentFileStorage persistentStorage;
     private Injector<ActorScheduler> actorSchedulerInjector = new Injector<>();
     private Injector<BufferingServerTransport> serverTransportInjector = new Injector<>();
     private Injector<ClientTransport> clientTransportInjector = new Injector<>();
@@ -47,7 +46,7 @@ public class RaftService implements Service<Raft>
     private Raft raft;
     private ActorReference actorReference;
 
-    public RaftService(final SocketAddress socketAddress, final LogStream logStream, final List<SocketAddress> members, final RaftPersistentStorage persistentStorage)
+    public RaftService(final SocketAddress socketAddress, final LogStream logStream, final List<SocketAddress> members, final RaftPersistentFileStorage persistentStorage)
     {
         this.socketAddress = socketAddress;
         this.logStream = logStream;
@@ -82,7 +81,9 @@ public class RaftService implements Service<Raft>
         raft.close();
 
         final CompletableFuture<Void> stopFuture =
-            logStream.closeLogStreamController().thenCompose(v -> logStream.closeAsync());
+            logStream.closeLogStreamController()
+                .thenCompose(v -> logStream.closeAsync())
+                .thenRun(persistentStorage::close);
 
         stopContext.async(stopFuture);
     }
@@ -0,0 +1,191 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.event.processor;
+
+import java.util.Arrays;
+
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongLongConsumer;
+
+import io.zeebe.broker.incident.data.IncidentEvent;
+import io.zeebe.broker.task.data.TaskEvent;
+import io.zeebe.broker.workflow.data.WorkflowInstanceEvent;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.BrokerEventMetadata;
+
+/**
+ * Indexes the log up to a position and keeps the position of the latest event of each
+ *
+ * <li>running workflow instance and active activity instance
+ * <li>open task
+ * <li>open incident
+ *
+ * <p>The events at these positions describe the state of the partition at the indexed position.
+ */
+public class StateSnapshotIndex
+{
+    protected final Long2LongHashMap workflowInstancePositions = new Long2LongHashMap(-1L);
+    protected final Long2LongHashMap taskPositions = new Long2LongHashMap(-1L);
+    protected final Long2LongHashMap incidentPositions = new Long2LongHashMap(-1L);
+
+    protected final BrokerEventMetadata metadata = new BrokerEventMetadata();
+    protected final WorkflowInstanceEvent workflowInstanceEvent = new WorkflowInstanceEvent();
+    protected final TaskEvent taskEvent = new TaskEvent();
+    protected final IncidentEvent incidentEvent = new IncidentEvent();
+
+    public void index(LoggedEvent event)
+    {
+        metadata.reset();
+        event.readMetadata(metadata);
+
+        switch (metadata.getEventType())
+        {
+            case WORKFLOW_INSTANCE_EVENT:
+                indexWorkflowInstanceEvent(event);
+                break;
+            case TASK_EVENT:
+                indexTaskEvent(event);
+                break;
+            case INCIDENT_EVENT:
+                indexIncidentEvent(event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    protected void indexWorkflowInstanceEvent(LoggedEvent event)
+    {
+        workflowInstanceEvent.reset();
+        event.readValue(workflowInstanceEvent);
+
+        final long key = event.getKey();
+
+        switch (workflowInstanceEvent.getState())
+        {
+            case WORKFLOW_INSTANCE_CREATED:
+            case ACTIVITY_READY:
+            case ACTIVITY_ACTIVATED:
+            case ACTIVITY_COMPLETING:
+                workflowInstancePositions.put(key, event.getPosition());
+                break;
+
+            case PAYLOAD_UPDATED:
+                if (workflowInstancePositions.containsKey(key))
+                {
+                    workflowInstancePositions.put(key, event.getPosition());
+                }
+                break;
+
+            case ACTIVITY_COMPLETED:
+            case ACTIVITY_TERMINATED:
+            case WORKFLOW_INSTANCE_COMPLETED:
+            case WORKFLOW_INSTANCE_CANCELED:
+                workflowInstancePositions.remove(key);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    protected void indexTaskEvent(LoggedEvent event)
+    {
+        taskEvent.reset();
+        event.readValue(taskEvent);
+
+        final long key = event.getKey();
+
+        switch (taskEvent.getState())
+        {
+            case CREATED:
+            case LOCKED:
+            case LOCK_EXPIRED:
+            case FAILED:
+            case RETRIES_UPDATED:
+                taskPositions.put(key, event.getPosition());
+                break;
+
+            case COMPLETED:
+            case CANCELED:
+                taskPositions.remove(key);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    protected void indexIncidentEvent(LoggedEvent event)
+    {
+        incidentEvent.reset();
+        event.readValue(incidentEvent);
+
+        final long key = event.getKey();
+
+        switch (incidentEvent.getState())
+        {
+            case CREATED:
+                incidentPositions.put(key, event.getPosition());
+                break;
+
+            case RESOLVED:
+            case DELETED:
+                incidentPositions.remove(key);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return the positions of the indexed events in ascending order
+     */
+    public long[] getPositions()
+    {
+        final long[] positions = new long[size()];
+        final int[] index = new int[1];
+
+        final LongLongConsumer collector = (key, position) ->
+        {
+            positions[index[0]] = position;
+            index[0] += 1;
+        };
+
+        workflowInstancePositions.longForEach(collector);
+        taskPositions.longForEach(collector);
+        incidentPositions.longForEach(collector);
+
+        Arrays.sort(positions);
+
+        return positions;
+    }
+
+    public int size()
+    {
+        return workflowInstancePositions.size() + taskPositions.size() + incidentPositions.size();
+    }
+
+    public void clear()
+    {
+        workflowInstancePositions.clear();
+        taskPositions.clear();
+        incidentPositions.clear();
+    }
+}
@@ -136,10 +136,15 @@ public class SubscribeProcessor implements EventProcessor
                     subscriberEvent.getStartPosition(),
                     subscriberEvent.getForceStart());
 
+            // a subscription which can resume at its acknowledged position doesn't need a snapshot
+            final boolean startWithSnapshot = subscriberEvent.getStartWithSnapshot()
+                    && !manager.hasAcknowledgedPosition(subscriptionName, subscriberEvent.getForceStart());
+
             final CompletableFuture<TopicSubscriptionPushProcessor> processorFuture = manager.openPushProcessorAsync(
                     metadata.getRequestStreamId(),
                     event.getKey(),
                     resumePosition,
+                    startWithSnapshot,
                     subscriptionName,
                     subscriberEvent.getPrefetchCapacity());
 
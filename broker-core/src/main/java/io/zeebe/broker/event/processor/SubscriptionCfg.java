@@ -21,6 +21,13 @@ import io.zeebe.broker.system.DirectoryConfiguration;
 
 public class SubscriptionCfg extends DirectoryConfiguration
 {
+    /**
+     * The max number of workflow instances, tasks and incidents which a subscription indexes
+     * to push the state snapshot of a partition. If the partition contains more, the subscription
+     * replays the log from the first event instead.
+     */
+    public int maxSnapshotIndexSize = 100_000;
+
     @Override
     protected String componentDirectoryName()
     {
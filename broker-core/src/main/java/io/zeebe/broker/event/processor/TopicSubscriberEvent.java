@@ -35,6 +35,9 @@ public class TopicSubscriberEvent extends UnpackedObject
 
     // true if startPosition should override any previously acknowledged position
     protected BooleanProperty forceStartProp = new BooleanProperty("forceStart", false);
+
+    // true if the subscription should start with a snapshot of the current state instead of the start position
+    protected BooleanProperty startWithSnapshotProp = new BooleanProperty("startWithSnapshot", false);
     protected EnumProperty<TopicSubscriberState> stateProp = new EnumProperty<>("state", TopicSubscriberState.class);
 
     public TopicSubscriberEvent()
@@ -44,7 +47,8 @@ public class TopicSubscriberEvent extends UnpackedObject
             .declareProperty(startPositionProp)
             .declareProperty(nameProp)
             .declareProperty(prefetchCapacityProp)
-            .declareProperty(forceStartProp);
+            .declareProperty(forceStartProp)
+            .declareProperty(startWithSnapshotProp);
     }
 
     public TopicSubscriberEvent setStartPosition(long startPosition)
@@ -91,6 +95,11 @@ public class TopicSubscriberEvent extends UnpackedObject
         return forceStartProp.getValue();
     }
 
+    public boolean getStartWithSnapshot()
+    {
+        return startWithSnapshotProp.getValue();
+    }
+
     public TopicSubscriberState getState()
     {
         return stateProp.getValue();
@@ -17,9 +17,6 @@
  */
 package io.zeebe.broker.event.processor;
 
-import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
-import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
-
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -67,6 +64,7 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor
     protected final CommandResponseWriter responseWriter;
     protected final Supplier<SubscribedEventWriter> eventWriterFactory;
     protected final ServiceStartContext serviceContext;
+    protected final int maxSnapshotIndexSize;
     protected final Bytes2LongZbMap ackMap;
 
     protected DeferredCommandContext cmdContext;
@@ -85,13 +83,15 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor
             CommandResponseWriter responseWriter,
             ErrorResponseWriter errorWriter,
             Supplier<SubscribedEventWriter> eventWriterFactory,
-            ServiceStartContext serviceContext)
+            ServiceStartContext serviceContext,
+            int maxSnapshotIndexSize)
     {
         this.streamServiceName = streamServiceName;
         this.responseWriter = responseWriter;
         this.errorWriter = errorWriter;
         this.eventWriterFactory = eventWriterFactory;
         this.serviceContext = serviceContext;
+        this.maxSnapshotIndexSize = maxSnapshotIndexSize;
         this.ackMap = new Bytes2LongZbMap(MAXIMUM_SUBSCRIPTION_NAME_LENGTH);
         this.snapshotResource = new ZbMapSnapshotSupport<>(ackMap);
     }
@@ -234,10 +234,19 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor
         }
     }
 
+    /**
+     * @return true if the subscription is resumed at its last acknowledged position
+     */
+    public boolean hasAcknowledgedPosition(DirectBuffer subscriptionName, boolean forceStart)
+    {
+        return !forceStart && ackMap.get(subscriptionName, 0, subscriptionName.capacity(), -1L) >= 0;
+    }
+
     public CompletableFuture<TopicSubscriptionPushProcessor> openPushProcessorAsync(
             int clientChannelId,
             long subscriberKey,
             long resumePosition,
+            boolean startWithSnapshot,
             DirectBuffer subscriptionName,
             int prefetchCapacity)
     {
@@ -245,9 +254,12 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor
                 clientChannelId,
                 subscriberKey,
                 resumePosition,
+                startWithSnapshot,
                 subscriptionName,
                 prefetchCapacity,
-                eventWriterFactory.get());
+                eventWriterFactory.get())
+            .maxSnapshotIndexSize(maxSnapshotIndexSize)
+            .failureHandler(p -> closePushProcessorAsync(p.getSubscriptionId()));
 
         final ServiceName<StreamProcessorController> serviceName = TopicSubscriptionServiceNames.subscriptionPushServiceName(streamServiceName.getName(), processor.getNameAsString());
 
@@ -258,10 +270,8 @@ public class TopicSubscriptionManagementProcessor implements StreamProcessor
             .eventFilter(TopicSubscriptionPushProcessor.eventFilter())
             .readOnly(true);
 
-        return serviceContext.createService(serviceName, streamProcessorService)
+        return streamProcessorService.createService(serviceContext, serviceName)
             .dependency(streamServiceName, streamProcessorService.getLogStreamInjector())
-            .dependency(SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-            .dependency(ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
             .install()
             .thenApply((v) -> processor);
     }
@@ -20,10 +20,13 @@ package io.zeebe.broker.event.processor;
 import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+import io.zeebe.broker.Loggers;
 import io.zeebe.broker.logstreams.processor.MetadataFilter;
 import io.zeebe.broker.logstreams.processor.NoopSnapshotSupport;
 import io.zeebe.broker.transport.clientapi.SubscribedEventWriter;
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -36,13 +39,21 @@ import io.zeebe.protocol.clientapi.SubscriptionType;
 import io.zeebe.protocol.impl.BrokerEventMetadata;
 import io.zeebe.util.collection.LongRingBuffer;
 import org.agrona.DirectBuffer;
+import org.slf4j.Logger;
 
 public class TopicSubscriptionPushProcessor implements StreamProcessor, EventProcessor
 {
+    protected static final Logger LOG = Loggers.SERVICES_LOGGER;
+
+    /**
+     * Max number of events which are indexed per invocation while creating the state snapshot
+     */
+    protected static final int SNAPSHOT_INDEX_BATCH_SIZE = 1_000;
 
     protected final BrokerEventMetadata metadata = new BrokerEventMetadata();
 
     protected LoggedEvent event;
+    protected LogStreamReader logReader;
 
     protected final int clientStreamId;
     protected final long subscriberKey;
@@ -58,6 +69,19 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
     protected LongRingBuffer pendingAcks;
     protected AtomicBoolean enabled;
 
+    // if true, the state of the partition is pushed before the live events
+    protected final boolean startWithSnapshot;
+    protected long snapshotPosition = -1L;
+    protected LogStreamReader snapshotReader;
+    protected StateSnapshotIndex snapshotIndex;
+    protected int maxSnapshotIndexSize = Integer.MAX_VALUE;
+    protected long[] snapshotEventPositions;
+    protected int nextSnapshotEvent;
+
+    // if true, the subscription cannot push any more events and waits to be closed
+    protected boolean failed;
+    protected Consumer<TopicSubscriptionPushProcessor> failureHandler;
+
     public TopicSubscriptionPushProcessor(
             int clientStreamId,
             long subscriberKey,
@@ -65,8 +89,27 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
             DirectBuffer name,
             int prefetchCapacity,
             SubscribedEventWriter channelWriter)
+    {
+        this(clientStreamId, subscriberKey, startPosition, false, name, prefetchCapacity, channelWriter);
+    }
+
+    /**
+     * @param startWithSnapshot if true, the subscription starts at the tail of the log and pushes
+     *   the latest events of all running workflow instances, open tasks and incidents first (see {@link StateSnapshotIndex}).
+     *   The start position is ignored in this case. If the state exceeds the max snapshot index size,
+     *   the subscription replays the log from the first event instead.
+     */
+    public TopicSubscriptionPushProcessor(
+            int clientStreamId,
+            long subscriberKey,
+            long startPosition,
+            boolean startWithSnapshot,
+            DirectBuffer name,
+            int prefetchCapacity,
+            SubscribedEventWriter channelWriter)
     {
         this.channelWriter = channelWriter;
+        this.startWithSnapshot = startWithSnapshot;
         this.clientStreamId = clientStreamId;
         this.subscriberKey = subscriberKey;
         this.startPosition = startPosition;
@@ -81,16 +124,48 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
         }
     }
 
+    /**
+     * @param failureHandler invoked on the processor's thread if the subscription fails;
+     *   it is expected to close this subscription
+     */
+    public TopicSubscriptionPushProcessor failureHandler(Consumer<TopicSubscriptionPushProcessor> failureHandler)
+    {
+        this.failureHandler = failureHandler;
+        return this;
+    }
+
+    /**
+     * @param maxSnapshotIndexSize the max number of workflow instances, tasks and incidents which are indexed
+     *   for the state snapshot; if the partition contains more, the subscription replays the log from the first event instead
+     */
+    public TopicSubscriptionPushProcessor maxSnapshotIndexSize(int maxSnapshotIndexSize)
+    {
+        this.maxSnapshotIndexSize = maxSnapshotIndexSize;
+        return this;
+    }
+
     @Override
     public void onOpen(StreamProcessorContext context)
     {
-
-        final LogStreamReader logReader = context.getLogStreamReader();
+        logReader = context.getLogStreamReader();
 
         final LogStream logStream = context.getLogStream();
         this.logStreamPartitionId = logStream.getPartitionId();
 
         setToStartPosition(logReader);
+
+        if (startWithSnapshot && snapshotPosition >= 0)
+        {
+            snapshotIndex = new StateSnapshotIndex();
+            snapshotReader = new BufferedLogStreamReader(logStream);
+            snapshotReader.seekToFirstEvent();
+        }
+    }
+
+    @Override
+    public void onClose()
+    {
+        releaseSnapshot();
     }
 
     /**
@@ -103,7 +178,7 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
 
     protected void setToStartPosition(LogStreamReader logReader)
     {
-        if (startPosition >= 0)
+        if (startPosition >= 0 && !startWithSnapshot)
         {
             logReader.seek(startPosition);
         }
@@ -113,7 +188,7 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
 
             if (logReader.hasNext())
             {
-                logReader.next();
+                snapshotPosition = logReader.next().getPosition();
             }
         }
 
@@ -140,6 +215,11 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
 
     @Override
     public boolean executeSideEffects()
+    {
+        return pushEvent(event);
+    }
+
+    protected boolean pushEvent(LoggedEvent event)
     {
         event.readMetadata(metadata);
 
@@ -168,7 +248,7 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
     @Override
     public boolean isSuspended()
     {
-        if (!enabled.get())
+        if (!enabled.get() || failed)
         {
             return true;
         }
@@ -177,14 +257,136 @@ public class TopicSubscriptionPushProcessor implements StreamProcessor, EventPro
         {
             // first, process any ACKs if there are any pending
             pendingAcks.consume((ackedPosition) -> pendingEvents.consumeAscendingUntilInclusive(ackedPosition));
-            return pendingEvents.isSaturated();
+        }
+
+        if (isPushingSnapshot())
+        {
+            // live events are pushed after the snapshot
+            pushSnapshot();
+            return true;
         }
         else
         {
-            return false;
+            return recordsPendingEvents() && pendingEvents.isSaturated();
         }
     }
 
+    protected boolean isPushingSnapshot()
+    {
+        return snapshotReader != null;
+    }
+
+    /**
+     * Indexes the log up to the start position in batches. Then, pushes the indexed events
+     * as long as the client can receive them.
+     */
+    protected void pushSnapshot()
+    {
+        if (snapshotEventPositions == null)
+        {
+            indexSnapshot();
+        }
+        else
+        {
+            while (nextSnapshotEvent < snapshotEventPositions.length
+                    && !(recordsPendingEvents() && pendingEvents.isSaturated()))
+            {
+                final long position = snapshotEventPositions[nextSnapshotEvent];
+
+                if (!snapshotReader.seek(position) || !snapshotReader.hasNext())
+                {
+                    fail("Cannot find snapshot event at position " + position);
+                    return;
+                }
+
+                final boolean success = pushEvent(snapshotReader.next());
+                if (success)
+                {
+                    nextSnapshotEvent += 1;
+                }
+                else
+                {
+                    // try again on next invocation
+                    break;
+                }
+            }
+
+            if (nextSnapshotEvent >= snapshotEventPositions.length)
+            {
+                releaseSnapshot();
+            }
+        }
+    }
+
+    protected void fail(String reason)
+    {
+        LOG.warn("Closing topic subscription '{}': {}", nameString, reason);
+
+        releaseSnapshot();
+        failed = true;
+
+        if (failureHandler != null)
+        {
+            failureHandler.accept(this);
+        }
+    }
+
+    protected void indexSnapshot()
+    {
+        int indexedEvents = 0;
+        boolean isIndexed = false;
+
+        while (indexedEvents < SNAPSHOT_INDEX_BATCH_SIZE && !isIndexed && snapshotReader.hasNext())
+        {
+            final LoggedEvent snapshotEvent = snapshotReader.next();
+            snapshotIndex.index(snapshotEvent);
+
+            if (snapshotIndex.size() > maxSnapshotIndexSize)
+            {
+                replayInsteadOfSnapshot();
+                return;
+            }
+
+            isIndexed = snapshotEvent.getPosition() >= snapshotPosition;
+            indexedEvents += 1;
+        }
+
+        if (isIndexed)
+        {
+            snapshotEventPositions = snapshotIndex.getPositions();
+            nextSnapshotEvent = 0;
+
+            snapshotIndex.clear();
+        }
+    }
+
+    /**
+     * The state of the partition is too large to be indexed in memory. Pushes all events
+     * from the beginning of the log instead, so that the subscriber still receives the complete state.
+     */
+    protected void replayInsteadOfSnapshot()
+    {
+        LOG.info("State of partition {} exceeds {} entries; topic subscription '{}' replays the log instead of pushing a snapshot",
+                logStreamPartitionId, maxSnapshotIndexSize, nameString);
+
+        releaseSnapshot();
+
+        logReader.seekToFirstEvent();
+        startPosition = logReader.getPosition();
+    }
+
+    protected void releaseSnapshot()
+    {
+        if (snapshotReader != null)
+        {
+            snapshotReader.close();
+            snapshotReader = null;
+        }
+
+        snapshotIndex = null;
+        snapshotEventPositions = null;
+    }
+
     public int getChannelId()
     {
         return clientStreamId;
@@ -17,9 +17,6 @@
  */
 package io.zeebe.broker.event.processor;
 
-import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
-import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
-
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -123,7 +120,8 @@ public class TopicSubscriptionService implements Service<TopicSubscriptionServic
                 new CommandResponseWriter(serverOutput),
                 new ErrorResponseWriter(serverOutput),
                 () -> new SubscribedEventWriter(serverOutput),
-                serviceContext
+                serviceContext,
+                config.maxSnapshotIndexSize
                 );
 
             createStreamProcessorService(
@@ -151,10 +149,8 @@ public class TopicSubscriptionService implements Service<TopicSubscriptionServic
                 streamProcessor)
             .eventFilter(eventFilter);
 
-        return serviceContext.createService(processorName, streamProcessorService)
+        return streamProcessorService.createService(serviceContext, processorName)
             .dependency(logStreamName, streamProcessorService.getLogStreamInjector())
-            .dependency(SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-            .dependency(ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
             .install();
     }
 
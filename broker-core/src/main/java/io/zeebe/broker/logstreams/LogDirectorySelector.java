@@ -0,0 +1,146 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Assigns the log streams to the configured log directories. A new log stream is assigned
+ * to the directory with the fewest log streams which has enough usable space for at least
+ * one log segment. Ties are broken by the usable space.
+ */
+public class LogDirectorySelector
+{
+    protected final String[] directories;
+    protected final Path[] directoryPaths;
+    protected final int[] logStreamCounts;
+    protected final long minUsableSpace;
+
+    /**
+     * @param directories the configured log directories
+     * @param minUsableSpace the usable space in bytes a directory needs to be preferred
+     */
+    public LogDirectorySelector(String[] directories, long minUsableSpace)
+    {
+        this.directories = directories;
+        this.directoryPaths = new Path[directories.length];
+        this.logStreamCounts = new int[directories.length];
+        this.minUsableSpace = minUsableSpace;
+
+        for (int i = 0; i < directories.length; i++)
+        {
+            directoryPaths[i] = normalize(directories[i]);
+        }
+    }
+
+    /**
+     * @return the index of the directory to create a new log stream in.
+     *         Call {@link #assign(int)} when the log stream is created.
+     */
+    public int select()
+    {
+        int selected = -1;
+        long selectedUsableSpace = -1;
+        boolean selectedHasSpace = false;
+
+        for (int i = 0; i < directories.length; i++)
+        {
+            final long usableSpace = getUsableSpace(directories[i]);
+            final boolean hasSpace = usableSpace >= minUsableSpace;
+
+            boolean isBetter;
+            if (selected < 0)
+            {
+                isBetter = true;
+            }
+            else if (hasSpace != selectedHasSpace)
+            {
+                isBetter = hasSpace;
+            }
+            else if (logStreamCounts[i] != logStreamCounts[selected])
+            {
+                isBetter = logStreamCounts[i] < logStreamCounts[selected];
+            }
+            else
+            {
+                isBetter = usableSpace > selectedUsableSpace;
+            }
+
+            if (isBetter)
+            {
+                selected = i;
+                selectedUsableSpace = usableSpace;
+                selectedHasSpace = hasSpace;
+            }
+        }
+
+        return selected;
+    }
+
+    public void assign(int directoryIndex)
+    {
+        logStreamCounts[directoryIndex] += 1;
+    }
+
+    /**
+     * Counts an existing log stream (e.g. on recovery) for the configured directory it is located in.
+     */
+    public void assign(String logDirectory)
+    {
+        final Path logDirectoryPath = normalize(logDirectory);
+
+        for (int i = 0; i < directoryPaths.length; i++)
+        {
+            if (logDirectoryPath.startsWith(directoryPaths[i]))
+            {
+                assign(i);
+                return;
+            }
+        }
+    }
+
+    public String getDirectory(int directoryIndex)
+    {
+        return directories[directoryIndex];
+    }
+
+    public int getLogStreamCount(int directoryIndex)
+    {
+        return logStreamCounts[directoryIndex];
+    }
+
+    protected static Path normalize(String directory)
+    {
+        return Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    protected long getUsableSpace(String directory)
+    {
+        File file = new File(directory);
+
+        // the directory may not exist yet
+        while (file != null && !file.exists())
+        {
+            file = file.getParentFile();
+        }
+
+        return file != null ? file.getUsableSpace() : 0L;
+    }
+}
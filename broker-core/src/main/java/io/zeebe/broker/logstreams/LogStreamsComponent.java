@@ -18,11 +18,16 @@
 package io.zeebe.broker.logstreams;
 
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.LOG_STREAMS_MANAGER_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_POLICY_FACTORY_SERVICE;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_METRICS_SERVICE;
 import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
+import static io.zeebe.broker.system.SystemServiceNames.COUNTERS_MANAGER_SERVICE;
 
 import io.zeebe.broker.event.TopicSubscriptionServiceNames;
 import io.zeebe.broker.event.processor.TopicSubscriptionService;
+import io.zeebe.broker.logstreams.processor.SnapshotPolicyFactoryService;
+import io.zeebe.broker.logstreams.processor.StreamProcessorMetricsRegistryService;
 import io.zeebe.broker.system.Component;
 import io.zeebe.broker.system.SystemContext;
 import io.zeebe.broker.transport.TransportServiceNames;
@@ -42,6 +47,15 @@ public class LogStreamsComponent implements Component
         context.getServiceContainer().createService(SNAPSHOT_STORAGE_SERVICE, snapshotStorageService)
             .install();
 
+        final SnapshotPolicyFactoryService snapshotPolicyFactoryService = new SnapshotPolicyFactoryService(context.getConfigurationManager());
+        context.getServiceContainer().createService(SNAPSHOT_POLICY_FACTORY_SERVICE, snapshotPolicyFactoryService)
+            .install();
+
+        final StreamProcessorMetricsRegistryService metricsRegistryService = new StreamProcessorMetricsRegistryService();
+        context.getServiceContainer().createService(STREAM_PROCESSOR_METRICS_SERVICE, metricsRegistryService)
+            .dependency(COUNTERS_MANAGER_SERVICE, metricsRegistryService.getCountersInjector())
+            .install();
+
         final TopicSubscriptionService topicSubscriptionService = new TopicSubscriptionService(context.getConfigurationManager());
         context.getServiceContainer()
             .createService(TopicSubscriptionServiceNames.TOPIC_SUBSCRIPTION_SERVICE, topicSubscriptionService)
@@ -22,7 +22,6 @@ import static io.zeebe.util.EnsureUtil.ensureLessThanOrEqual;
 import static io.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import java.io.File;
-import java.util.Random;
 import java.util.function.Consumer;
 
 import org.agrona.DirectBuffer;
@@ -40,12 +39,14 @@ public class LogStreamsManager
     protected LogStreamsCfg logStreamsCfg;
     protected ActorScheduler actorScheduler;
     protected Int2ObjectHashMap<LogStream> logStreams;
+    protected LogDirectorySelector logDirectorySelector;
 
     public LogStreamsManager(final LogStreamsCfg logStreamsCfg, final ActorScheduler actorScheduler)
     {
         this.logStreamsCfg = logStreamsCfg;
         this.actorScheduler = actorScheduler;
         this.logStreams = new Int2ObjectHashMap<>();
+        this.logDirectorySelector = new LogDirectorySelector(logStreamsCfg.directories, getLogSegmentSize());
     }
 
     public void forEachLogStream(Consumer<LogStream> consumer)
@@ -72,6 +73,18 @@ public class LogStreamsManager
      * @return the newly created log stream
      */
     public LogStream createLogStream(final DirectBuffer topicName, final int partitionId)
+    {
+        return createLogStream(topicName, partitionId, -1);
+    }
+
+    /**
+     * Creates a new log stream with the given log segment size but does not open it.
+     *
+     * @param logSegmentSize the log segment size in bytes, uses the configured default log
+     *   segment size if the value is not greater than zero
+     * @return the newly created log stream
+     */
+    public LogStream createLogStream(final DirectBuffer topicName, final int partitionId, final int logSegmentSize)
     {
         ensureNotNullOrEmpty("topic name", topicName);
         ensureGreaterThanOrEqual("partition id", partitionId, 0);
@@ -83,49 +96,60 @@ public class LogStreamsManager
         final String logDirectory;
         final boolean deleteOnExit = false;
 
-        int assignedLogDirectory = 0;
         if (logStreamsCfg.directories.length == 0)
         {
             throw new RuntimeException(String.format("Cannot start log %s, no log directory provided.", logName));
         }
-        else if (logStreamsCfg.directories.length > 1)
-        {
-            assignedLogDirectory = new Random().nextInt(logStreamsCfg.directories.length - 1);
-        }
-        logDirectory = logStreamsCfg.directories[assignedLogDirectory] + File.separator + logName;
-
 
-        final int logSegmentSize = logStreamsCfg.defaultLogSegmentSize * 1024 * 1024;
+        final int assignedLogDirectory = logDirectorySelector.select();
+        logDirectory = logDirectorySelector.getDirectory(assignedLogDirectory) + File.separator + logName;
 
         final LogStream logStream = logStreamBuilder
             .deleteOnClose(deleteOnExit)
             .logDirectory(logDirectory)
             .actorScheduler(actorScheduler)
-            .logSegmentSize(logSegmentSize)
+            .logSegmentSize(getLogSegmentSize(logSegmentSize))
             .logStreamControllerDisabled(true)
             .build();
 
+        logDirectorySelector.assign(assignedLogDirectory);
         addLogStream(logStream);
 
         return logStream;
     }
 
     public LogStream createLogStream(final DirectBuffer topicName, final int partitionId, final String logDirectory)
+    {
+        return createLogStream(topicName, partitionId, logDirectory, -1);
+    }
+
+    public LogStream createLogStream(final DirectBuffer topicName, final int partitionId, final String logDirectory, final int logSegmentSize)
     {
         final LogStream logStream =
             LogStreams.createFsLogStream(topicName, partitionId)
                       .deleteOnClose(false)
                       .logDirectory(logDirectory)
                       .actorScheduler(actorScheduler)
-                      .logSegmentSize(logStreamsCfg.defaultLogSegmentSize * 1024 * 1024)
+                      .logSegmentSize(getLogSegmentSize(logSegmentSize))
                       .logStreamControllerDisabled(true)
                       .build();
 
+        logDirectorySelector.assign(logDirectory);
         addLogStream(logStream);
 
         return logStream;
     }
 
+    protected int getLogSegmentSize()
+    {
+        return logStreamsCfg.defaultLogSegmentSize * 1024 * 1024;
+    }
+
+    protected int getLogSegmentSize(final int logSegmentSize)
+    {
+        return logSegmentSize > 0 ? logSegmentSize : getLogSegmentSize();
+    }
+
     private void addLogStream(final LogStream logStream)
     {
         logStreams.put(logStream.getPartitionId(), logStream);
@@ -0,0 +1,59 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.cfg;
+
+public class SnapshotPolicyCfg
+{
+    public static final String TYPE_TIME = "time";
+    public static final String TYPE_EVENTS = "events";
+    public static final String TYPE_BYTES = "bytes";
+    public static final String TYPE_ADAPTIVE = "adaptive";
+
+    /**
+     * One of 'time', 'events', 'bytes' or 'adaptive'.
+     */
+    public String type = TYPE_TIME;
+
+    /**
+     * The period of the time-based policy and the maximum period
+     * between two snapshots of the adaptive policy.
+     */
+    public int periodInSeconds = 15 * 60;
+
+    /**
+     * The number of events after which a snapshot is created by the events policy.
+     */
+    public long eventCount = 1_000_000;
+
+    /**
+     * The number of bytes after which a snapshot is created by the bytes policy.
+     */
+    public long byteCount = 512L * 1024 * 1024;
+
+    /**
+     * The accumulated processing time after which a snapshot is created
+     * by the adaptive policy, i.e. a bound for the time to reprocess
+     * the events since the last snapshot on recovery.
+     */
+    public int maxRecoveryTimeInSeconds = 60;
+
+    /**
+     * The minimum period between two snapshots of the adaptive policy.
+     */
+    public int minPeriodInSeconds = 60;
+}
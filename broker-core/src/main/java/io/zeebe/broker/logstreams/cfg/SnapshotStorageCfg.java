@@ -17,10 +17,48 @@
  */
 package io.zeebe.broker.logstreams.cfg;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import io.zeebe.broker.logstreams.processor.SnapshotCompression;
 import io.zeebe.broker.system.DirectoryConfiguration;
 
 public class SnapshotStorageCfg extends DirectoryConfiguration
 {
+    /**
+     * The compression of the snapshots which are written: 'none' or 'deflate'.
+     * Snapshots are recovered with the compression they are written with.
+     */
+    public String compression = "none";
+
+    /**
+     * The snapshot policy of all stream processors which have no policy of their own.
+     */
+    public SnapshotPolicyCfg policy = new SnapshotPolicyCfg();
+
+    /**
+     * The snapshot policies by processor type, e.g. 'workflowInstance'.
+     */
+    public Map<String, SnapshotPolicyCfg> processors = new HashMap<>();
+
+    public SnapshotCompression getCompression()
+    {
+        try
+        {
+            return compression != null ? SnapshotCompression.valueOf(compression.toUpperCase()) : SnapshotCompression.NONE;
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new RuntimeException(String.format("Unknown snapshot compression '%s'. Expected one of: none, deflate.", compression));
+        }
+    }
+
+    public SnapshotPolicyCfg getPolicy(String processorType)
+    {
+        final SnapshotPolicyCfg processorPolicy = processors != null ? processors.get(processorType) : null;
+        return processorPolicy != null ? processorPolicy : policy;
+    }
+
     @Override
     protected String componentDirectoryName()
     {
@@ -0,0 +1,82 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import java.time.Duration;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+
+/**
+ * Bounds the recovery time of a stream processor. On recovery, all events since the
+ * last snapshot are reprocessed, which takes roughly as long as processing them took
+ * the first time. So the policy sums up the processing time of the events and creates
+ * a snapshot when it reaches the max recovery time. Under high load, snapshots are
+ * created more often; when idle, a snapshot is created after the max period if any
+ * event was processed.
+ */
+public class AdaptiveSnapshotPolicy implements ProcessingSnapshotPolicy
+{
+    protected final long maxRecoveryTimeNanos;
+    protected final long minPeriodMillis;
+    protected final long maxPeriodMillis;
+
+    protected long lastSnapshotTime = -1;
+    protected long eventsSinceLastSnapshot = 0;
+    protected long processingTimeSinceLastSnapshot = 0;
+
+    public AdaptiveSnapshotPolicy(Duration maxRecoveryTime, Duration minPeriod, Duration maxPeriod)
+    {
+        this.maxRecoveryTimeNanos = maxRecoveryTime.toNanos();
+        this.minPeriodMillis = minPeriod.toMillis();
+        this.maxPeriodMillis = maxPeriod.toMillis();
+    }
+
+    @Override
+    public void onEventProcessed(LoggedEvent event, long processingTimeNanos)
+    {
+        eventsSinceLastSnapshot += 1;
+        processingTimeSinceLastSnapshot += processingTimeNanos;
+    }
+
+    @Override
+    public boolean apply(long currentTime)
+    {
+        if (lastSnapshotTime < 0)
+        {
+            lastSnapshotTime = currentTime;
+        }
+
+        final long period = currentTime - lastSnapshotTime;
+
+        boolean createSnapshot = false;
+
+        if (eventsSinceLastSnapshot > 0 && period >= minPeriodMillis)
+        {
+            createSnapshot = processingTimeSinceLastSnapshot >= maxRecoveryTimeNanos || period >= maxPeriodMillis;
+        }
+
+        if (createSnapshot)
+        {
+            lastSnapshotTime = currentTime;
+            eventsSinceLastSnapshot = 0;
+            processingTimeSinceLastSnapshot = 0;
+        }
+
+        return createSnapshot;
+    }
+}
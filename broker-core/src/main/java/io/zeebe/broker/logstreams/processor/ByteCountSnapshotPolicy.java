@@ -0,0 +1,53 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+
+/**
+ * Creates a snapshot after events of a given size (value and metadata) are processed
+ * since the last snapshot.
+ */
+public class ByteCountSnapshotPolicy implements ProcessingSnapshotPolicy
+{
+    protected final long byteCount;
+
+    protected long bytesSinceLastSnapshot = 0;
+
+    public ByteCountSnapshotPolicy(long byteCount)
+    {
+        this.byteCount = byteCount;
+    }
+
+    @Override
+    public void onEventProcessed(LoggedEvent event, long processingTimeNanos)
+    {
+        bytesSinceLastSnapshot += event.getValueLength() + event.getMetadataLength();
+    }
+
+    @Override
+    public boolean apply(long currentTime)
+    {
+        final boolean createSnapshot = bytesSinceLastSnapshot >= byteCount;
+        if (createSnapshot)
+        {
+            bytesSinceLastSnapshot = 0;
+        }
+        return createSnapshot;
+    }
+}
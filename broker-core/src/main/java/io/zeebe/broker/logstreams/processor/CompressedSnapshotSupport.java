@@ -0,0 +1,174 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import io.zeebe.logstreams.spi.SnapshotSupport;
+
+/**
+ * Compresses the snapshot of a state resource. A compressed snapshot starts with a header
+ * which contains a magic number and the id of the compression. A snapshot without this header
+ * is read uncompressed, so snapshots which are written before the compression was enabled can
+ * still be recovered.
+ */
+public class CompressedSnapshotSupport implements SnapshotSupport
+{
+    // "ZBSC"
+    public static final int MAGIC = 0x5a425343;
+    public static final int HEADER_LENGTH = 5;
+
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final SnapshotSupport delegate;
+    protected final SnapshotCompression compression;
+
+    public CompressedSnapshotSupport(SnapshotSupport delegate, SnapshotCompression compression)
+    {
+        this.delegate = delegate;
+        this.compression = compression;
+    }
+
+    @Override
+    public void writeSnapshot(OutputStream outputStream) throws Exception
+    {
+        if (compression == SnapshotCompression.NONE)
+        {
+            delegate.writeSnapshot(outputStream);
+        }
+        else
+        {
+            final byte[] header = ByteBuffer.allocate(HEADER_LENGTH)
+                .putInt(MAGIC)
+                .put(compression.getId())
+                .array();
+
+            outputStream.write(header);
+
+            // fastest level, the snapshot mostly contains padding of fixed-size values
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try
+            {
+                final DeflaterOutputStream compressedStream = new DeflaterOutputStream(new NonClosingOutputStream(outputStream), deflater, BUFFER_SIZE);
+
+                delegate.writeSnapshot(compressedStream);
+
+                compressedStream.finish();
+                compressedStream.flush();
+            }
+            finally
+            {
+                deflater.end();
+            }
+        }
+    }
+
+    @Override
+    public void recoverFromSnapshot(InputStream inputStream) throws Exception
+    {
+        final PushbackInputStream snapshotStream = new PushbackInputStream(inputStream, HEADER_LENGTH);
+
+        final byte[] header = new byte[HEADER_LENGTH];
+        final int headerLength = readHeader(snapshotStream, header);
+
+        if (headerLength == HEADER_LENGTH && ByteBuffer.wrap(header).getInt() == MAGIC)
+        {
+            final SnapshotCompression snapshotCompression = SnapshotCompression.fromId(header[HEADER_LENGTH - 1]);
+
+            switch (snapshotCompression)
+            {
+                case DEFLATE:
+                    final Inflater inflater = new Inflater();
+                    try
+                    {
+                        delegate.recoverFromSnapshot(new InflaterInputStream(snapshotStream, inflater, BUFFER_SIZE));
+                    }
+                    finally
+                    {
+                        inflater.end();
+                    }
+                    break;
+
+                default:
+                    delegate.recoverFromSnapshot(snapshotStream);
+                    break;
+            }
+        }
+        else
+        {
+            // uncompressed snapshot
+            snapshotStream.unread(header, 0, headerLength);
+            delegate.recoverFromSnapshot(snapshotStream);
+        }
+    }
+
+    protected static int readHeader(InputStream inputStream, byte[] header) throws IOException
+    {
+        int length = 0;
+        while (length < header.length)
+        {
+            final int read = inputStream.read(header, length, header.length - length);
+            if (read < 0)
+            {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    @Override
+    public void reset()
+    {
+        delegate.reset();
+    }
+
+    public SnapshotSupport getDelegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * Keeps the snapshot stream of the storage open if the state resource
+     * closes the compressing stream.
+     */
+    protected static class NonClosingOutputStream extends FilterOutputStream
+    {
+        NonClosingOutputStream(OutputStream outputStream)
+        {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            flush();
+        }
+    }
+}
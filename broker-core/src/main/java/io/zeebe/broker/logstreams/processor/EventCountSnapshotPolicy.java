@@ -0,0 +1,52 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+
+/**
+ * Creates a snapshot after a given number of events are processed since the last snapshot.
+ */
+public class EventCountSnapshotPolicy implements ProcessingSnapshotPolicy
+{
+    protected final long eventCount;
+
+    protected long eventsSinceLastSnapshot = 0;
+
+    public EventCountSnapshotPolicy(long eventCount)
+    {
+        this.eventCount = eventCount;
+    }
+
+    @Override
+    public void onEventProcessed(LoggedEvent event, long processingTimeNanos)
+    {
+        eventsSinceLastSnapshot += 1;
+    }
+
+    @Override
+    public boolean apply(long currentTime)
+    {
+        final boolean createSnapshot = eventsSinceLastSnapshot >= eventCount;
+        if (createSnapshot)
+        {
+            eventsSinceLastSnapshot = 0;
+        }
+        return createSnapshot;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.broker.system.metrics.CommandTracer;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamWriter;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.processor.EventProcessor;
+import io.zeebe.logstreams.processor.StreamProcessor;
+import io.zeebe.logstreams.processor.StreamProcessorContext;
+import io.zeebe.logstreams.spi.SnapshotSupport;
+import io.zeebe.protocol.impl.BrokerEventMetadata;
+
+/**
+ * Decorates a stream processor and counts the processed, written and skipped events.
+ * Since all methods are invoked by the stream processor controller's thread, the
+ * counters are only written by a single thread.
+ *
+ * If a command tracer is given, then the processing of commands which are sent
+ * by clients is traced as well. If a snapshot policy is given, then it is informed
+ * about the processing time of each event. If a snapshot compression is given, then
+ * the snapshots of the state resource are compressed.
+ */
+public class MetricsStreamProcessor implements StreamProcessor, EventProcessor
+{
+    protected final StreamProcessor streamProcessor;
+    protected final StreamProcessorMetrics metrics;
+    protected final CommandTracer commandTracer;
+    protected final ProcessingSnapshotPolicy snapshotPolicy;
+    protected final SnapshotCompression snapshotCompression;
+
+    protected CompressedSnapshotSupport compressedStateResource;
+
+    protected final BrokerEventMetadata metadata = new BrokerEventMetadata();
+    protected boolean isTracedCommand;
+
+    protected LogStream logStream;
+
+    protected EventProcessor eventProcessor;
+    protected long lastProcessedPosition = -1;
+    protected LoggedEvent currentEvent;
+    protected long processingStartTime;
+
+    public MetricsStreamProcessor(StreamProcessor streamProcessor, StreamProcessorMetrics metrics)
+    {
+        this(streamProcessor, metrics, null, null, null);
+    }
+
+    public MetricsStreamProcessor(
+            StreamProcessor streamProcessor,
+            StreamProcessorMetrics metrics,
+            CommandTracer commandTracer,
+            ProcessingSnapshotPolicy snapshotPolicy,
+            SnapshotCompression snapshotCompression)
+    {
+        this.streamProcessor = streamProcessor;
+        this.metrics = metrics;
+        this.commandTracer = commandTracer;
+        this.snapshotPolicy = snapshotPolicy;
+        this.snapshotCompression = snapshotCompression;
+    }
+
+    @Override
+    public SnapshotSupport getStateResource()
+    {
+        final SnapshotSupport stateResource = streamProcessor.getStateResource();
+
+        if (snapshotCompression == null || stateResource == null)
+        {
+            return stateResource;
+        }
+
+        if (compressedStateResource == null || compressedStateResource.getDelegate() != stateResource)
+        {
+            compressedStateResource = new CompressedSnapshotSupport(stateResource, snapshotCompression);
+        }
+
+        return compressedStateResource;
+    }
+
+    @Override
+    public int getPriority(long now)
+    {
+        return streamProcessor.getPriority(now);
+    }
+
+    @Override
+    public void onOpen(StreamProcessorContext context)
+    {
+        logStream = context.getLogStream();
+        streamProcessor.onOpen(context);
+    }
+
+    @Override
+    public void onClose()
+    {
+        streamProcessor.onClose();
+    }
+
+    @Override
+    public boolean isSuspended()
+    {
+        return streamProcessor.isSuspended();
+    }
+
+    @Override
+    public EventProcessor onEvent(LoggedEvent event)
+    {
+        lastProcessedPosition = event.getPosition();
+        currentEvent = event;
+        processingStartTime = System.nanoTime();
+
+        eventProcessor = streamProcessor.onEvent(event);
+
+        if (eventProcessor != null)
+        {
+            traceCommand(event);
+
+            return this;
+        }
+        else
+        {
+            metrics.incrementEventsSkipped();
+            metrics.setLastProcessedPosition(lastProcessedPosition);
+            updateProcessingLag();
+            updateSnapshotPolicy();
+
+            return null;
+        }
+    }
+
+    @Override
+    public void processEvent()
+    {
+        eventProcessor.processEvent();
+
+        if (isTracedCommand)
+        {
+            commandTracer.commandProcessed(metadata.getRequestStreamId(), metadata.getRequestId());
+        }
+    }
+
+    @Override
+    public boolean executeSideEffects()
+    {
+        final boolean success = eventProcessor.executeSideEffects();
+
+        if (success && isTracedCommand)
+        {
+            commandTracer.commandResponded(metadata.getRequestStreamId(), metadata.getRequestId());
+        }
+
+        return success;
+    }
+
+    @Override
+    public long writeEvent(LogStreamWriter writer)
+    {
+        final long position = eventProcessor.writeEvent(writer);
+
+        if (position > 0)
+        {
+            metrics.incrementEventsWritten(position);
+        }
+
+        return position;
+    }
+
+    @Override
+    public void updateState()
+    {
+        eventProcessor.updateState();
+
+        metrics.incrementEventsProcessed();
+        metrics.setLastProcessedPosition(lastProcessedPosition);
+        updateProcessingLag();
+        updateSnapshotPolicy();
+    }
+
+    @Override
+    public void afterEvent()
+    {
+        streamProcessor.afterEvent();
+    }
+
+    protected void traceCommand(LoggedEvent event)
+    {
+        isTracedCommand = false;
+
+        if (commandTracer != null)
+        {
+            metadata.reset();
+            event.readMetadata(metadata);
+
+            if (metadata.hasRequestMetadata())
+            {
+                isTracedCommand = true;
+                commandTracer.commandPickedUp(metadata.getRequestStreamId(), metadata.getRequestId());
+            }
+        }
+    }
+
+    protected void updateProcessingLag()
+    {
+        final long commitPosition = logStream.getCommitPosition();
+        metrics.setProcessingLag(Math.max(0, commitPosition - lastProcessedPosition));
+    }
+
+    protected void updateSnapshotPolicy()
+    {
+        if (snapshotPolicy != null)
+        {
+            // includes side effects and writes which are not repeated on reprocessing,
+            // i.e. it overestimates the recovery time
+            snapshotPolicy.onEventProcessed(currentEvent, System.nanoTime() - processingStartTime);
+        }
+    }
+
+    public StreamProcessor getStreamProcessor()
+    {
+        return streamProcessor;
+    }
+}
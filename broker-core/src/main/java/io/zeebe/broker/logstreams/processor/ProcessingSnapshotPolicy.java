@@ -0,0 +1,39 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.spi.SnapshotPolicy;
+
+/**
+ * A snapshot policy which is informed about every event that is processed
+ * (or skipped) by the stream processor. The policy resets itself when it
+ * decides to create a snapshot.
+ */
+@FunctionalInterface
+public interface ProcessingSnapshotPolicy extends SnapshotPolicy
+{
+    /**
+     * @param event the processed event
+     * @param processingTimeNanos the time it took to process the event
+     */
+    default void onEventProcessed(LoggedEvent event, long processingTimeNanos)
+    {
+        // ignore by default
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.processor.StreamProcessor;
+
+/**
+ * Implemented by stream processors which have a faster path to reprocess events on recovery.
+ * When an event is reprocessed, only its state changes are applied. The processor can skip
+ * work whose result is only written to the log or sent to a client.
+ */
+public interface ReplayAware
+{
+    /**
+     * Invoked on reprocessing, before the event is passed to {@link StreamProcessor#onEvent(LoggedEvent)}.
+     */
+    void onReplay(LoggedEvent event);
+}
@@ -0,0 +1,49 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+public enum SnapshotCompression
+{
+    NONE(0),
+    DEFLATE(1);
+
+    private final byte id;
+
+    SnapshotCompression(int id)
+    {
+        this.id = (byte) id;
+    }
+
+    public byte getId()
+    {
+        return id;
+    }
+
+    public static SnapshotCompression fromId(byte id)
+    {
+        for (SnapshotCompression compression : values())
+        {
+            if (compression.id == id)
+            {
+                return compression;
+            }
+        }
+
+        throw new IllegalStateException(String.format("Unknown snapshot compression with id '%d'", id));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import static io.zeebe.broker.logstreams.processor.StreamProcessorIds.*;
+
+import java.time.Duration;
+
+import io.zeebe.broker.logstreams.cfg.SnapshotPolicyCfg;
+import io.zeebe.broker.logstreams.cfg.SnapshotStorageCfg;
+import io.zeebe.logstreams.snapshot.TimeBasedSnapshotPolicy;
+
+/**
+ * Creates the snapshot policy of a stream processor as configured for its type.
+ */
+public class SnapshotPolicyFactory
+{
+    protected final SnapshotStorageCfg config;
+
+    public SnapshotPolicyFactory(SnapshotStorageCfg config)
+    {
+        this.config = config;
+    }
+
+    /**
+     * @return the compression of the snapshots which are written by the processors
+     */
+    public SnapshotCompression getSnapshotCompression()
+    {
+        return config.getCompression();
+    }
+
+    public ProcessingSnapshotPolicy createSnapshotPolicy(int processorId)
+    {
+        final SnapshotPolicyCfg policyCfg = config.getPolicy(getProcessorType(processorId));
+        return createSnapshotPolicy(policyCfg);
+    }
+
+    public static ProcessingSnapshotPolicy createSnapshotPolicy(SnapshotPolicyCfg policyCfg)
+    {
+        final String type = policyCfg.type != null ? policyCfg.type : SnapshotPolicyCfg.TYPE_TIME;
+        final Duration period = Duration.ofSeconds(policyCfg.periodInSeconds);
+
+        switch (type)
+        {
+            case SnapshotPolicyCfg.TYPE_TIME:
+                final TimeBasedSnapshotPolicy timeBasedSnapshotPolicy = new TimeBasedSnapshotPolicy(period);
+                return timeBasedSnapshotPolicy::apply;
+
+            case SnapshotPolicyCfg.TYPE_EVENTS:
+                return new EventCountSnapshotPolicy(policyCfg.eventCount);
+
+            case SnapshotPolicyCfg.TYPE_BYTES:
+                return new ByteCountSnapshotPolicy(policyCfg.byteCount);
+
+            case SnapshotPolicyCfg.TYPE_ADAPTIVE:
+                return new AdaptiveSnapshotPolicy(
+                        Duration.ofSeconds(policyCfg.maxRecoveryTimeInSeconds),
+                        Duration.ofSeconds(policyCfg.minPeriodInSeconds),
+                        period);
+
+            default:
+                throw new RuntimeException(String.format("Unknown snapshot policy type '%s'. Expected one of: time, events, bytes, adaptive.", type));
+        }
+    }
+
+    /**
+     * @return the name which is used to configure the snapshot policy of the processor
+     */
+    public static String getProcessorType(int processorId)
+    {
+        switch (processorId)
+        {
+            case TASK_QUEUE_STREAM_PROCESSOR_ID:
+                return "taskInstance";
+            case TASK_LOCK_STREAM_PROCESSOR_ID:
+                return "taskLock";
+            case TASK_EXPIRE_LOCK_STREAM_PROCESSOR_ID:
+                return "taskExpireLock";
+            case TOPIC_SUBSCRIPTION_PUSH_PROCESSOR_ID:
+                return "topicSubscriptionPush";
+            case TOPIC_SUBSCRIPTION_MANAGEMENT_PROCESSOR_ID:
+                return "topicSubscriptionManagement";
+            case DEPLOYMENT_PROCESSOR_ID:
+                return "deployment";
+            case WORKFLOW_INSTANCE_PROCESSOR_ID:
+                return "workflowInstance";
+            case INCIDENT_PROCESSOR_ID:
+                return "incident";
+            case SYSTEM_CREATE_TOPIC_PROCESSOR_ID:
+                return "createTopic";
+            case SYSTEM_COLLECT_PARTITION_PROCESSOR_ID:
+                return "collectPartition";
+            default:
+                return null;
+        }
+    }
+}
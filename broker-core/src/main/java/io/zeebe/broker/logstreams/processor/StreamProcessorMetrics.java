@@ -0,0 +1,151 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.util.buffer.BufferUtil;
+
+/**
+ * Metrics of a single stream processor. The counters are written by the stream processor thread
+ * and can be read by any thread.
+ */
+public class StreamProcessorMetrics implements AutoCloseable
+{
+    protected final Counters counters;
+
+    protected final String topicName;
+    protected final int partitionId;
+    protected final String processorName;
+
+    protected final AtomicCounter eventsProcessed;
+    protected final AtomicCounter eventsWritten;
+    protected final AtomicCounter eventsSkipped;
+    protected final AtomicCounter processingLag;
+    protected final AtomicCounter lastProcessedPosition;
+    protected final AtomicCounter lastWrittenPosition;
+
+    public StreamProcessorMetrics(Counters counters, LogStream logStream, String processorName)
+    {
+        this.counters = counters;
+
+        this.topicName = BufferUtil.bufferAsString(logStream.getTopicName());
+        this.partitionId = logStream.getPartitionId();
+        this.processorName = processorName;
+
+        final String name = String.format("%s.%d.%s", topicName, partitionId, processorName);
+
+        eventsProcessed = counters.newCounter(name + ".eventsProcessed");
+        eventsWritten = counters.newCounter(name + ".eventsWritten");
+        eventsSkipped = counters.newCounter(name + ".eventsSkipped");
+        processingLag = counters.newCounter(name + ".processingLag");
+        lastProcessedPosition = counters.newCounter(name + ".lastProcessedPosition");
+        lastWrittenPosition = counters.newCounter(name + ".lastWrittenPosition");
+
+        lastProcessedPosition.setOrdered(-1);
+        lastWrittenPosition.setOrdered(-1);
+    }
+
+    public void incrementEventsProcessed()
+    {
+        eventsProcessed.orderedIncrement();
+    }
+
+    public void incrementEventsWritten(long position)
+    {
+        eventsWritten.orderedIncrement();
+        lastWrittenPosition.setOrdered(position);
+    }
+
+    public void incrementEventsSkipped()
+    {
+        eventsSkipped.orderedIncrement();
+    }
+
+    public void setLastProcessedPosition(long position)
+    {
+        lastProcessedPosition.setOrdered(position);
+    }
+
+    /**
+     * @param lag the number of positions between the commit position of the log stream
+     *            and the position of the last processed event
+     */
+    public void setProcessingLag(long lag)
+    {
+        processingLag.setOrdered(lag);
+    }
+
+    public String getTopicName()
+    {
+        return topicName;
+    }
+
+    public int getPartitionId()
+    {
+        return partitionId;
+    }
+
+    public String getProcessorName()
+    {
+        return processorName;
+    }
+
+    public long getEventsProcessed()
+    {
+        return eventsProcessed.get();
+    }
+
+    public long getEventsWritten()
+    {
+        return eventsWritten.get();
+    }
+
+    public long getEventsSkipped()
+    {
+        return eventsSkipped.get();
+    }
+
+    public long getProcessingLag()
+    {
+        return processingLag.get();
+    }
+
+    public long getLastProcessedPosition()
+    {
+        return lastProcessedPosition.get();
+    }
+
+    public long getLastWrittenPosition()
+    {
+        return lastWrittenPosition.get();
+    }
+
+    @Override
+    public void close()
+    {
+        counters.free(eventsProcessed);
+        counters.free(eventsWritten);
+        counters.free(eventsSkipped);
+        counters.free(processingLag);
+        counters.free(lastProcessedPosition);
+        counters.free(lastWrittenPosition);
+    }
+}
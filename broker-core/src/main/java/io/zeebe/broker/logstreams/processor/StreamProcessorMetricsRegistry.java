@@ -0,0 +1,63 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.logstreams.log.LogStream;
+
+/**
+ * Keeps the metrics of all stream processors of the broker, so that their counters are freed
+ * when the broker stops. Processors are registered and unregistered by the service container threads.
+ */
+public class StreamProcessorMetricsRegistry
+{
+    protected final Counters counters;
+
+    protected final List<StreamProcessorMetrics> metrics = new CopyOnWriteArrayList<>();
+
+    public StreamProcessorMetricsRegistry(Counters counters)
+    {
+        this.counters = counters;
+    }
+
+    public StreamProcessorMetrics register(LogStream logStream, String processorName)
+    {
+        final StreamProcessorMetrics processorMetrics = new StreamProcessorMetrics(counters, logStream, processorName);
+        metrics.add(processorMetrics);
+
+        return processorMetrics;
+    }
+
+    public void unregister(StreamProcessorMetrics processorMetrics)
+    {
+        metrics.remove(processorMetrics);
+        processorMetrics.close();
+    }
+
+    /**
+     * Frees the counters of all metrics which are still registered.
+     */
+    public void close()
+    {
+        metrics.forEach(StreamProcessorMetrics::close);
+        metrics.clear();
+    }
+}
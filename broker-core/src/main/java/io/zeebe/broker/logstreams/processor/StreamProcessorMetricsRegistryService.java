@@ -0,0 +1,55 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.servicecontainer.Injector;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+
+public class StreamProcessorMetricsRegistryService implements Service<StreamProcessorMetricsRegistry>
+{
+    protected final Injector<Counters> countersInjector = new Injector<>();
+
+    protected StreamProcessorMetricsRegistry registry;
+
+    @Override
+    public void start(ServiceStartContext startContext)
+    {
+        registry = new StreamProcessorMetricsRegistry(countersInjector.getValue());
+    }
+
+    @Override
+    public void stop(ServiceStopContext stopContext)
+    {
+        // stream processors unregister their metrics when they stop; frees the counters of the remaining ones
+        registry.close();
+    }
+
+    @Override
+    public StreamProcessorMetricsRegistry get()
+    {
+        return registry;
+    }
+
+    public Injector<Counters> getCountersInjector()
+    {
+        return countersInjector;
+    }
+}
@@ -17,13 +17,17 @@
  */
 package io.zeebe.broker.logstreams.processor;
 
-import java.time.Duration;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_POLICY_FACTORY_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_METRICS_SERVICE;
+import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
+import static io.zeebe.broker.system.SystemServiceNames.COMMAND_TRACER_SERVICE;
 
+import io.zeebe.broker.system.metrics.CommandTracer;
 import io.zeebe.logstreams.LogStreams;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.processor.*;
-import io.zeebe.logstreams.snapshot.TimeBasedSnapshotPolicy;
 import io.zeebe.logstreams.spi.SnapshotStorage;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.BrokerEventMetadata;
@@ -35,6 +39,9 @@ public class StreamProcessorService implements Service<StreamProcessorController
     private final Injector<LogStream> logStreamInjector = new Injector<>();
     private final Injector<SnapshotStorage> snapshotStorageInjector = new Injector<>();
     private final Injector<ActorScheduler> actorSchedulerInjector = new Injector<>();
+    private final Injector<StreamProcessorMetricsRegistry> metricsRegistryInjector = new Injector<>();
+    private final Injector<CommandTracer> commandTracerInjector = new Injector<>();
+    private final Injector<SnapshotPolicyFactory> snapshotPolicyFactoryInjector = new Injector<>();
 
     private final String name;
     private final int id;
@@ -57,6 +64,8 @@ public class StreamProcessorService implements Service<StreamProcessorController
 
 
     private StreamProcessorController streamProcessorController;
+    private StreamProcessorMetricsRegistry metricsRegistry;
+    private StreamProcessorMetrics metrics;
 
     public StreamProcessorService(String name, int id, StreamProcessor streamProcessor)
     {
@@ -83,6 +92,26 @@ public class StreamProcessorService implements Service<StreamProcessorController
         return this;
     }
 
+    /**
+     * Creates this service with the dependencies which all stream processors share.
+     * The caller adds the dependency on the log stream to process.
+     */
+    public ServiceBuilder<StreamProcessorController> createService(ServiceStartContext serviceContext, ServiceName<StreamProcessorController> serviceName)
+    {
+        final ServiceBuilder<StreamProcessorController> serviceBuilder = serviceContext.createService(serviceName, this)
+            .dependency(SNAPSHOT_STORAGE_SERVICE, snapshotStorageInjector)
+            .dependency(ACTOR_SCHEDULER_SERVICE, actorSchedulerInjector)
+            .dependency(STREAM_PROCESSOR_METRICS_SERVICE, metricsRegistryInjector)
+            .dependency(SNAPSHOT_POLICY_FACTORY_SERVICE, snapshotPolicyFactoryInjector);
+
+        if (!readOnly)
+        {
+            serviceBuilder.dependency(COMMAND_TRACER_SERVICE, commandTracerInjector);
+        }
+
+        return serviceBuilder;
+    }
+
     @Override
     public void start(ServiceStartContext ctx)
     {
@@ -92,6 +121,11 @@ public class StreamProcessorService implements Service<StreamProcessorController
 
         final ActorScheduler actorScheduler = actorSchedulerInjector.getValue();
 
+        metricsRegistry = metricsRegistryInjector.getValue();
+
+        // read-only processors (e.g. topic subscriptions) don't handle commands
+        final CommandTracer commandTracer = readOnly ? null : commandTracerInjector.getValue();
+
         MetadataFilter metadataFilter = versionFilter;
         if (customEventFilter != null)
         {
@@ -105,10 +139,33 @@ public class StreamProcessorService implements Service<StreamProcessorController
             reprocessingEventFilter = reprocessingEventFilter.and(customReprocessingEventFilter);
         }
 
-        streamProcessorController = LogStreams.createStreamProcessor(name, id, streamProcessor)
+        if (streamProcessor instanceof ReplayAware)
+        {
+            // the reprocessing filter is only applied to the events which are reprocessed on recovery
+            final ReplayAware replayAware = (ReplayAware) streamProcessor;
+            reprocessingEventFilter = reprocessingEventFilter.and(event ->
+            {
+                replayAware.onReplay(event);
+                return true;
+            });
+        }
+
+        metrics = metricsRegistry.register(logStream, name);
+
+        final SnapshotPolicyFactory snapshotPolicyFactory = snapshotPolicyFactoryInjector.getValue();
+        final ProcessingSnapshotPolicy processingSnapshotPolicy = snapshotPolicyFactory.createSnapshotPolicy(id);
+
+        final MetricsStreamProcessor metricsStreamProcessor = new MetricsStreamProcessor(
+                streamProcessor,
+                metrics,
+                commandTracer,
+                processingSnapshotPolicy,
+                snapshotPolicyFactory.getSnapshotCompression());
+
+        streamProcessorController = LogStreams.createStreamProcessor(name, id, metricsStreamProcessor)
             .logStream(logStream)
             .snapshotStorage(snapshotStorage)
-            .snapshotPolicy(new TimeBasedSnapshotPolicy(Duration.ofMinutes(15)))
+            .snapshotPolicy(processingSnapshotPolicy)
             .actorScheduler(actorScheduler)
             .eventFilter(eventFilter)
             .reprocessingEventFilter(reprocessingEventFilter)
@@ -127,7 +184,7 @@ public class StreamProcessorService implements Service<StreamProcessorController
     @Override
     public void stop(ServiceStopContext ctx)
     {
-        ctx.async(streamProcessorController.closeAsync());
+        ctx.async(streamProcessorController.closeAsync().thenRun(() -> metricsRegistry.unregister(metrics)));
     }
 
     public Injector<SnapshotStorage> getSnapshotStorageInjector()
@@ -140,6 +197,21 @@ public class StreamProcessorService implements Service<StreamProcessorController
         return actorSchedulerInjector;
     }
 
+    public Injector<StreamProcessorMetricsRegistry> getMetricsRegistryInjector()
+    {
+        return metricsRegistryInjector;
+    }
+
+    public Injector<CommandTracer> getCommandTracerInjector()
+    {
+        return commandTracerInjector;
+    }
+
+    public Injector<SnapshotPolicyFactory> getSnapshotPolicyFactoryInjector()
+    {
+        return snapshotPolicyFactoryInjector;
+    }
+
     public Injector<LogStream> getLogStreamInjector()
     {
         return logStreamInjector;
@@ -150,6 +222,11 @@ public class StreamProcessorService implements Service<StreamProcessorController
         return streamProcessorController;
     }
 
+    public StreamProcessorMetrics getMetrics()
+    {
+        return metrics;
+    }
+
     public String getName()
     {
         return name;
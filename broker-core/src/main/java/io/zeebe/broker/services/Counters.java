@@ -17,15 +17,30 @@
  */
 package io.zeebe.broker.services;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.agrona.BitUtil;
 import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersManager;
+import org.slf4j.Logger;
+
+import io.zeebe.broker.Loggers;
 
 public class Counters
 {
+    public static final Logger LOG = Loggers.SERVICES_LOGGER;
+
     protected final CountersManager countersManager;
 
     protected final AtomicBuffer countersBuffer;
 
+    // counters which could not be allocated in the counters file
+    protected final Set<AtomicCounter> unmappedCounters = Collections.newSetFromMap(new IdentityHashMap<>());
+
     public Counters(CountersManager countersManager, AtomicBuffer countersBuffer)
     {
         this.countersManager = countersManager;
@@ -41,4 +56,45 @@ public class Counters
     {
         return countersBuffer;
     }
+
+    /**
+     * Allocates a new counter in the counters file. Counters are allocated by services
+     * which are started concurrently, so allocation is synchronized. Incrementing or
+     * setting the counter afterwards is lock-free.
+     * <p>
+     * If the counters file is full, the counter is backed by a private buffer instead. It
+     * works the same way but is not visible in the counters file.
+     */
+    public synchronized AtomicCounter newCounter(String label)
+    {
+        try
+        {
+            return countersManager.newCounter(label);
+        }
+        catch (IllegalArgumentException | IllegalStateException e)
+        {
+            if (unmappedCounters.isEmpty())
+            {
+                LOG.warn("Counters file is full, counter '{}' and further counters are not visible: {}", label, e.getMessage());
+            }
+
+            final AtomicCounter counter = new AtomicCounter(new UnsafeBuffer(new byte[BitUtil.SIZE_OF_LONG]), 0, null);
+            unmappedCounters.add(counter);
+
+            return counter;
+        }
+    }
+
+    public synchronized void free(AtomicCounter counter)
+    {
+        if (!unmappedCounters.remove(counter))
+        {
+            counter.close();
+        }
+    }
+
+    public synchronized boolean isMapped(AtomicCounter counter)
+    {
+        return !unmappedCounters.contains(counter);
+    }
 }
@@ -27,6 +27,7 @@ import io.zeebe.broker.system.deployment.service.WorkflowRequestMessageHandlerSe
 import io.zeebe.broker.system.executor.ScheduledExecutorService;
 import io.zeebe.broker.system.log.PartitionManagerService;
 import io.zeebe.broker.system.log.SystemPartitionManager;
+import io.zeebe.broker.system.metrics.CommandTracerService;
 import io.zeebe.broker.system.threads.ActorSchedulerService;
 import io.zeebe.broker.transport.TransportServiceNames;
 import io.zeebe.servicecontainer.ServiceContainer;
@@ -43,6 +44,11 @@ public class SystemComponent implements Component
         serviceContainer.createService(COUNTERS_MANAGER_SERVICE, countersManagerService)
             .install();
 
+        final CommandTracerService commandTracerService = new CommandTracerService();
+        serviceContainer.createService(COMMAND_TRACER_SERVICE, commandTracerService)
+            .dependency(COUNTERS_MANAGER_SERVICE, commandTracerService.getCountersInjector())
+            .install();
+
         final ActorSchedulerService agentRunnerService = new ActorSchedulerService(context.getDiagnosticContext(), context.getConfigurationManager());
         serviceContainer.createService(ACTOR_SCHEDULER_SERVICE, agentRunnerService)
             .install();
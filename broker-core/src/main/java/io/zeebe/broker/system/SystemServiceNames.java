@@ -23,6 +23,7 @@ import io.zeebe.broker.system.deployment.handler.WorkflowRequestMessageHandler;
 import io.zeebe.broker.system.deployment.service.DeploymentManager;
 import io.zeebe.broker.system.executor.ScheduledExecutor;
 import io.zeebe.broker.system.log.SystemPartitionManager;
+import io.zeebe.broker.system.metrics.CommandTracer;
 import io.zeebe.logstreams.processor.StreamProcessorController;
 import io.zeebe.servicecontainer.ServiceName;
 import io.zeebe.util.actor.ActorScheduler;
@@ -33,6 +34,8 @@ public class SystemServiceNames
 
     public static final ServiceName<Counters> COUNTERS_MANAGER_SERVICE = ServiceName.newServiceName("broker.countersManager", Counters.class);
 
+    public static final ServiceName<CommandTracer> COMMAND_TRACER_SERVICE = ServiceName.newServiceName("broker.commandTracer", CommandTracer.class);
+
     public static final ServiceName<ScheduledExecutor> EXECUTOR_SERVICE = ServiceName.newServiceName("broker.executor", ScheduledExecutor.class);
 
     public static final ServiceName<SystemPartitionManager> SYSTEM_LOG_MANAGER = ServiceName.newServiceName("broker.system.log", SystemPartitionManager.class);
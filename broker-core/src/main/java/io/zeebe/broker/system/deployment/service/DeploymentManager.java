@@ -20,7 +20,6 @@ package io.zeebe.broker.system.deployment.service;
 import java.time.Duration;
 
 import io.zeebe.broker.clustering.management.PartitionManager;
-import io.zeebe.broker.logstreams.LogStreamServiceNames;
 import io.zeebe.broker.logstreams.processor.*;
 import io.zeebe.broker.system.SystemConfiguration;
 import io.zeebe.broker.system.SystemServiceNames;
@@ -117,10 +116,8 @@ public class DeploymentManager implements Service<DeploymentManager>
              streamProcessor)
              .eventFilter(streamProcessor.buildTypeFilter());
 
-        serviceContext.createService(SystemServiceNames.DEPLOYMENT_PROCESSOR, streamProcessorService)
+        streamProcessorService.createService(serviceContext, SystemServiceNames.DEPLOYMENT_PROCESSOR)
              .dependency(serviceName, streamProcessorService.getLogStreamInjector())
-             .dependency(LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-             .dependency(SystemServiceNames.ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
              .install()
              .thenRun(() ->
              {
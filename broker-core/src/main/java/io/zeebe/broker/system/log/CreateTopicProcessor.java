@@ -30,6 +30,10 @@ import io.zeebe.transport.SocketAddress;
 
 public class CreateTopicProcessor implements TypedEventProcessor<TopicEvent>
 {
+    public static final int DEFAULT_LOG_SEGMENT_SIZE = -1;
+
+    // the log segment size is passed on in bytes and must fit into an int
+    public static final int MAX_LOG_SEGMENT_SIZE = Integer.MAX_VALUE / (1024 * 1024);
 
     protected final TopicsIndex topics;
     protected final PartitionIdGenerator idGenerator;
@@ -60,12 +64,17 @@ public class CreateTopicProcessor implements TypedEventProcessor<TopicEvent>
         final DirectBuffer nameBuffer = value.getName();
         final boolean topicExists = topics.moveTo(nameBuffer);
 
-        if (topicExists || value.getPartitions() <= 0)
+        if (topicExists || value.getPartitions() <= 0 || !isValidLogSegmentSize(value.getLogSegmentSize()))
         {
             value.setState(TopicState.CREATE_REJECTED);
         }
     }
 
+    protected static boolean isValidLogSegmentSize(int logSegmentSize)
+    {
+        return logSegmentSize == DEFAULT_LOG_SEGMENT_SIZE || (logSegmentSize > 0 && logSegmentSize <= MAX_LOG_SEGMENT_SIZE);
+    }
+
     @Override
     public boolean executeSideEffects(TypedEvent<TopicEvent> event, TypedResponseWriter responseWriter)
     {
@@ -91,6 +100,9 @@ public class CreateTopicProcessor implements TypedEventProcessor<TopicEvent>
         {
             final TypedBatchWriter batchWriter = writer.newBatch();
 
+            final int logSegmentSize = value.getLogSegmentSize();
+            final int logSegmentSizeInBytes = logSegmentSize == DEFAULT_LOG_SEGMENT_SIZE ? DEFAULT_LOG_SEGMENT_SIZE : logSegmentSize * 1024 * 1024;
+
             for (int i = 0; i < value.getPartitions(); i++)
             {
                 // in contrast to choosing the partition ID, choosing the creator
@@ -106,6 +118,7 @@ public class CreateTopicProcessor implements TypedEventProcessor<TopicEvent>
                 partitionEvent.setState(PartitionState.CREATE);
                 partitionEvent.setTopicName(value.getName());
                 partitionEvent.setId(idGenerator.currentId(i));
+                partitionEvent.setLogSegmentSize(logSegmentSizeInBytes);
                 partitionEvent.setCreator(nextCreator.getHostBuffer(), nextCreator.port());
 
                 batchWriter.addNewEvent(partitionEvent);
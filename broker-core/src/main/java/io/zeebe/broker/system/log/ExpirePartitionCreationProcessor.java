@@ -85,6 +85,7 @@ public class ExpirePartitionCreationProcessor implements TypedEventProcessor<Par
             newEvent.setState(PartitionState.CREATE);
             newEvent.setTopicName(value.getTopicName());
             newEvent.setId(idGenerator.currentId());
+            newEvent.setLogSegmentSize(value.getLogSegmentSize());
             newEvent.setCreator(nextCreator.getHostBuffer(), nextCreator.port());
 
             batchWriter.addNewEvent(newEvent);
@@ -0,0 +1,131 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.log;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import io.zeebe.broker.clustering.management.PartitionManager;
+import io.zeebe.broker.clustering.member.Member;
+import io.zeebe.transport.SocketAddress;
+import io.zeebe.util.collection.IntIterator;
+import io.zeebe.util.time.ClockUtil;
+
+/**
+ * Selects the broker which currently leads the fewest partitions. Since the leaders of new partitions
+ * become known via gossip only after the partitions are created, the partitions which were recently assigned
+ * to a broker count as load of the broker until the creation timeout is over. On equal load, the broker which
+ * is known first is selected.
+ * <p>
+ * The disk usage and the event rate of the brokers are not considered, and replicas are not spread across
+ * racks or zones.
+ */
+public class LoadAwareSelectionStrategy implements PartitionCreatorSelectionStrategy
+{
+    protected final PartitionManager partitionManager;
+    protected final long pendingAssignmentTimeoutMillis;
+
+    protected final Deque<PendingAssignment> pendingAssignments = new ArrayDeque<>();
+    protected final SocketAddress selectedBroker = new SocketAddress();
+
+    public LoadAwareSelectionStrategy(PartitionManager partitionManager, Duration pendingAssignmentTimeout)
+    {
+        this.partitionManager = partitionManager;
+        this.pendingAssignmentTimeoutMillis = pendingAssignmentTimeout.toMillis();
+    }
+
+    @Override
+    public SocketAddress selectBrokerForNewPartition()
+    {
+        final long now = ClockUtil.getCurrentTimeInMillis();
+        removeExpiredAssignments(now);
+
+        final Iterator<Member> knownMembers = partitionManager.getKnownMembers();
+
+        int selectedLoad = Integer.MAX_VALUE;
+        selectedBroker.reset();
+
+        while (knownMembers.hasNext())
+        {
+            final Member member = knownMembers.next();
+            final int load = getLoad(member);
+
+            if (load < selectedLoad)
+            {
+                selectedLoad = load;
+                selectedBroker.wrap(member.getManagementAddress());
+            }
+        }
+
+        if (selectedLoad < Integer.MAX_VALUE)
+        {
+            pendingAssignments.addLast(new PendingAssignment(selectedBroker, now + pendingAssignmentTimeoutMillis));
+            return selectedBroker;
+        }
+        else
+        {
+            return null;
+        }
+    }
+
+    protected int getLoad(Member member)
+    {
+        final SocketAddress address = member.getManagementAddress();
+
+        int load = 0;
+
+        final IntIterator leadingPartitions = member.getLeadingPartitions();
+        while (leadingPartitions.hasNext())
+        {
+            leadingPartitions.nextInt();
+            load++;
+        }
+
+        for (PendingAssignment assignment : pendingAssignments)
+        {
+            if (address.equals(assignment.broker))
+            {
+                load++;
+            }
+        }
+
+        return load;
+    }
+
+    protected void removeExpiredAssignments(long now)
+    {
+        while (!pendingAssignments.isEmpty() && pendingAssignments.peekFirst().expirationTime <= now)
+        {
+            pendingAssignments.removeFirst();
+        }
+    }
+
+    protected static class PendingAssignment
+    {
+        protected final SocketAddress broker = new SocketAddress();
+        protected final long expirationTime;
+
+        PendingAssignment(SocketAddress broker, long expirationTime)
+        {
+            this.broker.wrap(broker);
+            this.expirationTime = expirationTime;
+        }
+    }
+}
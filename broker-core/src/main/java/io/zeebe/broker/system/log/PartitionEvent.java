@@ -33,6 +33,9 @@ public class PartitionEvent extends UnpackedObject
     protected final StringProperty topicName = new StringProperty("topicName");
     protected final IntegerProperty id = new IntegerProperty("id");
 
+    // log segment size in bytes, -1 for the default size of the creating broker
+    protected final IntegerProperty logSegmentSize = new IntegerProperty("logSegmentSize", -1);
+
     // TODO: this property can be removed when we have timestamps in log entries
     protected final LongProperty creationTimeout = new LongProperty("creationTimeout", -1L);
 
@@ -44,6 +47,7 @@ public class PartitionEvent extends UnpackedObject
             .declareProperty(state)
             .declareProperty(id)
             .declareProperty(topicName)
+            .declareProperty(logSegmentSize)
             .declareProperty(creationTimeout)
             .declareProperty(creator);
     }
@@ -78,6 +82,16 @@ public class PartitionEvent extends UnpackedObject
         return id.getValue();
     }
 
+    public void setLogSegmentSize(int logSegmentSize)
+    {
+        this.logSegmentSize.setValue(logSegmentSize);
+    }
+
+    public int getLogSegmentSize()
+    {
+        return logSegmentSize.getValue();
+    }
+
     public void setCreationTimeout(long timeout)
     {
         creationTimeout.setValue(timeout);
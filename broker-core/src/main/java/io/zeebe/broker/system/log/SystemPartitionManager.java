@@ -22,7 +22,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.zeebe.broker.clustering.management.PartitionManager;
-import io.zeebe.broker.logstreams.LogStreamServiceNames;
 import io.zeebe.broker.logstreams.processor.*;
 import io.zeebe.broker.system.SystemConfiguration;
 import io.zeebe.broker.system.SystemServiceNames;
@@ -91,10 +90,8 @@ public class SystemPartitionManager implements Service<SystemPartitionManager>
             streamProcessor)
             .eventFilter(streamProcessor.buildTypeFilter());
 
-        serviceContext.createService(SystemServiceNames.systemProcessorName(streamProcessorService.getName()), streamProcessorService)
+        streamProcessorService.createService(serviceContext, SystemServiceNames.systemProcessorName(streamProcessorService.getName()))
             .dependency(logStreamName, streamProcessorService.getLogStreamInjector())
-            .dependency(LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-            .dependency(SystemServiceNames.ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
             .install();
 
 
@@ -129,10 +126,8 @@ public class SystemPartitionManager implements Service<SystemPartitionManager>
             streamProcessor)
             .eventFilter(streamProcessor.buildTypeFilter());
 
-        serviceContext.createService(SystemServiceNames.systemProcessorName(streamProcessorService.getName()), streamProcessorService)
+        streamProcessorService.createService(serviceContext, SystemServiceNames.systemProcessorName(streamProcessorService.getName()))
             .dependency(logStreamName, streamProcessorService.getLogStreamInjector())
-            .dependency(LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-            .dependency(SystemServiceNames.ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
             .install();
     }
 
@@ -149,7 +144,7 @@ public class SystemPartitionManager implements Service<SystemPartitionManager>
             Duration creationExpiration)
     {
         final PartitionIdGenerator idGenerator = new PartitionIdGenerator();
-        final PartitionCreatorSelectionStrategy creationStrategy = new RoundRobinSelectionStrategy(partitionManager);
+        final PartitionCreatorSelectionStrategy creationStrategy = new LoadAwareSelectionStrategy(partitionManager, creationExpiration);
 
         return streamEnvironment.newStreamProcessor()
             .onEvent(EventType.TOPIC_EVENT, TopicState.CREATE, new CreateTopicProcessor(topicsIndex, idGenerator, creationStrategy))
@@ -32,12 +32,19 @@ public class TopicEvent extends UnpackedObject
     protected final StringProperty name = new StringProperty("name");
     protected final IntegerProperty partitions = new IntegerProperty("partitions");
 
+    /**
+     * The size of the log segments of the topic's partitions in megabytes, or <code>-1</code>
+     * to use the broker's default log segment size.
+     */
+    protected final IntegerProperty logSegmentSize = new IntegerProperty("logSegmentSize", -1);
+
     public TopicEvent()
     {
         this
             .declareProperty(state)
             .declareProperty(name)
-            .declareProperty(partitions);
+            .declareProperty(partitions)
+            .declareProperty(logSegmentSize);
     }
 
     public TopicState getState()
@@ -70,5 +77,14 @@ public class TopicEvent extends UnpackedObject
         this.partitions.setValue(partitions);
     }
 
+    public int getLogSegmentSize()
+    {
+        return logSegmentSize.getValue();
+    }
+
+    public void setLogSegmentSize(int logSegmentSize)
+    {
+        this.logSegmentSize.setValue(logSegmentSize);
+    }
 
 }
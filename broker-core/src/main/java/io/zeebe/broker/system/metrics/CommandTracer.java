@@ -0,0 +1,240 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.protocol.clientapi.EventType;
+
+/**
+ * Traces the latency of commands which are sent by clients, from receiving the request
+ * to writing the response:
+ *
+ * <ul>
+ * <li>received: the client API handler receives the request</li>
+ * <li>appended: the command is written to the log stream's write buffer</li>
+ * <li>picked up: a stream processor reads the command. Stream processors only read committed
+ * events, so this includes the time until the command is committed.</li>
+ * <li>processed: the stream processor has processed the command</li>
+ * <li>responded: the stream processor has executed the side effects, i.e. written the response</li>
+ * </ul>
+ *
+ * The stamps of in-flight commands are kept in a bounded table which is written without locks
+ * by the client API thread and the stream processor threads. If commands collide in the table, the
+ * older one is not traced. Completed commands are recorded into latency histograms per command type.
+ */
+public class CommandTracer implements AutoCloseable
+{
+    public static final EnumSet<EventType> TRACED_COMMAND_TYPES = EnumSet.of(
+            EventType.TASK_EVENT,
+            EventType.WORKFLOW_INSTANCE_EVENT,
+            EventType.DEPLOYMENT_EVENT,
+            EventType.TOPIC_EVENT,
+            EventType.SUBSCRIBER_EVENT,
+            EventType.SUBSCRIPTION_EVENT);
+
+    public static final int IN_FLIGHT_CAPACITY = 4096;
+
+    protected static final long NO_REQUEST = -1L;
+
+    protected static final int REQUEST_ID_OFFSET = 0;
+    protected static final int STREAM_AND_TYPE_OFFSET = 1;
+    protected static final int RECEIVED_OFFSET = 2;
+    protected static final int APPENDED_OFFSET = 3;
+    protected static final int PICKED_UP_OFFSET = 4;
+    protected static final int PROCESSED_OFFSET = 5;
+    protected static final int SLOT_LENGTH = 8;
+
+    protected static final EventType[] EVENT_TYPES = EventType.values();
+
+    public enum Interval
+    {
+        /** received - appended */
+        APPEND,
+        /** appended - picked up */
+        PICK_UP,
+        /** picked up - processed */
+        PROCESS,
+        /** processed - responded */
+        RESPOND,
+        /** received - responded */
+        TOTAL
+    }
+
+    protected final AtomicLongArray inFlightCommands = new AtomicLongArray(IN_FLIGHT_CAPACITY * SLOT_LENGTH);
+
+    protected final EnumMap<EventType, LatencyHistogram[]> histograms = new EnumMap<>(EventType.class);
+
+    public CommandTracer(Counters counters)
+    {
+        for (EventType commandType : TRACED_COMMAND_TYPES)
+        {
+            final Interval[] intervals = Interval.values();
+            final LatencyHistogram[] histogramsOfType = new LatencyHistogram[intervals.length];
+
+            for (int i = 0; i < intervals.length; i++)
+            {
+                final String name = String.format("commands.%s.%s", commandType.name(), intervals[i].name().toLowerCase());
+                histogramsOfType[i] = new LatencyHistogram(counters, name);
+            }
+
+            histograms.put(commandType, histogramsOfType);
+        }
+
+        for (int i = 0; i < IN_FLIGHT_CAPACITY; i++)
+        {
+            inFlightCommands.set(i * SLOT_LENGTH + REQUEST_ID_OFFSET, NO_REQUEST);
+        }
+    }
+
+    /**
+     * Must only be invoked by the client API thread.
+     */
+    public void commandAppended(int requestStreamId, long requestId, EventType commandType, long receivedNanos)
+    {
+        if (!histograms.containsKey(commandType))
+        {
+            return;
+        }
+
+        final long appendedNanos = System.nanoTime();
+        final int offset = slotOffset(requestStreamId, requestId);
+
+        // invalidate the slot first, so that a concurrent reader does not mix up the stamps of two commands
+        inFlightCommands.set(offset + REQUEST_ID_OFFSET, NO_REQUEST);
+
+        inFlightCommands.lazySet(offset + STREAM_AND_TYPE_OFFSET, streamAndType(requestStreamId, commandType));
+        inFlightCommands.lazySet(offset + RECEIVED_OFFSET, receivedNanos);
+        inFlightCommands.lazySet(offset + APPENDED_OFFSET, appendedNanos);
+        inFlightCommands.lazySet(offset + PICKED_UP_OFFSET, 0L);
+        inFlightCommands.lazySet(offset + PROCESSED_OFFSET, 0L);
+
+        inFlightCommands.set(offset + REQUEST_ID_OFFSET, requestId);
+    }
+
+    public void commandPickedUp(int requestStreamId, long requestId)
+    {
+        stamp(requestStreamId, requestId, PICKED_UP_OFFSET);
+    }
+
+    public void commandProcessed(int requestStreamId, long requestId)
+    {
+        stamp(requestStreamId, requestId, PROCESSED_OFFSET);
+    }
+
+    public void commandResponded(int requestStreamId, long requestId)
+    {
+        final long respondedNanos = System.nanoTime();
+        final int offset = slotOffset(requestStreamId, requestId);
+
+        if (!isTraced(offset, requestStreamId, requestId))
+        {
+            return;
+        }
+
+        final long streamAndType = inFlightCommands.get(offset + STREAM_AND_TYPE_OFFSET);
+        final long receivedNanos = inFlightCommands.get(offset + RECEIVED_OFFSET);
+        final long appendedNanos = inFlightCommands.get(offset + APPENDED_OFFSET);
+        long pickedUpNanos = inFlightCommands.get(offset + PICKED_UP_OFFSET);
+        long processedNanos = inFlightCommands.get(offset + PROCESSED_OFFSET);
+
+        // completes the trace; fails if the slot was reused by another command in the meantime
+        if (!inFlightCommands.compareAndSet(offset + REQUEST_ID_OFFSET, requestId, NO_REQUEST))
+        {
+            return;
+        }
+
+        // stamps are missing if the command was processed by a processor which is not traced
+        if (processedNanos == 0)
+        {
+            processedNanos = respondedNanos;
+        }
+        if (pickedUpNanos == 0)
+        {
+            pickedUpNanos = processedNanos;
+        }
+
+        final EventType commandType = EVENT_TYPES[(int) streamAndType];
+        final LatencyHistogram[] histogramsOfType = histograms.get(commandType);
+
+        record(histogramsOfType, Interval.APPEND, appendedNanos - receivedNanos);
+        record(histogramsOfType, Interval.PICK_UP, pickedUpNanos - appendedNanos);
+        record(histogramsOfType, Interval.PROCESS, processedNanos - pickedUpNanos);
+        record(histogramsOfType, Interval.RESPOND, respondedNanos - processedNanos);
+        record(histogramsOfType, Interval.TOTAL, respondedNanos - receivedNanos);
+    }
+
+    public LatencyHistogram getHistogram(EventType commandType, Interval interval)
+    {
+        final LatencyHistogram[] histogramsOfType = histograms.get(commandType);
+        return histogramsOfType != null ? histogramsOfType[interval.ordinal()] : null;
+    }
+
+    @Override
+    public void close()
+    {
+        histograms.values().forEach(histogramsOfType ->
+        {
+            for (LatencyHistogram histogram : histogramsOfType)
+            {
+                histogram.close();
+            }
+        });
+    }
+
+    protected void stamp(int requestStreamId, long requestId, int stampOffset)
+    {
+        final int offset = slotOffset(requestStreamId, requestId);
+
+        if (isTraced(offset, requestStreamId, requestId))
+        {
+            // the first stream processor which handles the command sets the stamp
+            inFlightCommands.compareAndSet(offset + stampOffset, 0L, System.nanoTime());
+        }
+    }
+
+    protected boolean isTraced(int offset, int requestStreamId, long requestId)
+    {
+        return inFlightCommands.get(offset + REQUEST_ID_OFFSET) == requestId &&
+                (int) (inFlightCommands.get(offset + STREAM_AND_TYPE_OFFSET) >>> 32) == requestStreamId;
+    }
+
+    protected static void record(LatencyHistogram[] histograms, Interval interval, long latencyNanos)
+    {
+        histograms[interval.ordinal()].recordValue(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    protected static long streamAndType(int requestStreamId, EventType commandType)
+    {
+        return ((long) requestStreamId << 32) | commandType.ordinal();
+    }
+
+    protected static int slotOffset(int requestStreamId, long requestId)
+    {
+        long hash = requestId * 31 + requestStreamId;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return (int) (hash & (IN_FLIGHT_CAPACITY - 1)) * SLOT_LENGTH;
+    }
+}
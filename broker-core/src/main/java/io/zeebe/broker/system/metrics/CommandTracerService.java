@@ -0,0 +1,55 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.servicecontainer.Injector;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+
+public class CommandTracerService implements Service<CommandTracer>
+{
+    protected final Injector<Counters> countersInjector = new Injector<>();
+
+    protected CommandTracer commandTracer;
+
+    @Override
+    public void start(ServiceStartContext startContext)
+    {
+        final Counters counters = countersInjector.getValue();
+        commandTracer = new CommandTracer(counters);
+    }
+
+    @Override
+    public void stop(ServiceStopContext stopContext)
+    {
+        commandTracer.close();
+    }
+
+    @Override
+    public CommandTracer get()
+    {
+        return commandTracer;
+    }
+
+    public Injector<Counters> getCountersInjector()
+    {
+        return countersInjector;
+    }
+}
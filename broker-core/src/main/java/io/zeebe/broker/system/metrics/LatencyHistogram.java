@@ -0,0 +1,138 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import io.zeebe.broker.services.Counters;
+
+/**
+ * Records latencies in buckets of exponentially growing size (power of two
+ * microseconds). Each bucket is a counter in the memory-mapped counters file,
+ * so the distribution can be read by an external tool while the broker is running.
+ * Recording is lock-free and allocation-free.
+ */
+public class LatencyHistogram implements AutoCloseable
+{
+    /**
+     * bucket <code>i</code> counts latencies in <code>[2^i, 2^(i + 1))</code> microseconds;
+     * the last bucket (~35 minutes) counts everything above
+     */
+    public static final int BUCKET_COUNT = 32;
+
+    protected final Counters counters;
+
+    protected final AtomicCounter[] buckets = new AtomicCounter[BUCKET_COUNT];
+    protected final AtomicCounter count;
+    protected final AtomicCounter sum;
+
+    public LatencyHistogram(Counters counters, String name)
+    {
+        this.counters = counters;
+
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            buckets[i] = counters.newCounter(String.format("%s.latency.lt_%dus", name, upperBoundOfBucket(i)));
+        }
+
+        count = counters.newCounter(name + ".latency.count");
+        sum = counters.newCounter(name + ".latency.sumUs");
+    }
+
+    public void recordValue(long latency, TimeUnit timeUnit)
+    {
+        final long latencyInMicros = Math.max(0, timeUnit.toMicros(latency));
+
+        buckets[bucketOf(latencyInMicros)].increment();
+        count.increment();
+        sum.add(latencyInMicros);
+    }
+
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    public long getSumInMicros()
+    {
+        return sum.get();
+    }
+
+    /**
+     * @return the upper bound (exclusive) in microseconds of the bucket which contains
+     *         the given percentile, or <code>0</code> if no value is recorded
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        long totalCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            totalCount += buckets[i].get();
+        }
+
+        if (totalCount == 0)
+        {
+            return 0;
+        }
+
+        final long countAtPercentile = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+
+        long countToBucket = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            countToBucket += buckets[i].get();
+
+            if (countToBucket >= countAtPercentile)
+            {
+                return upperBoundOfBucket(i);
+            }
+        }
+
+        return upperBoundOfBucket(BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public void close()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            counters.free(buckets[i]);
+        }
+
+        counters.free(count);
+        counters.free(sum);
+    }
+
+    protected static int bucketOf(long latencyInMicros)
+    {
+        if (latencyInMicros == 0)
+        {
+            return 0;
+        }
+
+        final int bucket = 63 - Long.numberOfLeadingZeros(latencyInMicros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    protected static long upperBoundOfBucket(int bucket)
+    {
+        return 1L << (bucket + 1);
+    }
+}
@@ -27,7 +27,10 @@ import io.zeebe.util.buffer.BufferReader;
 
 public class CreditsRequest implements BufferReader
 {
-    protected static final int LENGTH = BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT;
+    protected static final int CREDITS_OFFSET = BitUtil.SIZE_OF_LONG;
+    protected static final int FIRST_PART_OFFSET = CREDITS_OFFSET + BitUtil.SIZE_OF_INT;
+
+    protected static final int LENGTH = FIRST_PART_OFFSET + BitUtil.SIZE_OF_INT;
     protected static final int TYPE = 42;
 
     protected UnsafeBuffer content = new UnsafeBuffer(new byte[LENGTH]);
@@ -66,12 +69,26 @@ public class CreditsRequest implements BufferReader
 
     public int getCredits()
     {
-        return content.getInt(BitUtil.SIZE_OF_LONG);
+        return content.getInt(CREDITS_OFFSET);
     }
 
     public void setCredits(int credits)
     {
-        this.content.putInt(BitUtil.SIZE_OF_LONG, credits);
+        this.content.putInt(CREDITS_OFFSET, credits);
+    }
+
+    /**
+     * @return the index of the first processor of a multi-type subscription which
+     *   gets a share of the credits; the processors before it already got their share
+     */
+    public int getFirstPart()
+    {
+        return content.getInt(FIRST_PART_OFFSET);
+    }
+
+    public void setFirstPart(int firstPart)
+    {
+        this.content.putInt(FIRST_PART_OFFSET, firstPart);
     }
 
     /**
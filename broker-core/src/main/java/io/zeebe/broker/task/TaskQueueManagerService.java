@@ -17,11 +17,9 @@
  */
 package io.zeebe.broker.task;
 
-import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.logStreamServiceName;
 import static io.zeebe.broker.logstreams.processor.StreamProcessorIds.TASK_EXPIRE_LOCK_STREAM_PROCESSOR_ID;
 import static io.zeebe.broker.logstreams.processor.StreamProcessorIds.TASK_QUEUE_STREAM_PROCESSOR_ID;
-import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
 import static io.zeebe.broker.task.TaskQueueServiceNames.TASK_QUEUE_STREAM_PROCESSOR_SERVICE_GROUP_NAME;
 import static io.zeebe.broker.task.TaskQueueServiceNames.taskQueueExpireLockStreamProcessorServiceName;
 import static io.zeebe.broker.task.TaskQueueServiceNames.taskQueueInstanceStreamProcessorServiceName;
@@ -95,11 +93,9 @@ public class TaskQueueManagerService implements Service<TaskQueueManager>, TaskQ
                 taskInstanceStreamProcessor)
                 .eventFilter(TaskInstanceStreamProcessor.eventFilter());
 
-        serviceContext.createService(streamProcessorServiceName, taskInstanceStreamProcessorService)
+        taskInstanceStreamProcessorService.createService(serviceContext, streamProcessorServiceName)
               .group(TASK_QUEUE_STREAM_PROCESSOR_SERVICE_GROUP_NAME)
               .dependency(logStreamServiceName, taskInstanceStreamProcessorService.getLogStreamInjector())
-              .dependency(SNAPSHOT_STORAGE_SERVICE, taskInstanceStreamProcessorService.getSnapshotStorageInjector())
-              .dependency(ACTOR_SCHEDULER_SERVICE, taskInstanceStreamProcessorService.getActorSchedulerInjector())
               .install();
 
         startExpireLockService(logName, logStreamServiceName);
@@ -118,10 +114,8 @@ public class TaskQueueManagerService implements Service<TaskQueueManager>, TaskQ
                 expireLockStreamProcessor)
                 .eventFilter(TaskExpireLockStreamProcessor.eventFilter());
 
-        serviceContext.createService(expireLockStreamProcessorServiceName, expireLockStreamProcessorService)
+        expireLockStreamProcessorService.createService(serviceContext, expireLockStreamProcessorServiceName)
             .dependency(logStreamServiceName, expireLockStreamProcessorService.getLogStreamInjector())
-            .dependency(SNAPSHOT_STORAGE_SERVICE, expireLockStreamProcessorService.getSnapshotStorageInjector())
-            .dependency(ACTOR_SCHEDULER_SERVICE, expireLockStreamProcessorService.getActorSchedulerInjector())
             .install()
             .thenRun(() ->
             {
@@ -17,17 +17,19 @@
  */
 package io.zeebe.broker.task;
 
-import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
 import static io.zeebe.broker.logstreams.processor.StreamProcessorIds.TASK_LOCK_STREAM_PROCESSOR_ID;
-import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
 import static io.zeebe.broker.task.TaskQueueServiceNames.taskQueueLockStreamProcessorServiceName;
+import static io.zeebe.util.EnsureUtil.ensureGreaterThan;
 import static io.zeebe.util.EnsureUtil.ensureNotNull;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -42,6 +44,7 @@ import io.zeebe.broker.logstreams.processor.StreamProcessorService;
 import io.zeebe.broker.task.processor.LockTaskStreamProcessor;
 import io.zeebe.broker.task.processor.TaskSubscription;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.processor.EventFilter;
 import io.zeebe.logstreams.processor.StreamProcessorController;
 import io.zeebe.servicecontainer.ServiceName;
 import io.zeebe.servicecontainer.ServiceStartContext;
@@ -62,7 +65,8 @@ public class TaskSubscriptionManager implements Actor, TransportListener
     protected final Function<DirectBuffer, LockTaskStreamProcessor> streamProcessorSupplier;
 
     protected final Int2ObjectHashMap<LogStreamBucket> logStreamBuckets = new Int2ObjectHashMap<>();
-    protected final Long2ObjectHashMap<LockTaskStreamProcessor> streamProcessorBySubscriptionId = new Long2ObjectHashMap<>();
+    // a subscription is handled by multiple processors if its task types overlap with the ones of other subscriptions
+    protected final Long2ObjectHashMap<List<LockTaskStreamProcessor>> streamProcessorsBySubscriptionId = new Long2ObjectHashMap<>();
 
     protected final DeferredCommandContext asyncContext = new DeferredCommandContext(NUM_CONCURRENT_REQUESTS);
 
@@ -80,6 +84,7 @@ public class TaskSubscriptionManager implements Actor, TransportListener
     protected final CreditsRequestBuffer creditRequestBuffer;
     protected final CompactList backPressuredCreditsRequests;
     protected final CreditsRequest creditsRequest = new CreditsRequest();
+    protected final CreditsRequest creditsShareRequest = new CreditsRequest();
 
     protected long nextSubscriptionId = 0;
 
@@ -146,6 +151,14 @@ public class TaskSubscriptionManager implements Actor, TransportListener
 
             ensureNotNull("lock task type", taskType);
 
+            final List<DirectBuffer> taskTypes = subscription.getLockTaskTypes();
+
+            if (taskTypes.size() > 1)
+            {
+                // the parts of a multi-type subscription can have no credits, so the processors can't validate them
+                ensureGreaterThan("subscription credits", subscription.getCredits(), 0);
+            }
+
             final int partitionId = subscription.getPartitionId();
 
             final LogStreamBucket logStreamBucket = logStreamBuckets.get(partitionId);
@@ -158,33 +171,156 @@ public class TaskSubscriptionManager implements Actor, TransportListener
             final long subscriptionId = nextSubscriptionId++;
             subscription.setSubscriberKey(subscriptionId);
 
-            final LockTaskStreamProcessor streamProcessor = logStreamBucket.getStreamProcessorByTaskType(taskType);
-            if (streamProcessor != null)
-            {
-                streamProcessorBySubscriptionId.put(subscriptionId, streamProcessor);
+            final List<LockTaskStreamProcessor> streamProcessors = new ArrayList<>();
+            streamProcessorsBySubscriptionId.put(subscriptionId, streamProcessors);
 
-                streamProcessor
-                    .addSubscription(subscription)
+            if (taskTypes.size() == 1)
+            {
+                addSubscription(logStreamBucket, streamProcessors, subscription, logStreamBucket.getStreamProcessorByTaskType(taskType))
                     .handle((r, t) -> t == null ? future.complete(null) : future.completeExceptionally(t));
             }
             else
             {
-                createStreamProcessorService(logStreamBucket, taskType)
-                    .thenCompose(processor ->
+                addMultiTypeSubscription(logStreamBucket, streamProcessors, subscription)
+                    .handle((r, t) ->
                     {
-                        streamProcessorBySubscriptionId.put(subscriptionId, processor);
+                        if (t == null)
+                        {
+                            future.complete(null);
+                        }
+                        else
+                        {
+                            // remove the parts which were added successfully
+                            removeSubscription(subscriptionId);
+                            future.completeExceptionally(t);
+                        }
+                        return null;
+                    });
+            }
+        });
+    }
 
-                        logStreamBucket.addStreamProcessor(processor);
+    /**
+     * Adds the subscription to the given processor or to a new one, if the processor is <code>null</code>.
+     */
+    protected CompletableFuture<Void> addSubscription(
+            final LogStreamBucket logStreamBucket,
+            final List<LockTaskStreamProcessor> streamProcessors,
+            final TaskSubscription subscription,
+            final LockTaskStreamProcessor streamProcessor)
+    {
+        if (streamProcessor != null)
+        {
+            streamProcessors.add(streamProcessor);
 
-                        return processor.addSubscription(subscription);
-                    })
-                    .handle((r, t) -> t == null ? future.complete(null) : future.completeExceptionally(t));
+            return streamProcessor.addSubscription(subscription);
+        }
+        else
+        {
+            return createStreamProcessorService(logStreamBucket, subscription.getLockTaskTypes())
+                .thenCompose(processor ->
+                {
+                    streamProcessors.add(processor);
+
+                    logStreamBucket.addStreamProcessor(processor);
+
+                    return processor.addSubscription(subscription);
+                });
+        }
+    }
+
+    /**
+     * A task type is handled by at most one processor. The task types of a multi-type subscription
+     * can already be handled by different processors, so the subscription is added to each of them
+     * (limited to the types it handles). The remaining types are handled by a new processor. The
+     * credits are split between the processors.
+     */
+    protected CompletableFuture<Void> addMultiTypeSubscription(
+            final LogStreamBucket logStreamBucket,
+            final List<LockTaskStreamProcessor> streamProcessors,
+            final TaskSubscription subscription)
+    {
+        final List<DirectBuffer> taskTypes = subscription.getLockTaskTypes();
+
+        final Map<LockTaskStreamProcessor, List<DirectBuffer>> taskTypesByProcessor = new LinkedHashMap<>();
+        final List<DirectBuffer> unhandledTaskTypes = new ArrayList<>();
+
+        for (int i = 0; i < taskTypes.size(); i++)
+        {
+            final DirectBuffer taskType = taskTypes.get(i);
+            final LockTaskStreamProcessor streamProcessor = logStreamBucket.getStreamProcessorByTaskType(taskType);
+
+            if (streamProcessor != null)
+            {
+                taskTypesByProcessor.computeIfAbsent(streamProcessor, p -> new ArrayList<>()).add(taskType);
             }
-        });
+            else
+            {
+                unhandledTaskTypes.add(taskType);
+            }
+        }
+
+        final int parts = taskTypesByProcessor.size() + (unhandledTaskTypes.isEmpty() ? 0 : 1);
+
+        if (parts == 1)
+        {
+            final LockTaskStreamProcessor streamProcessor = unhandledTaskTypes.isEmpty() ? taskTypesByProcessor.keySet().iterator().next() : null;
+
+            return addSubscription(logStreamBucket, streamProcessors, subscription, streamProcessor);
+        }
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[parts];
+        int part = 0;
+
+        for (Entry<LockTaskStreamProcessor, List<DirectBuffer>> entry : taskTypesByProcessor.entrySet())
+        {
+            final TaskSubscription partialSubscription = partialSubscription(subscription, entry.getValue(), creditsShare(subscription.getCredits(), parts, part));
+
+            futures[part] = addSubscription(logStreamBucket, streamProcessors, partialSubscription, entry.getKey());
+            part += 1;
+        }
+
+        if (!unhandledTaskTypes.isEmpty())
+        {
+            final TaskSubscription partialSubscription = partialSubscription(subscription, unhandledTaskTypes, creditsShare(subscription.getCredits(), parts, part));
+
+            futures[part] = addSubscription(logStreamBucket, streamProcessors, partialSubscription, null);
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    protected static TaskSubscription partialSubscription(TaskSubscription subscription, List<DirectBuffer> taskTypes, int credits)
+    {
+        final TaskSubscription partialSubscription = new TaskSubscription(
+                subscription.getPartitionId(),
+                taskTypes,
+                subscription.getLockDuration(),
+                subscription.getLockOwner(),
+                subscription.getStreamId());
+
+        partialSubscription.setSubscriberKey(subscription.getSubscriberKey());
+        partialSubscription.setCredits(credits);
+        partialSubscription.setPartial(true);
+
+        return partialSubscription;
     }
 
-    protected CompletableFuture<LockTaskStreamProcessor> createStreamProcessorService(final LogStreamBucket logStreamBucket, final DirectBuffer taskType)
+    /**
+     * Splits the credits evenly, the remainder goes to the first parts. A part can get no credits
+     * if the subscription has fewer credits than parts, so that the client never gets more tasks
+     * than it has requested.
+     */
+    protected static int creditsShare(int credits, int parts, int part)
     {
+        return credits / parts + (part < credits % parts ? 1 : 0);
+    }
+
+    protected CompletableFuture<LockTaskStreamProcessor> createStreamProcessorService(final LogStreamBucket logStreamBucket, final List<DirectBuffer> taskTypes)
+    {
+        // the service is named after the first task type; this is unique as a task type is handled by at most one processor
+        final DirectBuffer taskType = taskTypes.get(0);
+
         final CompletableFuture<LockTaskStreamProcessor> future = new CompletableFuture<>();
 
         final ServiceName<LogStream> logStreamServiceName = logStreamBucket.getLogServiceName();
@@ -197,17 +333,37 @@ public class TaskSubscriptionManager implements Actor, TransportListener
         final DirectBuffer newTaskTypeBuffer = cloneBuffer(taskType);
 
         final LockTaskStreamProcessor streamProcessor = streamProcessorSupplier.apply(newTaskTypeBuffer);
+
+        final EventFilter reprocessingEventFilter;
+        if (taskTypes.size() == 1)
+        {
+            reprocessingEventFilter = LockTaskStreamProcessor.reprocessingEventFilter(newTaskTypeBuffer);
+        }
+        else
+        {
+            final Set<DirectBuffer> taskTypeSet = new HashSet<>();
+            taskTypeSet.add(newTaskTypeBuffer);
+
+            for (int i = 1; i < taskTypes.size(); i++)
+            {
+                final DirectBuffer additionalTaskType = cloneBuffer(taskTypes.get(i));
+
+                streamProcessor.addSubscribedTaskType(additionalTaskType);
+                taskTypeSet.add(additionalTaskType);
+            }
+
+            reprocessingEventFilter = LockTaskStreamProcessor.reprocessingEventFilter(taskTypeSet);
+        }
+
         final StreamProcessorService streamProcessorService = new StreamProcessorService(
                 streamProcessorName,
                 TASK_LOCK_STREAM_PROCESSOR_ID,
                 streamProcessor)
             .eventFilter(LockTaskStreamProcessor.eventFilter())
-            .reprocessingEventFilter(LockTaskStreamProcessor.reprocessingEventFilter(newTaskTypeBuffer));
+            .reprocessingEventFilter(reprocessingEventFilter);
 
-        serviceContext.createService(streamProcessorServiceName, streamProcessorService)
+        streamProcessorService.createService(serviceContext, streamProcessorServiceName)
             .dependency(logStreamServiceName, streamProcessorService.getLogStreamInjector())
-            .dependency(SNAPSHOT_STORAGE_SERVICE, streamProcessorService.getSnapshotStorageInjector())
-            .dependency(ACTOR_SCHEDULER_SERVICE, streamProcessorService.getActorSchedulerInjector())
             .install()
             .handle((r, t) -> t == null ? future.complete(streamProcessor) : future.completeExceptionally(t));
 
@@ -218,12 +374,21 @@ public class TaskSubscriptionManager implements Actor, TransportListener
     {
         return asyncContext.runAsync(future ->
         {
-            final LockTaskStreamProcessor streamProcessor = streamProcessorBySubscriptionId.remove(subscriptionId);
-            if (streamProcessor != null)
+            final List<LockTaskStreamProcessor> streamProcessors = streamProcessorsBySubscriptionId.remove(subscriptionId);
+            if (streamProcessors != null && !streamProcessors.isEmpty())
             {
-                streamProcessor
-                    .removeSubscription(subscriptionId)
-                    .thenCompose(hasSubscriptions -> !hasSubscriptions ? removeStreamProcessorService(streamProcessor) : CompletableFuture.completedFuture(null))
+                final CompletableFuture<?>[] futures = new CompletableFuture<?>[streamProcessors.size()];
+
+                for (int i = 0; i < streamProcessors.size(); i++)
+                {
+                    final LockTaskStreamProcessor streamProcessor = streamProcessors.get(i);
+
+                    futures[i] = streamProcessor
+                        .removeSubscription(subscriptionId)
+                        .thenCompose(hasSubscriptions -> !hasSubscriptions ? removeStreamProcessorService(streamProcessor) : CompletableFuture.completedFuture(null));
+                }
+
+                CompletableFuture.allOf(futures)
                     .handle((r, t) -> t == null ? future.complete(null) : future.completeExceptionally(t));
             }
             else
@@ -252,20 +417,55 @@ public class TaskSubscriptionManager implements Actor, TransportListener
     }
 
     /**
+     * Dispatches the credits to the processors of the subscription. If a processor of a multi-type
+     * subscription is back pressured, the request is updated to contain only the shares of this and
+     * the following processors, so that a retry doesn't grant the other shares twice.
+     *
      * @param request
      * @return if request was handled
      */
     protected boolean dispatchSubscriptionCredits(CreditsRequest request)
     {
-        final LockTaskStreamProcessor streamProcessor = streamProcessorBySubscriptionId.get(request.getSubscriberKey());
+        final List<LockTaskStreamProcessor> streamProcessors = streamProcessorsBySubscriptionId.get(request.getSubscriberKey());
 
-        if (streamProcessor != null)
+        if (streamProcessors == null || streamProcessors.isEmpty())
         {
-            return streamProcessor.increaseSubscriptionCreditsAsync(request);
+            // ignore
+            return true;
+        }
+        else if (streamProcessors.size() == 1)
+        {
+            return streamProcessors.get(0).increaseSubscriptionCreditsAsync(request);
         }
         else
         {
-            // ignore
+            // split the credits like on subscribing
+            final int firstPart = request.getFirstPart();
+            final int parts = streamProcessors.size() - firstPart;
+
+            int remainingCredits = request.getCredits();
+
+            for (int i = 0; i < parts; i++)
+            {
+                final int share = creditsShare(request.getCredits(), parts, i);
+
+                if (share > 0)
+                {
+                    creditsShareRequest.setSubscriberKey(request.getSubscriberKey());
+                    creditsShareRequest.setCredits(share);
+
+                    if (!streamProcessors.get(firstPart + i).increaseSubscriptionCreditsAsync(creditsShareRequest))
+                    {
+                        request.setFirstPart(firstPart + i);
+                        request.setCredits(remainingCredits);
+
+                        return false;
+                    }
+
+                    remainingCredits -= share;
+                }
+            }
+
             return true;
         }
     }
@@ -293,6 +493,9 @@ public class TaskSubscriptionManager implements Actor, TransportListener
             }
             else
             {
+                // replace the request by the remaining shares
+                backPressuredCreditsRequests.remove(nextRequestToConsume);
+                creditsRequest.appendTo(backPressuredCreditsRequests);
                 break;
             }
         }
@@ -317,11 +520,12 @@ public class TaskSubscriptionManager implements Actor, TransportListener
 
     protected void removeSubscriptionsForLogStream(final int partitionId)
     {
-        final Set<Entry<Long, LockTaskStreamProcessor>> entrySet = streamProcessorBySubscriptionId.entrySet();
-        for (Entry<Long, LockTaskStreamProcessor> entry : entrySet)
+        final Set<Entry<Long, List<LockTaskStreamProcessor>>> entrySet = streamProcessorsBySubscriptionId.entrySet();
+        for (Entry<Long, List<LockTaskStreamProcessor>> entry : entrySet)
         {
-            final LockTaskStreamProcessor streamProcessor = entry.getValue();
-            if (partitionId == streamProcessor.getLogStreamPartitionId())
+            // all processors of a subscription belong to the same partition
+            final List<LockTaskStreamProcessor> streamProcessors = entry.getValue();
+            if (!streamProcessors.isEmpty() && partitionId == streamProcessors.get(0).getLogStreamPartitionId())
             {
                 entrySet.remove(entry);
             }
@@ -332,13 +536,17 @@ public class TaskSubscriptionManager implements Actor, TransportListener
     {
         asyncContext.runAsync(() ->
         {
-            final Iterator<LockTaskStreamProcessor> processorIt = streamProcessorBySubscriptionId.values().iterator();
-            while (processorIt.hasNext())
+            final Iterator<List<LockTaskStreamProcessor>> processorsIt = streamProcessorsBySubscriptionId.values().iterator();
+            while (processorsIt.hasNext())
             {
-                final LockTaskStreamProcessor processor = processorIt.next();
-                processor
-                    .onClientChannelCloseAsync(channelId)
-                    .thenCompose(hasSubscriptions -> !hasSubscriptions ? removeStreamProcessorService(processor) : CompletableFuture.completedFuture(null));
+                final List<LockTaskStreamProcessor> processors = processorsIt.next();
+                for (int i = 0; i < processors.size(); i++)
+                {
+                    final LockTaskStreamProcessor processor = processors.get(i);
+                    processor
+                        .onClientChannelCloseAsync(channelId)
+                        .thenCompose(hasSubscriptions -> !hasSubscriptions ? removeStreamProcessorService(processor) : CompletableFuture.completedFuture(null));
+                }
             }
         });
     }
@@ -382,7 +590,8 @@ public class TaskSubscriptionManager implements Actor, TransportListener
             {
                 final LockTaskStreamProcessor streamProcessor = streamProcessors.get(current);
 
-                if (BufferUtil.equals(taskType, streamProcessor.getSubscriptedTaskType()))
+                if (BufferUtil.equals(taskType, streamProcessor.getSubscriptedTaskType())
+                        || streamProcessor.isSubscribedToTaskType(taskType))
                 {
                     streamProcessorForType = streamProcessor;
                 }
@@ -19,9 +19,14 @@ package io.zeebe.broker.task.processor;
 
 import static io.zeebe.protocol.clientapi.EventType.TASK_EVENT;
 import static io.zeebe.util.EnsureUtil.ensureGreaterThan;
+import static io.zeebe.util.EnsureUtil.ensureGreaterThanOrEqual;
 import static io.zeebe.util.EnsureUtil.ensureLessThanOrEqual;
 import static io.zeebe.util.EnsureUtil.ensureNotNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.agrona.DirectBuffer;
@@ -63,6 +68,11 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
 
     protected final DirectBuffer subscribedTaskType;
 
+    // all task types handled by this processor, including the subscribed task type;
+    // a processor handles multiple types if it was created for a multi-type subscription
+    protected final List<DirectBuffer> subscribedTaskTypes = new ArrayList<>();
+    protected final Set<DirectBuffer> subscribedTaskTypeSet = new HashSet<>();
+
     protected int logStreamPartitionId;
 
     protected LogStream targetStream;
@@ -79,6 +89,8 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
     public LockTaskStreamProcessor(DirectBuffer taskType)
     {
         this.subscribedTaskType = taskType;
+        this.subscribedTaskTypes.add(taskType);
+        this.subscribedTaskTypeSet.add(taskType);
         this.taskDistributionIterator = subscriptions.iterator();
         this.managementIterator = subscriptions.iterator();
     }
@@ -103,6 +115,34 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
         return subscribedTaskType;
     }
 
+    /**
+     * Adds a further task type to handle. Must only be invoked before the processor is opened.
+     */
+    public void addSubscribedTaskType(DirectBuffer taskType)
+    {
+        if (subscribedTaskTypeSet.add(taskType))
+        {
+            subscribedTaskTypes.add(taskType);
+        }
+    }
+
+    public List<DirectBuffer> getSubscribedTaskTypes()
+    {
+        return subscribedTaskTypes;
+    }
+
+    public boolean isSubscribedToTaskType(DirectBuffer taskType)
+    {
+        if (subscribedTaskTypes.size() == 1)
+        {
+            return BufferUtil.equals(taskType, subscribedTaskType);
+        }
+        else
+        {
+            return subscribedTaskTypeSet.contains(taskType);
+        }
+    }
+
     public int getLogStreamPartitionId()
     {
         return logStreamPartitionId;
@@ -127,12 +167,24 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
         ensureGreaterThan("length of lock owner", subscription.getLockOwner().capacity(), 0);
         ensureLessThanOrEqual("length of lock owner", subscription.getLockOwner().capacity(), TaskSubscription.LOCK_OWNER_MAX_LENGTH);
         ensureGreaterThan("lock duration", subscription.getLockDuration(), 0);
-        ensureGreaterThan("subscription credits", subscription.getCredits(), 0);
+        if (subscription.isPartial())
+        {
+            // a part of a multi-type subscription can have no credits, see TaskSubscriptionManager
+            ensureGreaterThanOrEqual("subscription credits", subscription.getCredits(), 0);
+        }
+        else
+        {
+            ensureGreaterThan("subscription credits", subscription.getCredits(), 0);
+        }
 
-        if (!BufferUtil.equals(subscription.getLockTaskType(), subscribedTaskType))
+        final List<DirectBuffer> lockTaskTypes = subscription.getLockTaskTypes();
+        for (int i = 0; i < lockTaskTypes.size(); i++)
         {
-            final String errorMessage = String.format("Subscription task type is not equal to '%s'.", BufferUtil.bufferAsString(subscribedTaskType));
-            throw new RuntimeException(errorMessage);
+            if (!isSubscribedToTaskType(lockTaskTypes.get(i)))
+            {
+                final String errorMessage = String.format("Subscription task type is not equal to '%s'.", BufferUtil.bufferAsString(subscribedTaskType));
+                throw new RuntimeException(errorMessage);
+            }
         }
 
         return cmdQueue.runAsync(future ->
@@ -191,7 +243,7 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
         isSuspended = false;
     }
 
-    protected TaskSubscription getNextAvailableSubscription()
+    protected TaskSubscription getNextAvailableSubscription(DirectBuffer taskType)
     {
         TaskSubscription nextSubscription = null;
 
@@ -209,7 +261,7 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
                 }
 
                 final TaskSubscription subscription = taskDistributionIterator.next();
-                if (subscription.getCredits() > 0)
+                if (subscription.getCredits() > 0 && subscription.isSubscribedTo(taskType))
                 {
                     nextSubscription = subscription;
                 }
@@ -238,6 +290,19 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
         };
     }
 
+    public static final EventFilter reprocessingEventFilter(final Set<DirectBuffer> taskTypes)
+    {
+        final TaskEvent taskEvent = new TaskEvent();
+
+        return event ->
+        {
+            taskEvent.reset();
+            event.readValue(taskEvent);
+
+            return taskTypes.contains(taskEvent.getType());
+        };
+    }
+
     @Override
     public EventProcessor onEvent(LoggedEvent event)
     {
@@ -248,7 +313,7 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
 
         EventProcessor eventProcessor = null;
 
-        if (BufferUtil.equals(taskEvent.getType(), subscribedTaskType))
+        if (isSubscribedToTaskType(taskEvent.getType()))
         {
             switch (taskEvent.getState())
             {
@@ -273,7 +338,7 @@ public class LockTaskStreamProcessor implements StreamProcessor, EventProcessor
 
         if (taskEvent.getRetries() > 0)
         {
-            lockSubscription = getNextAvailableSubscription();
+            lockSubscription = getNextAvailableSubscription(taskEvent.getType());
             if (lockSubscription != null)
             {
                 final long lockTimeout = ClockUtil.getCurrentTimeInMillis() + lockSubscription.getLockDuration();
@@ -19,8 +19,16 @@ package io.zeebe.broker.task.processor;
 
 import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.agrona.DirectBuffer;
 
+import io.zeebe.util.buffer.BufferUtil;
+
 public class TaskSubscription
 {
     public static final int LOCK_OWNER_MAX_LENGTH = 64;
@@ -29,6 +37,10 @@ public class TaskSubscription
 
     private final DirectBuffer lockTaskType;
 
+    // all task types of the subscription, including the lock task type
+    private final List<DirectBuffer> lockTaskTypes;
+    private final Set<DirectBuffer> lockTaskTypeSet;
+
     private final long lockDuration;
     private final DirectBuffer lockOwner;
 
@@ -38,13 +50,40 @@ public class TaskSubscription
 
     private int credits;
 
+    private boolean isPartial;
+
     public TaskSubscription(int partitionId, DirectBuffer lockTaskType, long lockDuration, DirectBuffer lockOwner, int streamId)
+    {
+        this(partitionId, Collections.singletonList(lockTaskType), lockDuration, lockOwner, streamId);
+    }
+
+    /**
+     * Creates a subscription which covers multiple task types and shares its credits between them.
+     */
+    public TaskSubscription(int partitionId, List<DirectBuffer> lockTaskTypes, long lockDuration, DirectBuffer lockOwner, int streamId)
     {
         this.partitionId = partitionId;
-        this.lockTaskType = cloneBuffer(lockTaskType);
         this.lockDuration = lockDuration;
         this.lockOwner = cloneBuffer(lockOwner);
         this.streamId = streamId;
+
+        this.lockTaskTypes = new ArrayList<>(lockTaskTypes.size());
+        this.lockTaskTypeSet = new HashSet<>();
+
+        for (int i = 0; i < lockTaskTypes.size(); i++)
+        {
+            final DirectBuffer taskType = lockTaskTypes.get(i);
+
+            if (taskType != null && !lockTaskTypeSet.contains(taskType))
+            {
+                final DirectBuffer clonedTaskType = cloneBuffer(taskType);
+
+                this.lockTaskTypeSet.add(clonedTaskType);
+                this.lockTaskTypes.add(clonedTaskType);
+            }
+        }
+
+        this.lockTaskType = this.lockTaskTypes.isEmpty() ? null : this.lockTaskTypes.get(0);
     }
 
     public int getCredits()
@@ -57,6 +96,20 @@ public class TaskSubscription
         this.credits = credits;
     }
 
+    /**
+     * @return <code>true</code> if this is the part of a multi-type subscription
+     *   which is handled by one processor
+     */
+    public boolean isPartial()
+    {
+        return isPartial;
+    }
+
+    public void setPartial(boolean isPartial)
+    {
+        this.isPartial = isPartial;
+    }
+
     public long getSubscriberKey()
     {
         return subscriberKey;
@@ -67,6 +120,23 @@ public class TaskSubscription
         return lockTaskType;
     }
 
+    public List<DirectBuffer> getLockTaskTypes()
+    {
+        return lockTaskTypes;
+    }
+
+    public boolean isSubscribedTo(DirectBuffer taskType)
+    {
+        if (lockTaskTypes.size() == 1)
+        {
+            return BufferUtil.equals(lockTaskType, taskType);
+        }
+        else
+        {
+            return lockTaskTypeSet.contains(taskType);
+        }
+    }
+
     public long getLockDuration()
     {
         return lockDuration;
@@ -19,6 +19,9 @@ package io.zeebe.broker.task.processor;
 
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.*;
+import io.zeebe.msgpack.value.ArrayValue;
+import io.zeebe.msgpack.value.StringValue;
+import io.zeebe.msgpack.value.ValueArray;
 import org.agrona.DirectBuffer;
 
 public class TaskSubscriptionRequest extends UnpackedObject
@@ -27,6 +30,11 @@ public class TaskSubscriptionRequest extends UnpackedObject
 
     protected StringProperty taskTypeProp = new StringProperty("taskType", "");
 
+    // optional; additional task types covered by the same subscription
+    protected ArrayProperty<StringValue> taskTypesProp = new ArrayProperty<>("taskTypes",
+        ArrayValue.emptyArray(),
+        new StringValue());
+
     protected LongProperty lockDurationProp = new LongProperty("lockDuration", -1);
     protected StringProperty lockOwnerProp = new StringProperty("lockOwner", "default");
 
@@ -36,6 +44,7 @@ public class TaskSubscriptionRequest extends UnpackedObject
     {
         this.declareProperty(subscriberKeyProp)
             .declareProperty(taskTypeProp)
+            .declareProperty(taskTypesProp)
             .declareProperty(lockDurationProp)
             .declareProperty(lockOwnerProp)
             .declareProperty(creditsProp);
@@ -81,6 +90,11 @@ public class TaskSubscriptionRequest extends UnpackedObject
         return taskTypeProp.getValue();
     }
 
+    public ValueArray<StringValue> taskTypes()
+    {
+        return taskTypesProp;
+    }
+
     public long getLockDuration()
     {
         return lockDurationProp.getValue();
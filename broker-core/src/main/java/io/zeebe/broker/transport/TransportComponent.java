@@ -18,6 +18,7 @@
 package io.zeebe.broker.transport;
 
 import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
+import static io.zeebe.broker.system.SystemServiceNames.COMMAND_TRACER_SERVICE;
 import static io.zeebe.broker.system.SystemServiceNames.COUNTERS_MANAGER_SERVICE;
 import static io.zeebe.broker.transport.TransportServiceNames.CLIENT_API_MESSAGE_HANDLER;
 import static io.zeebe.broker.transport.TransportServiceNames.CLIENT_API_SERVER_NAME;
@@ -101,6 +102,8 @@ public class TransportComponent implements Component
         final ClientApiMessageHandlerService messageHandlerService = new ClientApiMessageHandlerService();
         serviceContainer.createService(CLIENT_API_MESSAGE_HANDLER, messageHandlerService)
             .dependency(controlMessageBufferService, messageHandlerService.getControlMessageBufferInjector())
+            .dependency(COUNTERS_MANAGER_SERVICE, messageHandlerService.getCountersInjector())
+            .dependency(COMMAND_TRACER_SERVICE, messageHandlerService.getCommandTracerInjector())
             .groupReference(LogStreamServiceNames.WORKFLOW_STREAM_GROUP, messageHandlerService.getLogStreamsGroupReference())
             .groupReference(LogStreamServiceNames.SYSTEM_STREAM_GROUP, messageHandlerService.getLogStreamsGroupReference())
             .install();
@@ -28,6 +28,7 @@ import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import io.zeebe.broker.event.processor.TopicSubscriberEvent;
 import io.zeebe.broker.event.processor.TopicSubscriptionEvent;
 import io.zeebe.broker.system.log.TopicEvent;
+import io.zeebe.broker.system.metrics.CommandTracer;
 import io.zeebe.broker.task.data.TaskEvent;
 import io.zeebe.broker.transport.controlmessage.ControlMessageRequestHeaderDescriptor;
 import io.zeebe.broker.workflow.data.DeploymentEvent;
@@ -71,9 +72,17 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
 
     protected final EnumMap<EventType, UnpackedObject> eventsByType = new EnumMap<>(EventType.class);
 
-    public ClientApiMessageHandler(final Dispatcher controlMessageDispatcher)
+    protected final ClientApiMetrics metrics;
+    protected final CommandTracer commandTracer;
+
+    // true if the current request is answered with an error response
+    protected boolean isRejected;
+
+    public ClientApiMessageHandler(final Dispatcher controlMessageDispatcher, final ClientApiMetrics metrics, final CommandTracer commandTracer)
     {
         this.controlMessageDispatcher = controlMessageDispatcher;
+        this.metrics = metrics;
+        this.commandTracer = commandTracer;
 
         initEventTypeMap();
     }
@@ -95,7 +104,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
             final BrokerEventMetadata eventMetadata,
             final DirectBuffer buffer,
             final int messageOffset,
-            final int messageLength)
+            final int messageLength,
+            final long receivedTime)
     {
         executeCommandRequestDecoder.wrap(buffer, messageOffset + messageHeaderDecoder.encodedLength(), messageHeaderDecoder.blockLength(), messageHeaderDecoder.version());
 
@@ -106,6 +116,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
 
         if (logStream == null)
         {
+            isRejected = true;
+
             return errorResponseWriter
                 .errorCode(ErrorCode.PARTITION_NOT_FOUND)
                 .errorMessage("Cannot execute command. Partition with id '%d' not found", partitionId)
@@ -118,6 +130,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
 
         if (event == null)
         {
+            isRejected = true;
+
             return errorResponseWriter
                     .errorCode(ErrorCode.MESSAGE_NOT_SUPPORTED)
                     .errorMessage("Cannot execute command. Invalid event type '%s'.", eventType.name())
@@ -137,6 +151,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
         }
         catch (Throwable t)
         {
+            isRejected = true;
+
             return errorResponseWriter
                     .errorCode(ErrorCode.INVALID_MESSAGE)
                     .errorMessage("Cannot deserialize command: '%s'.", concatErrorMessages(t))
@@ -162,7 +178,14 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
                 .value(buffer, eventOffset, eventLength)
                 .tryWrite();
 
-        return eventPosition >= 0;
+        final boolean isWritten = eventPosition >= 0;
+
+        if (isWritten)
+        {
+            commandTracer.commandAppended(requestAddress.getStreamId(), requestId, eventType, receivedTime);
+        }
+
+        return isWritten;
     }
 
     private String concatErrorMessages(Throwable t)
@@ -233,8 +256,12 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
     public boolean onRequest(ServerOutput output, RemoteAddress remoteAddress, DirectBuffer buffer, int offset,
             int length, long requestId)
     {
+        final long receivedTime = System.nanoTime();
+
         drainCommandQueue();
 
+        isRejected = false;
+
         messageHeaderDecoder.wrap(buffer, offset);
 
         final int templateId = messageHeaderDecoder.templateId();
@@ -243,11 +270,17 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
 
         if (clientVersion > Protocol.PROTOCOL_VERSION)
         {
-            return errorResponseWriter
+            isRejected = true;
+
+            final boolean isWritten = errorResponseWriter
                 .errorCode(ErrorCode.INVALID_CLIENT_VERSION)
                 .errorMessage("Client has newer version than broker (%d > %d)", clientVersion, Protocol.PROTOCOL_VERSION)
                 .failedRequest(buffer, offset, length)
                 .tryWriteResponse(output, remoteAddress.getStreamId(), requestId);
+
+            countRequest(templateId, isWritten);
+
+            return isWritten;
         }
 
         eventMetadata.reset();
@@ -267,7 +300,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
                         eventMetadata,
                         buffer,
                         offset,
-                        length);
+                        length,
+                        receivedTime);
                 break;
 
             case ControlMessageRequestDecoder.TEMPLATE_ID:
@@ -275,6 +309,8 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
                 break;
 
             default:
+                isRejected = true;
+
                 isHandled = errorResponseWriter
                         .errorCode(ErrorCode.MESSAGE_NOT_SUPPORTED)
                         .errorMessage("Cannot handle message. Template id '%d' is not supported.", templateId)
@@ -283,9 +319,40 @@ public class ClientApiMessageHandler implements ServerMessageHandler, ServerRequ
                 break;
         }
 
+        countRequest(templateId, isHandled);
+
         return isHandled;
     }
 
+    /**
+     * Counts a handled request in exactly one of the buckets command, control message or rejected.
+     * A request which is not handled is retried by the transport. If the log, the control message
+     * buffer or the send buffer is full, the attempt is counted as back-pressured. A rejected request
+     * whose error response could not be sent is only counted once the response is sent.
+     */
+    protected void countRequest(int templateId, boolean isHandled)
+    {
+        if (isRejected)
+        {
+            if (isHandled)
+            {
+                metrics.incrementRejectedRequests();
+            }
+        }
+        else if (!isHandled)
+        {
+            metrics.incrementBackpressuredRequests();
+        }
+        else if (templateId == ExecuteCommandRequestDecoder.TEMPLATE_ID)
+        {
+            metrics.incrementCommandRequests();
+        }
+        else
+        {
+            metrics.incrementControlMessageRequests();
+        }
+    }
+
     @Override
     public boolean onMessage(ServerOutput output, RemoteAddress remoteAddress, DirectBuffer buffer, int offset,
             int length)
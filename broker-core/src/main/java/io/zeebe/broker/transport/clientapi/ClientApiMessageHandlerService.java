@@ -17,6 +17,8 @@
  */
 package io.zeebe.broker.transport.clientapi;
 
+import io.zeebe.broker.services.Counters;
+import io.zeebe.broker.system.metrics.CommandTracer;
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.servicecontainer.Injector;
@@ -28,7 +30,10 @@ import io.zeebe.servicecontainer.ServiceStopContext;
 public class ClientApiMessageHandlerService implements Service<ClientApiMessageHandler>
 {
     private final Injector<Dispatcher> controlMessageBufferInjector = new Injector<>();
+    private final Injector<Counters> countersInjector = new Injector<>();
+    private final Injector<CommandTracer> commandTracerInjector = new Injector<>();
     protected ClientApiMessageHandler service;
+    protected ClientApiMetrics metrics;
 
     protected final ServiceGroupReference<LogStream> logStreamsGroupReference = ServiceGroupReference.<LogStream>create()
         .onAdd((name, stream) -> service.addStream(stream))
@@ -39,13 +44,17 @@ public class ClientApiMessageHandlerService implements Service<ClientApiMessageH
     public void start(ServiceStartContext startContext)
     {
         final Dispatcher controlMessageBuffer = controlMessageBufferInjector.getValue();
-        service = new ClientApiMessageHandler(controlMessageBuffer);
+        final Counters counters = countersInjector.getValue();
+        final CommandTracer commandTracer = commandTracerInjector.getValue();
+
+        metrics = new ClientApiMetrics(counters);
+        service = new ClientApiMessageHandler(controlMessageBuffer, metrics, commandTracer);
     }
 
     @Override
     public void stop(ServiceStopContext arg0)
     {
-        // nothing to do
+        metrics.close();
     }
 
     @Override
@@ -59,6 +68,16 @@ public class ClientApiMessageHandlerService implements Service<ClientApiMessageH
         return controlMessageBufferInjector;
     }
 
+    public Injector<Counters> getCountersInjector()
+    {
+        return countersInjector;
+    }
+
+    public Injector<CommandTracer> getCommandTracerInjector()
+    {
+        return commandTracerInjector;
+    }
+
     public ServiceGroupReference<LogStream> getLogStreamsGroupReference()
     {
         return logStreamsGroupReference;
@@ -0,0 +1,98 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.transport.clientapi;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import io.zeebe.broker.services.Counters;
+
+public class ClientApiMetrics implements AutoCloseable
+{
+    protected final Counters counters;
+
+    protected final AtomicCounter commandRequests;
+    protected final AtomicCounter controlMessageRequests;
+    protected final AtomicCounter rejectedRequests;
+    protected final AtomicCounter backpressuredRequests;
+
+    public ClientApiMetrics(Counters counters)
+    {
+        this.counters = counters;
+
+        commandRequests = counters.newCounter("clientApi.commandRequests");
+        controlMessageRequests = counters.newCounter("clientApi.controlMessageRequests");
+        rejectedRequests = counters.newCounter("clientApi.rejectedRequests");
+        backpressuredRequests = counters.newCounter("clientApi.backpressuredRequests");
+    }
+
+    public void incrementCommandRequests()
+    {
+        commandRequests.orderedIncrement();
+    }
+
+    public void incrementControlMessageRequests()
+    {
+        controlMessageRequests.orderedIncrement();
+    }
+
+    /**
+     * a request is rejected with an error response
+     */
+    public void incrementRejectedRequests()
+    {
+        rejectedRequests.orderedIncrement();
+    }
+
+    /**
+     * a request can not be handled at the moment because the log, the control message buffer
+     * or the send buffer is full; the transport retries it later
+     */
+    public void incrementBackpressuredRequests()
+    {
+        backpressuredRequests.orderedIncrement();
+    }
+
+    public long getCommandRequests()
+    {
+        return commandRequests.get();
+    }
+
+    public long getControlMessageRequests()
+    {
+        return controlMessageRequests.get();
+    }
+
+    public long getRejectedRequests()
+    {
+        return rejectedRequests.get();
+    }
+
+    public long getBackpressuredRequests()
+    {
+        return backpressuredRequests.get();
+    }
+
+    @Override
+    public void close()
+    {
+        counters.free(commandRequests);
+        counters.free(controlMessageRequests);
+        counters.free(rejectedRequests);
+        counters.free(backpressuredRequests);
+    }
+}
@@ -17,12 +17,18 @@
  */
 package io.zeebe.broker.transport.controlmessage;
 
+import static io.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import io.zeebe.broker.task.TaskSubscriptionManager;
 import io.zeebe.broker.task.processor.TaskSubscription;
 import io.zeebe.broker.task.processor.TaskSubscriptionRequest;
 import io.zeebe.broker.transport.clientapi.ErrorResponseWriter;
+import io.zeebe.msgpack.value.StringValue;
 import io.zeebe.protocol.clientapi.ControlMessageType;
 import io.zeebe.protocol.clientapi.ErrorCode;
 import io.zeebe.protocol.impl.BrokerEventMetadata;
@@ -32,6 +38,7 @@ import org.agrona.DirectBuffer;
 public class AddTaskSubscriptionHandler implements ControlMessageHandler
 {
     protected final TaskSubscriptionRequest request = new TaskSubscriptionRequest();
+    protected final List<DirectBuffer> taskTypes = new ArrayList<>();
 
     protected final TaskSubscriptionManager manager;
 
@@ -60,7 +67,17 @@ public class AddTaskSubscriptionHandler implements ControlMessageHandler
         final long requestId = eventMetada.getRequestId();
         final int requestStreamId = eventMetada.getRequestStreamId();
 
-        final TaskSubscription taskSubscription = new TaskSubscription(partitionId, request.getLockTaskType(),
+        taskTypes.clear();
+        taskTypes.add(request.getLockTaskType());
+
+        final Iterator<StringValue> additionalTaskTypes = request.taskTypes().iterator();
+        while (additionalTaskTypes.hasNext())
+        {
+            // the iterator reuses the value instance
+            taskTypes.add(cloneBuffer(additionalTaskTypes.next().getValue()));
+        }
+
+        final TaskSubscription taskSubscription = new TaskSubscription(partitionId, taskTypes,
                 request.getLockDuration(), request.getLockOwner(), requestStreamId);
         taskSubscription.setCredits(request.getCredits());
 
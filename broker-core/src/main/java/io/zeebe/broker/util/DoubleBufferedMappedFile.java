@@ -0,0 +1,385 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.util;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.zeebe.util.CloseableSilently;
+
+/**
+ * <p>A memory-mapped file which contains two slots for the data. A write goes to the slot which
+ * doesn't contain the latest data, so that a crash during a write doesn't destroy the latest data.
+ * Only the bytes which differ from the content of the slot are written, i.e. a small update dirties
+ * only a few pages of the file.</p>
+ *
+ * <p>Layout of the file:</p>
+ * <pre>
+ * header: | magic (int) | version (int) | slot capacity (int) | reserved (int) |
+ * slot:   | sequence (long) | length (int) | checksum (int) | data (slot capacity) |
+ * slot:   | sequence (long) | length (int) | checksum (int) | data (slot capacity) |
+ * </pre>
+ *
+ * <p>The slot with the highest sequence and a valid checksum contains the latest data.
+ * If the data exceeds the slot capacity then the file is replaced by a larger one.</p>
+ */
+public class DoubleBufferedMappedFile implements CloseableSilently
+{
+    public static final int MAGIC = 0x5A424446;
+    public static final int VERSION = 1;
+
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = MAGIC_OFFSET + BitUtil.SIZE_OF_INT;
+    public static final int SLOT_CAPACITY_OFFSET = VERSION_OFFSET + BitUtil.SIZE_OF_INT;
+    public static final int HEADER_LENGTH = BitUtil.align(SLOT_CAPACITY_OFFSET + 2 * BitUtil.SIZE_OF_INT, 8);
+
+    public static final int SEQUENCE_OFFSET = 0;
+    public static final int LENGTH_OFFSET = SEQUENCE_OFFSET + BitUtil.SIZE_OF_LONG;
+    public static final int CHECKSUM_OFFSET = LENGTH_OFFSET + BitUtil.SIZE_OF_INT;
+    public static final int SLOT_HEADER_LENGTH = CHECKSUM_OFFSET + BitUtil.SIZE_OF_INT;
+
+    protected final File file;
+
+    protected final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+    protected final UnsafeBuffer dataView = new UnsafeBuffer(0, 0);
+    protected final CRC32 checksum = new CRC32();
+
+    protected MappedByteBuffer mappedBuffer;
+    protected int slotCapacity;
+
+    protected int currentSlot = -1;
+    protected long sequence = 0;
+
+    /**
+     * Opens the given file or creates it if it doesn't exist or has another format.
+     *
+     * @param file the file to open
+     * @param initialSlotCapacity the slot capacity if the file is created
+     */
+    public DoubleBufferedMappedFile(final File file, final int initialSlotCapacity)
+    {
+        this.file = file;
+
+        if (isMappedFile(file))
+        {
+            map(file);
+            findCurrentSlot();
+        }
+        else
+        {
+            create(file, initialSlotCapacity);
+            map(file);
+        }
+    }
+
+    /**
+     * @return <code>true</code>, if the given file exists and has the format of this class
+     */
+    public static boolean isMappedFile(final File file)
+    {
+        if (!file.exists() || file.length() < HEADER_LENGTH)
+        {
+            return false;
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+        {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.nativeOrder());
+            raf.getChannel().read(header, 0);
+
+            return header.getInt(MAGIC_OFFSET) == MAGIC && header.getInt(VERSION_OFFSET) == VERSION;
+        }
+        catch (final IOException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * @return a view of the latest data which is valid until the next write,
+     *  or <code>null</code> if no data was written yet
+     */
+    public DirectBuffer read()
+    {
+        if (currentSlot < 0)
+        {
+            return null;
+        }
+
+        final int slotOffset = slotOffset(currentSlot);
+        final int length = buffer.getInt(slotOffset + LENGTH_OFFSET);
+
+        dataView.wrap(buffer, slotOffset + SLOT_HEADER_LENGTH, length);
+
+        return dataView;
+    }
+
+    public void write(final DirectBuffer src, final int offset, final int length)
+    {
+        if (length > slotCapacity)
+        {
+            grow(length);
+        }
+
+        final int slot = currentSlot == 0 ? 1 : 0;
+        final int slotOffset = slotOffset(slot);
+        final int dataOffset = slotOffset + SLOT_HEADER_LENGTH;
+
+        // invalidate the slot before it is modified
+        buffer.putLongVolatile(slotOffset + SEQUENCE_OFFSET, 0L);
+
+        writeChangedBytes(src, offset, length, dataOffset);
+
+        buffer.putInt(slotOffset + LENGTH_OFFSET, length);
+        buffer.putInt(slotOffset + CHECKSUM_OFFSET, checksum(dataOffset, length));
+
+        sequence += 1;
+        buffer.putLongVolatile(slotOffset + SEQUENCE_OFFSET, sequence);
+
+        currentSlot = slot;
+    }
+
+    /**
+     * Writes the changes of the mapped file to the storage device.
+     */
+    public void flush()
+    {
+        mappedBuffer.force();
+    }
+
+    @Override
+    public void close()
+    {
+        if (mappedBuffer != null)
+        {
+            // caution: if the file is used after unmap then a segmentation fault occurs
+            IoUtil.unmap(mappedBuffer);
+            mappedBuffer = null;
+
+            buffer.wrap(0, 0);
+            dataView.wrap(0, 0);
+        }
+    }
+
+    protected void writeChangedBytes(final DirectBuffer src, final int offset, final int length, final int dataOffset)
+    {
+        int i = 0;
+
+        for (; i + BitUtil.SIZE_OF_LONG <= length; i += BitUtil.SIZE_OF_LONG)
+        {
+            final long value = src.getLong(offset + i);
+            if (buffer.getLong(dataOffset + i) != value)
+            {
+                buffer.putLong(dataOffset + i, value);
+            }
+        }
+
+        for (; i < length; i++)
+        {
+            final byte value = src.getByte(offset + i);
+            if (buffer.getByte(dataOffset + i) != value)
+            {
+                buffer.putByte(dataOffset + i, value);
+            }
+        }
+    }
+
+    protected void findCurrentSlot()
+    {
+        currentSlot = -1;
+        sequence = 0;
+
+        for (int slot = 0; slot < 2; slot++)
+        {
+            final int slotOffset = slotOffset(slot);
+            final long slotSequence = buffer.getLongVolatile(slotOffset + SEQUENCE_OFFSET);
+            final int length = buffer.getInt(slotOffset + LENGTH_OFFSET);
+
+            final boolean isValid = slotSequence > 0 &&
+                length >= 0 &&
+                length <= slotCapacity &&
+                buffer.getInt(slotOffset + CHECKSUM_OFFSET) == checksum(slotOffset + SLOT_HEADER_LENGTH, length);
+
+            if (isValid && slotSequence > sequence)
+            {
+                currentSlot = slot;
+                sequence = slotSequence;
+            }
+        }
+    }
+
+    /**
+     * Replaces the given file, which may have another format, by a mapped file which contains
+     * the given data. The data is written to a temporary file which is moved over the given file
+     * afterwards, so that a crash doesn't destroy the content of the given file.
+     *
+     * @param file the file to replace
+     * @param slotCapacity the slot capacity of the new file; is increased if the data exceeds it
+     */
+    public static void replace(final File file, final int slotCapacity, final DirectBuffer data, final int offset, final int length)
+    {
+        final File tmpFile = writeTmpFile(file, Math.max(slotCapacity, length), 0, data, offset, length);
+        moveFile(tmpFile, file);
+    }
+
+    protected void grow(final int minCapacity)
+    {
+        final int newCapacity = BitUtil.align(Math.max(minCapacity, 2 * slotCapacity), 8);
+
+        // copy the latest data to the new file which replaces the current one
+        final DirectBuffer data = read();
+        final int length = data != null ? data.capacity() : 0;
+        final File tmpFile = writeTmpFile(file, newCapacity, sequence, data, 0, length);
+
+        close();
+        moveFile(tmpFile, file);
+
+        map(file);
+        findCurrentSlot();
+    }
+
+    /**
+     * Creates a mapped file next to the given one which contains the given data.
+     *
+     * @param data the data to write, or <code>null</code> if the file should be empty
+     */
+    protected static File writeTmpFile(
+            final File file,
+            final int slotCapacity,
+            final long sequence,
+            final DirectBuffer data,
+            final int offset,
+            final int length)
+    {
+        final File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+        create(tmpFile, slotCapacity);
+
+        final DoubleBufferedMappedFile tmp = new DoubleBufferedMappedFile(tmpFile, slotCapacity);
+        try
+        {
+            if (data != null)
+            {
+                tmp.sequence = sequence;
+                tmp.write(data, offset, length);
+            }
+            tmp.flush();
+        }
+        finally
+        {
+            tmp.close();
+        }
+
+        return tmpFile;
+    }
+
+    protected static void moveFile(final File source, final File target)
+    {
+        try
+        {
+            try
+            {
+                Files.move(source.toPath(), target.toPath(), ATOMIC_MOVE);
+            }
+            catch (final Exception e)
+            {
+                // failed with atomic move, lets try again with normal replace move
+                Files.move(source.toPath(), target.toPath(), REPLACE_EXISTING);
+            }
+        }
+        catch (final IOException e)
+        {
+            throw new RuntimeException("Unable to replace file " + target, e);
+        }
+    }
+
+    protected int checksum(final int offset, final int length)
+    {
+        final ByteBuffer data = mappedBuffer.duplicate();
+        data.limit(offset + length).position(offset);
+
+        checksum.reset();
+        checksum.update(data);
+
+        return (int) checksum.getValue();
+    }
+
+    protected int slotOffset(final int slot)
+    {
+        return HEADER_LENGTH + slot * (SLOT_HEADER_LENGTH + slotCapacity);
+    }
+
+    protected static int fileLength(final int slotCapacity)
+    {
+        return HEADER_LENGTH + 2 * (SLOT_HEADER_LENGTH + slotCapacity);
+    }
+
+    protected static void create(final File file, final int slotCapacity)
+    {
+        final int capacity = BitUtil.align(slotCapacity, 8);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            raf.setLength(0);
+            raf.setLength(fileLength(capacity));
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.nativeOrder());
+            header.putInt(MAGIC_OFFSET, MAGIC);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(SLOT_CAPACITY_OFFSET, capacity);
+
+            raf.getChannel().write(header, 0);
+        }
+        catch (final IOException e)
+        {
+            throw new RuntimeException("Unable to create file " + file, e);
+        }
+    }
+
+    protected void map(final File file)
+    {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            final FileChannel channel = raf.getChannel();
+            mappedBuffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
+        }
+        catch (final IOException e)
+        {
+            throw new RuntimeException("Unable to map file " + file, e);
+        }
+
+        buffer.wrap(mappedBuffer);
+        slotCapacity = buffer.getInt(SLOT_CAPACITY_OFFSET);
+    }
+
+}
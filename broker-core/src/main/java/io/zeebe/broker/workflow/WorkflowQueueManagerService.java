@@ -17,10 +17,8 @@
  */
 package io.zeebe.broker.workflow;
 
-import static io.zeebe.broker.logstreams.LogStreamServiceNames.SNAPSHOT_STORAGE_SERVICE;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.logStreamServiceName;
 import static io.zeebe.broker.logstreams.processor.StreamProcessorIds.INCIDENT_PROCESSOR_ID;
-import static io.zeebe.broker.system.SystemServiceNames.ACTOR_SCHEDULER_SERVICE;
 import static io.zeebe.broker.workflow.WorkflowQueueServiceNames.incidentStreamProcessorServiceName;
 import static io.zeebe.broker.workflow.WorkflowQueueServiceNames.workflowInstanceStreamProcessorServiceName;
 
@@ -95,10 +93,8 @@ public class WorkflowQueueManagerService implements Service<WorkflowQueueManager
                 workflowInstanceStreamProcessor)
                 .eventFilter(WorkflowInstanceStreamProcessor.eventFilter());
 
-        serviceContext.createService(streamProcessorServiceName, workflowStreamProcessorService)
+        workflowStreamProcessorService.createService(serviceContext, streamProcessorServiceName)
                 .dependency(logStreamServiceName, workflowStreamProcessorService.getLogStreamInjector())
-                .dependency(SNAPSHOT_STORAGE_SERVICE, workflowStreamProcessorService.getSnapshotStorageInjector())
-                .dependency(ACTOR_SCHEDULER_SERVICE, workflowStreamProcessorService.getActorSchedulerInjector())
                 .install();
     }
 
@@ -117,10 +113,8 @@ public class WorkflowQueueManagerService implements Service<WorkflowQueueManager
                 incidentStreamProcessor)
                 .eventFilter(IncidentStreamProcessor.eventFilter());
 
-        serviceContext.createService(streamProcessorServiceName, incidentStreamProcessorService)
+        incidentStreamProcessorService.createService(serviceContext, streamProcessorServiceName)
                 .dependency(logStreamServiceName, incidentStreamProcessorService.getLogStreamInjector())
-                .dependency(SNAPSHOT_STORAGE_SERVICE, incidentStreamProcessorService.getSnapshotStorageInjector())
-                .dependency(ACTOR_SCHEDULER_SERVICE, incidentStreamProcessorService.getActorSchedulerInjector())
                 .install();
     }
 
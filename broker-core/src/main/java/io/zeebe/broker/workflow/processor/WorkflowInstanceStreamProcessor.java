@@ -27,6 +27,7 @@ import java.util.*;
 import io.zeebe.broker.incident.IncidentEventWriter;
 import io.zeebe.broker.incident.data.ErrorType;
 import io.zeebe.broker.logstreams.processor.MetadataFilter;
+import io.zeebe.broker.logstreams.processor.ReplayAware;
 import io.zeebe.broker.system.deployment.handler.CreateWorkflowResponseSender;
 import io.zeebe.broker.task.data.TaskEvent;
 import io.zeebe.broker.task.data.TaskHeaders;
@@ -54,7 +55,7 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 
-public class WorkflowInstanceStreamProcessor implements StreamProcessor
+public class WorkflowInstanceStreamProcessor implements StreamProcessor, ReplayAware
 {
     private static final UnsafeBuffer EMPTY_TASK_TYPE = new UnsafeBuffer("".getBytes());
 
@@ -114,6 +115,9 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
     protected long eventKey;
     protected long eventPosition;
 
+    protected long replayEventPosition = -1L;
+    protected boolean isReplay;
+
     protected final MappingProcessor payloadMappingProcessor;
     protected final JsonConditionInterpreter conditionInterpreter = new JsonConditionInterpreter();
 
@@ -199,6 +203,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
 
         eventKey = event.getKey();
         eventPosition = event.getPosition();
+        isReplay = eventPosition == replayEventPosition;
 
         sourceEventMetadata.reset();
         event.readMetadata(sourceEventMetadata);
@@ -225,11 +230,26 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
         return eventProcessor;
     }
 
+    @Override
+    public void onReplay(LoggedEvent event)
+    {
+        replayEventPosition = event.getPosition();
+    }
+
     protected void reset()
     {
         activityInstanceMap.reset();
     }
 
+    /**
+     * On replay, skips the events whose processing only writes the follow-up event
+     * but doesn't change the state (e.g. the evaluation of the conditions of a gateway).
+     */
+    protected EventProcessor skipOnReplay(EventProcessor eventProcessor)
+    {
+        return isReplay ? null : eventProcessor;
+    }
+
     protected EventProcessor onWorkflowInstanceEvent(LoggedEvent event)
     {
         workflowInstanceEvent.reset();
@@ -239,7 +259,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
         switch (workflowInstanceEvent.getState())
         {
             case CREATE_WORKFLOW_INSTANCE:
-                eventProcessor = createWorkflowInstanceEventProcessor;
+                eventProcessor = skipOnReplay(createWorkflowInstanceEventProcessor);
                 break;
 
             case WORKFLOW_INSTANCE_CREATED:
@@ -251,7 +271,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
                 break;
 
             case SEQUENCE_FLOW_TAKEN:
-                eventProcessor = sequenceFlowTakenEventProcessor;
+                eventProcessor = skipOnReplay(sequenceFlowTakenEventProcessor);
                 break;
 
             case ACTIVITY_READY:
@@ -259,7 +279,7 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
                 break;
 
             case ACTIVITY_ACTIVATED:
-                eventProcessor = activityActivatedEventProcessor;
+                eventProcessor = skipOnReplay(activityActivatedEventProcessor);
                 break;
 
             case ACTIVITY_COMPLETING:
@@ -272,7 +292,13 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
             case ACTIVITY_COMPLETED:
             {
                 final FlowNode currentActivity = getCurrentActivity();
-                eventProcessor = aspectHandlers.get(currentActivity.getBpmnAspect());
+                final BpmnAspect bpmnAspect = currentActivity.getBpmnAspect();
+                eventProcessor = aspectHandlers.get(bpmnAspect);
+
+                if (bpmnAspect != BpmnAspect.CONSUME_TOKEN)
+                {
+                    eventProcessor = skipOnReplay(eventProcessor);
+                }
                 break;
             }
 
@@ -1153,11 +1179,15 @@ public class WorkflowInstanceStreamProcessor implements StreamProcessor
 
             if (workflowInstance != null && workflowInstance.getTokenCount() > 0)
             {
-                lookupWorkflowInstanceEvent(workflowInstance.getPosition());
+                if (!isReplay)
+                {
+                    // the event is only used to write the canceled events
+                    lookupWorkflowInstanceEvent(workflowInstance.getPosition());
 
-                workflowInstanceEvent
-                    .setState(WorkflowInstanceState.WORKFLOW_INSTANCE_CANCELED)
-                    .setPayload(WorkflowInstanceEvent.NO_PAYLOAD);
+                    workflowInstanceEvent
+                        .setState(WorkflowInstanceState.WORKFLOW_INSTANCE_CANCELED)
+                        .setPayload(WorkflowInstanceEvent.NO_PAYLOAD);
+                }
 
                 activityInstanceKey = workflowInstance.getActivityInstanceKey();
                 taskKey = activityInstanceMap.wrapActivityInstanceKey(activityInstanceKey).getTaskKey();
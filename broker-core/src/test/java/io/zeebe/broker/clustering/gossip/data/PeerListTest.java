@@ -0,0 +1,252 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.gossip.data;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.agrona.DirectBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+import io.zeebe.clustering.gossip.RaftMembershipState;
+
+public class PeerListTest
+{
+    private final PeerList peers = new PeerList(10);
+    private final PeerList diff = new PeerList(10);
+
+    @After
+    public void tearDown()
+    {
+        peers.close();
+        diff.close();
+    }
+
+    @Test
+    public void shouldFindPeerAfterOtherPeersJoined()
+    {
+        // given
+        final Peer peer = peer("c", 333);
+        peers.insert(peer);
+
+        assertThat(peers.find(peer)).isEqualTo(0);
+
+        // when
+        peers.insert(peer("a", 111));
+        peers.insert(peer("b", 222));
+
+        // then
+        assertThat(peers.find(peer)).isEqualTo(2);
+        assertThat(peers.find(peer("a", 111))).isEqualTo(0);
+        assertThat(peers.find(peer("b", 222))).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotFindUnknownPeer()
+    {
+        // given
+        peers.insert(peer("a", 111));
+        peers.insert(peer("c", 333));
+
+        // when
+        final int idx = peers.find(peer("b", 222));
+
+        // then
+        assertThat(idx).isEqualTo(~1);
+    }
+
+    @Test
+    public void shouldIncrementTopologyVersionWhenPeerJoins()
+    {
+        // given
+        final long topologyVersion = peers.topologyVersion();
+
+        // when
+        peers.insert(peer("a", 111));
+
+        // then
+        assertThat(peers.topologyVersion()).isGreaterThan(topologyVersion);
+    }
+
+    @Test
+    public void shouldNotIncrementTopologyVersionOnHeartbeat()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peers.insert(peer);
+
+        final long topologyVersion = peers.topologyVersion();
+
+        // when
+        peer.heartbeat().version(peer.heartbeat().version() + 1);
+        peers.update(peer);
+
+        // then
+        assertThat(peers.topologyVersion()).isEqualTo(topologyVersion);
+    }
+
+    @Test
+    public void shouldIncrementTopologyVersionWhenRaftMembershipChanged()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peers.insert(peer);
+
+        final long topologyVersion = peers.topologyVersion();
+
+        // when
+        final DirectBuffer topicName = wrapString("topic");
+        peer.raftMemberships()
+            .add(
+                new RaftMembership()
+                    .topicName(topicName, 0, topicName.capacity())
+                    .partitionId(1)
+                    .term(2)
+                    .state(RaftMembershipState.LEADER)
+            );
+        peers.update(peer);
+
+        // then
+        assertThat(peers.topologyVersion()).isGreaterThan(topologyVersion);
+    }
+
+    @Test
+    public void shouldIncrementTopologyVersionWhenPeerStateChanged()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peers.insert(peer);
+
+        final long topologyVersion = peers.topologyVersion();
+
+        // when
+        peer.dead();
+        peers.update(peer);
+
+        // then
+        assertThat(peers.topologyVersion()).isGreaterThan(topologyVersion);
+    }
+
+    @Test
+    public void shouldKeepRaftMembershipsIfNewerMembershipsAreOmitted()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peer.raftMemberships().add(raftMembership(1, 2, RaftMembershipState.LEADER));
+        peer.raftMembershipsVersion().generation(1).version(1);
+        peers.insert(peer);
+
+        final Peer update = peer("a", 111);
+        update.raftMembershipsVersion().generation(1).version(2);
+        update.hasRaftMemberships(false);
+
+        // when
+        peers.merge(Collections.singletonList(update).iterator(), diff);
+
+        // then
+        final Peer mergedPeer = new Peer();
+        peers.get(0, mergedPeer);
+
+        assertThat(mergedPeer.raftMemberships().size()).isEqualTo(1);
+        assertThat(mergedPeer.raftMemberships().get(0).partitionId()).isEqualTo(1);
+        assertThat(mergedPeer.raftMembershipsVersion().version()).isEqualTo(1);
+
+        assertThat(diff.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldTakeOverNewerRaftMemberships()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peer.raftMemberships().add(raftMembership(1, 2, RaftMembershipState.LEADER));
+        peer.raftMembershipsVersion().generation(1).version(1);
+        peers.insert(peer);
+
+        final Peer update = peer("a", 111);
+        update.raftMemberships().add(raftMembership(1, 3, RaftMembershipState.FOLLOWER));
+        update.raftMembershipsVersion().generation(1).version(2);
+
+        // when
+        peers.merge(Collections.singletonList(update).iterator(), diff);
+
+        // then
+        final Peer mergedPeer = new Peer();
+        peers.get(0, mergedPeer);
+
+        assertThat(mergedPeer.raftMemberships().get(0).term()).isEqualTo(3);
+        assertThat(mergedPeer.raftMemberships().get(0).state()).isEqualTo(RaftMembershipState.FOLLOWER);
+        assertThat(mergedPeer.raftMembershipsVersion().version()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldDisseminateRaftMembershipsAgainIfOtherSideIsOutdated()
+    {
+        // given
+        final Peer peer = peer("a", 111);
+        peer.raftMemberships().add(raftMembership(1, 3, RaftMembershipState.LEADER));
+        peer.raftMembershipsVersion().generation(1).version(2);
+        peer.raftMembershipsChangeTime(0L);
+        peers.insert(peer);
+
+        final Peer update = peer("a", 111);
+        update.raftMemberships().add(raftMembership(1, 2, RaftMembershipState.LEADER));
+        update.raftMembershipsVersion().generation(1).version(1);
+
+        final long now = System.currentTimeMillis();
+
+        // when
+        peers.merge(Collections.singletonList(update).iterator(), diff);
+
+        // then
+        final Peer mergedPeer = new Peer();
+        peers.get(0, mergedPeer);
+
+        assertThat(mergedPeer.raftMemberships().get(0).term()).isEqualTo(3);
+        assertThat(mergedPeer.raftMembershipsVersion().version()).isEqualTo(2);
+        assertThat(mergedPeer.raftMembershipsChangeTime()).isGreaterThanOrEqualTo(now);
+
+        assertThat(diff.size()).isEqualTo(1);
+    }
+
+    protected static RaftMembership raftMembership(final int partitionId, final int term, final RaftMembershipState state)
+    {
+        final DirectBuffer topicName = wrapString("topic");
+
+        return new RaftMembership()
+            .topicName(topicName, 0, topicName.capacity())
+            .partitionId(partitionId)
+            .term(term)
+            .state(state);
+    }
+
+    protected static Peer peer(final String host, final int port)
+    {
+        final Peer peer = new Peer().alive();
+
+        peer.managementEndpoint()
+            .host(host)
+            .port(port);
+
+        return peer;
+    }
+
+}
@@ -97,6 +97,72 @@ public class GossipMessageTest
             .hasSameElementsAs(expected);
     }
 
+    @Test
+    public void testGossipRequestWithRaftMembershipsChangedSince()
+    {
+        final DirectBuffer topicName = wrapString("topic");
+
+        final Peer changed = new Peer()
+            .alive()
+            .raftMembershipsChangeTime(2000);
+        changed.managementEndpoint()
+            .host("changed")
+            .port(111);
+        changed.raftMembershipsVersion()
+            .generation(1)
+            .version(2);
+        changed.raftMemberships()
+            .add(
+                new RaftMembership()
+                    .topicName(topicName, 0, topicName.capacity())
+                    .partitionId(1)
+                    .term(2)
+                    .state(RaftMembershipState.LEADER)
+            );
+
+        final Peer unchanged = new Peer()
+            .alive()
+            .raftMembershipsChangeTime(500);
+        unchanged.managementEndpoint()
+            .host("unchanged")
+            .port(222);
+        unchanged.raftMembershipsVersion()
+            .generation(3)
+            .version(4);
+        unchanged.raftMemberships()
+            .add(
+                new RaftMembership()
+                    .topicName(topicName, 0, topicName.capacity())
+                    .partitionId(2)
+                    .term(3)
+                    .state(RaftMembershipState.FOLLOWER)
+            );
+
+        final PeerList peers = new PeerList(2);
+        peers.append(changed);
+        peers.append(unchanged);
+
+        final GossipRequest gossipRequest = new GossipRequest()
+            .peers(peers)
+            .raftMembershipsSince(1000);
+
+        final Iterator<Peer> actual = writeAndRead(gossipRequest).peers();
+
+        final Peer first = actual.next();
+        assertThat(first.managementEndpoint()).isEqualTo(changed.managementEndpoint());
+        assertThat(first.hasRaftMemberships()).isTrue();
+        assertThat(first.raftMembershipsVersion()).isEqualTo(changed.raftMembershipsVersion());
+        assertThat(first.raftMemberships()).hasSameElementsAs(changed.raftMemberships());
+
+        final Peer second = actual.next();
+        assertThat(second.managementEndpoint()).isEqualTo(unchanged.managementEndpoint());
+        assertThat(second.hasRaftMemberships()).isFalse();
+        assertThat(second.raftMembershipsVersion()).isEqualTo(unchanged.raftMembershipsVersion());
+        assertThat(second.raftMemberships()).isEmpty();
+
+        assertThat(actual.hasNext()).isFalse();
+    }
+
     @Test
     public void testProbeRequest()
     {
@@ -123,6 +189,12 @@ public class GossipMessageTest
             .generation(1234)
             .version(5678);
 
+        peer.raftMembershipsVersion()
+            .generation(1234)
+            .version(5670);
+
+        peer.raftMembershipsChangeTime(999);
+
         peer.clientEndpoint()
             .host("client")
             .port(111);
@@ -162,6 +234,8 @@ public class GossipMessageTest
                 "managementEndpoint",
                 "replicationEndpoint",
                 "heartbeat",
+                "raftMembershipsVersion",
+                "raftMembershipsChangeTime",
                 "state",
                 "changeStateTime"
             );
@@ -0,0 +1,78 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.gossip.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LocalHealthTest
+{
+    private final LocalHealth localHealth = new LocalHealth(3);
+
+    @Test
+    public void shouldNotScaleIfHealthy()
+    {
+        assertThat(localHealth.multiplier()).isEqualTo(0);
+        assertThat(localHealth.scale(1000)).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldScaleOnFailure()
+    {
+        // when
+        localHealth.onFailure();
+        localHealth.onRefute();
+
+        // then
+        assertThat(localHealth.multiplier()).isEqualTo(2);
+        assertThat(localHealth.scale(1000)).isEqualTo(3000);
+    }
+
+    @Test
+    public void shouldLimitMultiplier()
+    {
+        // when
+        for (int i = 0; i < 10; i++)
+        {
+            localHealth.onFailure();
+        }
+
+        // then
+        assertThat(localHealth.multiplier()).isEqualTo(3);
+        assertThat(localHealth.scale(1000)).isEqualTo(4000);
+    }
+
+    @Test
+    public void shouldRecoverOnSuccess()
+    {
+        // given
+        localHealth.onFailure();
+        localHealth.onFailure();
+
+        // when
+        localHealth.onSuccess();
+        localHealth.onSuccess();
+        localHealth.onSuccess();
+
+        // then
+        assertThat(localHealth.multiplier()).isEqualTo(0);
+        assertThat(localHealth.scale(1000)).isEqualTo(1000);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.clustering.handler;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+
+public class TopologyTest
+{
+    @Test
+    public void shouldHaveSameVersionForSameTopology()
+    {
+        // given
+        final Topology topology = topology(1);
+        final Topology otherTopology = topology(1);
+
+        // when
+        topology.updateVersion();
+        otherTopology.updateVersion();
+
+        // then
+        assertThat(topology.getVersion()).isNotEqualTo(0L);
+        assertThat(topology.getVersion()).isEqualTo(otherTopology.getVersion());
+    }
+
+    @Test
+    public void shouldHaveDifferentVersionForDifferentTopology()
+    {
+        // given
+        final Topology topology = topology(1);
+        final Topology otherTopology = topology(2);
+
+        // when
+        topology.updateVersion();
+        otherTopology.updateVersion();
+
+        // then
+        assertThat(topology.getVersion()).isNotEqualTo(otherTopology.getVersion());
+    }
+
+    @Test
+    public void shouldNotIncludePreviousVersionInChecksum()
+    {
+        // given
+        final Topology topology = topology(1);
+        topology.updateVersion();
+
+        final long version = topology.getVersion();
+
+        // when
+        topology.updateVersion();
+
+        // then
+        assertThat(topology.getVersion()).isEqualTo(version);
+    }
+
+    protected static Topology topology(final int partitionId)
+    {
+        final DirectBuffer host = wrapString("localhost");
+        final DirectBuffer topicName = wrapString("topic");
+
+        final Topology topology = new Topology();
+
+        topology.brokers().add()
+            .setHost(host, 0, host.capacity())
+            .setPort(51015);
+
+        topology.topicLeaders().add()
+            .setTopicName(topicName, 0, topicName.capacity())
+            .setPartitionId(partitionId)
+            .setHost(host, 0, host.capacity())
+            .setPort(51015);
+
+        return topology;
+    }
+
+}
@@ -39,6 +39,7 @@ public class ManagementMessageTest
             .topicName(TOPIC_NAME)
             .partitionId(111)
             .term(222)
+            .logSegmentSize(333)
             .members(Arrays.asList(
                 new SocketAddress("localhost", 8001),
                 new SocketAddress("localhost", 8002)
@@ -48,6 +49,7 @@ public class ManagementMessageTest
             "topicName",
             "partitionId",
             "term",
+            "logSegmentSize",
             "members"
         );
     }
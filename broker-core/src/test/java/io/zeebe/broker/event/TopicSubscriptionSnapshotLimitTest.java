@@ -0,0 +1,85 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.protocol.clientapi.EventType;
+import io.zeebe.test.broker.protocol.clientapi.ClientApiRule;
+import io.zeebe.test.broker.protocol.clientapi.SubscribedEvent;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class TopicSubscriptionSnapshotLimitTest
+{
+    // limits the snapshot index to two entries
+    public EmbeddedBrokerRule brokerRule = new EmbeddedBrokerRule("zeebe.test.snapshot-index-limit.cfg.toml");
+    public ClientApiRule apiRule = new ClientApiRule();
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(brokerRule).around(apiRule);
+
+    @Test
+    public void shouldReplayLogIfStateExceedsSnapshotIndex()
+    {
+        // given
+        final long firstTaskKey = createTask("foo");
+        final long secondTaskKey = createTask("foo");
+        final long thirdTaskKey = createTask("foo");
+
+        // when
+        apiRule.createCmdRequest()
+            .eventTypeSubscriber()
+            .command()
+                .put("startPosition", 0)
+                .put("startWithSnapshot", true)
+                .put("name", "foo")
+                .put("state", "SUBSCRIBE")
+                .done()
+            .sendAndAwait();
+
+        // then
+        final List<SubscribedEvent> taskEvents = apiRule.subscribedEvents()
+            .filter((e) -> e.eventType() == EventType.TASK_EVENT)
+            .limit(6)
+            .collect(Collectors.toList());
+
+        assertThat(taskEvents).extracting(SubscribedEvent::key)
+            .containsExactly(firstTaskKey, firstTaskKey, secondTaskKey, secondTaskKey, thirdTaskKey, thirdTaskKey);
+        assertThat(taskEvents).extracting(e -> e.event().get("state"))
+            .containsExactly("CREATE", "CREATED", "CREATE", "CREATED", "CREATE", "CREATED");
+    }
+
+    protected long createTask(String type)
+    {
+        return apiRule.createCmdRequest()
+            .eventTypeTask()
+            .command()
+                .put("state", "CREATE")
+                .put("type", type)
+                .put("retries", 1)
+                .done()
+            .sendAndAwait()
+            .key();
+    }
+}
@@ -20,6 +20,7 @@ package io.zeebe.broker.event;
 import static org.assertj.core.api.Assertions.*;
 import static io.zeebe.test.util.BufferAssert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -171,6 +172,83 @@ public class TopicSubscriptionTest
         assertThat(taskEvent.event()).contains(entry("state", "CREATED"));
     }
 
+    @Test
+    public void shouldPushStateSnapshotBeforeLiveEvents()
+    {
+        // given
+        final long openTaskKey = createTask("foo");
+
+        // when
+        final ExecuteCommandResponse addResponse = apiRule.createCmdRequest()
+            .eventTypeSubscriber()
+            .command()
+                .put("startPosition", 0)
+                .put("startWithSnapshot", true)
+                .put("name", "foo")
+                .put("state", "SUBSCRIBE")
+                .done()
+            .sendAndAwait();
+
+        final long subscriberKey = addResponse.key();
+
+        final long liveTaskKey = createTask("baz");
+
+        // then
+        final List<SubscribedEvent> taskEvents = apiRule.subscribedEvents()
+            .filter((e) -> e.eventType() == EventType.TASK_EVENT)
+            .limit(2)
+            .collect(Collectors.toList());
+
+        SubscribedEvent taskEvent = taskEvents.get(0);
+        assertThat(taskEvent.subscriberKey()).isEqualTo(subscriberKey);
+        assertThat(taskEvent.key()).isEqualTo(openTaskKey);
+        assertThat(taskEvent.event()).contains(entry("state", "CREATED"));
+
+        taskEvent = taskEvents.get(1);
+        assertThat(taskEvent.key()).isEqualTo(liveTaskKey);
+        assertThat(taskEvent.event()).contains(entry("state", "CREATE"));
+    }
+
+    @Test
+    public void shouldPushStateSnapshotOfLogLargerThanIndexBatch()
+    {
+        // given
+        // each task produces two events, so the log exceeds the index batch size
+        final int openTasks = 600;
+        final List<Long> openTaskKeys = new ArrayList<>();
+        for (int i = 0; i < openTasks; i++)
+        {
+            openTaskKeys.add(createTask("foo"));
+        }
+
+        // when
+        apiRule.createCmdRequest()
+            .eventTypeSubscriber()
+            .command()
+                .put("startPosition", 0)
+                .put("startWithSnapshot", true)
+                .put("name", "foo")
+                .put("state", "SUBSCRIBE")
+                .done()
+            .sendAndAwait();
+
+        final long liveTaskKey = createTask("baz");
+
+        // then
+        final List<SubscribedEvent> taskEvents = apiRule.subscribedEvents()
+            .filter((e) -> e.eventType() == EventType.TASK_EVENT)
+            .limit(openTasks + 1)
+            .collect(Collectors.toList());
+
+        final List<SubscribedEvent> snapshotEvents = taskEvents.subList(0, openTasks);
+        assertThat(snapshotEvents).extracting(SubscribedEvent::key).isEqualTo(openTaskKeys);
+        assertThat(snapshotEvents).extracting(e -> e.event().get("state")).containsOnly("CREATED");
+
+        final SubscribedEvent liveEvent = taskEvents.get(openTasks);
+        assertThat(liveEvent.key()).isEqualTo(liveTaskKey);
+        assertThat(liveEvent.event()).contains(entry("state", "CREATE"));
+    }
+
     @Test
     public void shouldReturnStartPositionOnOpen()
     {
@@ -496,6 +574,19 @@ public class TopicSubscriptionTest
         assertThat(firstPushedEvent.getSequenceNumber()).isGreaterThan(subscriptionResponse.getSequenceNumber());
     }
 
+    protected long createTask(String type)
+    {
+        return apiRule.createCmdRequest()
+            .eventTypeTask()
+            .command()
+                .put("state", "CREATE")
+                .put("type", type)
+                .put("retries", 1)
+                .done()
+            .sendAndAwait()
+            .key();
+    }
+
     protected String getStringOfLength(int numCharacters)
     {
         final char[] characters = new char[numCharacters];
@@ -0,0 +1,136 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LogDirectorySelectorTest
+{
+    protected static final long SEGMENT_SIZE = 512;
+
+    @Test
+    public void shouldSelectEveryDirectory()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/a/", "/b/", "/c/", "/d/");
+
+        // when
+        for (int i = 0; i < 8; i++)
+        {
+            selector.assign(selector.select());
+        }
+
+        // then
+        for (int i = 0; i < 4; i++)
+        {
+            assertThat(selector.getLogStreamCount(i)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void shouldPreferDirectoryWithMoreUsableSpace()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/a/", "/b/");
+        selector.usableSpace.put("/b/", 2 * SEGMENT_SIZE);
+
+        // when
+        final int selected = selector.select();
+
+        // then
+        assertThat(selected).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldAvoidDirectoryWithoutSpaceForSegment()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/a/", "/b/");
+        selector.assign(1);
+        selector.usableSpace.put("/a/", SEGMENT_SIZE - 1);
+
+        // when
+        final int selected = selector.select();
+
+        // then
+        assertThat(selected).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountRecoveredLogStreams()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/data/a/", "/data/b/");
+
+        // when
+        selector.assign("/data/a/default-topic.0");
+
+        // then
+        assertThat(selector.getLogStreamCount(0)).isEqualTo(1);
+        assertThat(selector.select()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountRecoveredLogStreamsOfNotNormalizedPath()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/data/a/", "/data/b/");
+
+        // when
+        selector.assign("/data/b/../a/./default-topic.0/");
+
+        // then
+        assertThat(selector.getLogStreamCount(0)).isEqualTo(1);
+        assertThat(selector.getLogStreamCount(1)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotCountRecoveredLogStreamOfDirectoryWithSamePrefix()
+    {
+        // given
+        final TestSelector selector = new TestSelector("/data/a/", "/data/ab/");
+
+        // when
+        selector.assign("/data/ab/default-topic.0");
+
+        // then
+        assertThat(selector.getLogStreamCount(0)).isEqualTo(0);
+        assertThat(selector.getLogStreamCount(1)).isEqualTo(1);
+    }
+
+    protected static class TestSelector extends LogDirectorySelector
+    {
+        protected final Map<String, Long> usableSpace = new HashMap<>();
+
+        TestSelector(String... directories)
+        {
+            super(directories, SEGMENT_SIZE);
+        }
+
+        @Override
+        protected long getUsableSpace(String directory)
+        {
+            return usableSpace.getOrDefault(directory, SEGMENT_SIZE);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.*;
+
+import org.junit.Test;
+
+import io.zeebe.logstreams.snapshot.ComposedSnapshot;
+import io.zeebe.logstreams.snapshot.ZbMapSnapshotSupport;
+import io.zeebe.logstreams.spi.SnapshotSupport;
+import io.zeebe.map.Long2LongZbMap;
+
+public class CompressedSnapshotSupportTest
+{
+    protected static final int STATE_SIZE = 64 * 1024;
+
+    @Test
+    public void shouldCompressAndRecoverSnapshot() throws Exception
+    {
+        // given
+        final ByteArrayState state = new ByteArrayState(newState());
+        final CompressedSnapshotSupport snapshotSupport = new CompressedSnapshotSupport(state, SnapshotCompression.DEFLATE);
+
+        final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        snapshotSupport.writeSnapshot(snapshot);
+
+        final ByteArrayState recoveredState = new ByteArrayState(null);
+
+        // when
+        new CompressedSnapshotSupport(recoveredState, SnapshotCompression.NONE).recoverFromSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        // then
+        assertThat(snapshot.size()).isLessThan(STATE_SIZE / 10);
+        assertThat(recoveredState.bytes).isEqualTo(state.bytes);
+    }
+
+    @Test
+    public void shouldCompressAndRecoverComposedMapSnapshot() throws Exception
+    {
+        // given
+        final int entries = 10_000;
+
+        final Long2LongZbMap firstMap = new Long2LongZbMap();
+        final Long2LongZbMap secondMap = new Long2LongZbMap();
+        final Long2LongZbMap recoveredFirstMap = new Long2LongZbMap();
+        final Long2LongZbMap recoveredSecondMap = new Long2LongZbMap();
+
+        try
+        {
+            for (long i = 0; i < entries; i++)
+            {
+                firstMap.put(i, i * 2);
+                secondMap.put(i * 3, i);
+            }
+
+            final SnapshotSupport state = new ComposedSnapshot(
+                    new ZbMapSnapshotSupport<>(firstMap),
+                    new ZbMapSnapshotSupport<>(secondMap));
+
+            final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+            new CompressedSnapshotSupport(state, SnapshotCompression.DEFLATE).writeSnapshot(snapshot);
+
+            final SnapshotSupport recoveredState = new ComposedSnapshot(
+                    new ZbMapSnapshotSupport<>(recoveredFirstMap),
+                    new ZbMapSnapshotSupport<>(recoveredSecondMap));
+
+            // when
+            new CompressedSnapshotSupport(recoveredState, SnapshotCompression.DEFLATE).recoverFromSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+            // then
+            for (long i = 0; i < entries; i++)
+            {
+                assertThat(recoveredFirstMap.get(i, -1L)).isEqualTo(i * 2);
+                assertThat(recoveredSecondMap.get(i * 3, -1L)).isEqualTo(i);
+            }
+            assertThat(recoveredFirstMap.get(entries, -1L)).isEqualTo(-1L);
+        }
+        finally
+        {
+            firstMap.close();
+            secondMap.close();
+            recoveredFirstMap.close();
+            recoveredSecondMap.close();
+        }
+    }
+
+    @Test
+    public void shouldRecoverUncompressedSnapshot() throws Exception
+    {
+        // given
+        final ByteArrayState state = new ByteArrayState(newState());
+
+        final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        new CompressedSnapshotSupport(state, SnapshotCompression.NONE).writeSnapshot(snapshot);
+
+        final ByteArrayState recoveredState = new ByteArrayState(null);
+
+        // when
+        new CompressedSnapshotSupport(recoveredState, SnapshotCompression.DEFLATE).recoverFromSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(STATE_SIZE);
+        assertThat(recoveredState.bytes).isEqualTo(state.bytes);
+    }
+
+    @Test
+    public void shouldRecoverEmptySnapshot() throws Exception
+    {
+        // given
+        final ByteArrayState recoveredState = new ByteArrayState(null);
+
+        // when
+        new CompressedSnapshotSupport(recoveredState, SnapshotCompression.DEFLATE).recoverFromSnapshot(new ByteArrayInputStream(new byte[0]));
+
+        // then
+        assertThat(recoveredState.bytes).isEmpty();
+    }
+
+    protected static byte[] newState()
+    {
+        // mostly padding, like the fixed-size values of the maps
+        final byte[] state = new byte[STATE_SIZE];
+        for (int i = 0; i < state.length; i += 256)
+        {
+            state[i] = (byte) i;
+        }
+        return state;
+    }
+
+    protected static class ByteArrayState implements SnapshotSupport
+    {
+        protected byte[] bytes;
+
+        ByteArrayState(byte[] bytes)
+        {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void writeSnapshot(OutputStream outputStream) throws Exception
+        {
+            outputStream.write(bytes);
+        }
+
+        @Override
+        public void recoverFromSnapshot(InputStream inputStream) throws Exception
+        {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final byte[] readBuffer = new byte[1024];
+
+            int read;
+            while ((read = inputStream.read(readBuffer)) > 0)
+            {
+                buffer.write(readBuffer, 0, read);
+            }
+
+            bytes = buffer.toByteArray();
+        }
+
+        @Override
+        public void reset()
+        {
+            bytes = null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.zeebe.broker.logstreams.cfg.SnapshotPolicyCfg;
+import io.zeebe.broker.logstreams.cfg.SnapshotStorageCfg;
+import io.zeebe.logstreams.log.LoggedEvent;
+
+public class SnapshotPolicyTest
+{
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    protected final LoggedEvent event = mockEvent(100, 20);
+
+    @Test
+    public void shouldCreateSnapshotAfterEventCount()
+    {
+        // given
+        final EventCountSnapshotPolicy policy = new EventCountSnapshotPolicy(3);
+
+        // when
+        policy.onEventProcessed(event, 0);
+        policy.onEventProcessed(event, 0);
+
+        // then
+        assertThat(policy.apply(0)).isFalse();
+
+        policy.onEventProcessed(event, 0);
+        assertThat(policy.apply(0)).isTrue();
+        assertThat(policy.apply(0)).isFalse();
+    }
+
+    @Test
+    public void shouldCreateSnapshotAfterByteCount()
+    {
+        // given
+        final ByteCountSnapshotPolicy policy = new ByteCountSnapshotPolicy(300);
+
+        // when
+        policy.onEventProcessed(event, 0);
+        policy.onEventProcessed(event, 0);
+
+        // then
+        assertThat(policy.apply(0)).isFalse();
+
+        policy.onEventProcessed(event, 0);
+        assertThat(policy.apply(0)).isTrue();
+        assertThat(policy.apply(0)).isFalse();
+    }
+
+    @Test
+    public void shouldCreateSnapshotWhenRecoveryTimeIsExceeded()
+    {
+        // given
+        final AdaptiveSnapshotPolicy policy = new AdaptiveSnapshotPolicy(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(15));
+        policy.apply(0);
+
+        // when
+        policy.onEventProcessed(event, TimeUnit.MILLISECONDS.toNanos(600));
+        policy.onEventProcessed(event, TimeUnit.MILLISECONDS.toNanos(600));
+
+        // then
+        assertThat(policy.apply(5_000)).isFalse();
+        assertThat(policy.apply(10_000)).isTrue();
+        assertThat(policy.apply(20_000)).isFalse();
+    }
+
+    @Test
+    public void shouldCreateSnapshotAfterMaxPeriod()
+    {
+        // given
+        final AdaptiveSnapshotPolicy policy = new AdaptiveSnapshotPolicy(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1));
+        policy.apply(0);
+
+        // when
+        policy.onEventProcessed(event, 1);
+
+        // then
+        assertThat(policy.apply(30_000)).isFalse();
+        assertThat(policy.apply(60_000)).isTrue();
+    }
+
+    @Test
+    public void shouldNotCreateSnapshotIfIdle()
+    {
+        // given
+        final AdaptiveSnapshotPolicy policy = new AdaptiveSnapshotPolicy(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1));
+        policy.apply(0);
+
+        // then
+        assertThat(policy.apply(120_000)).isFalse();
+    }
+
+    @Test
+    public void shouldCreatePolicyOfProcessorType()
+    {
+        // given
+        final SnapshotStorageCfg config = new SnapshotStorageCfg();
+
+        final SnapshotPolicyCfg workflowInstancePolicy = new SnapshotPolicyCfg();
+        workflowInstancePolicy.type = SnapshotPolicyCfg.TYPE_ADAPTIVE;
+        config.processors.put("workflowInstance", workflowInstancePolicy);
+
+        final SnapshotPolicyFactory factory = new SnapshotPolicyFactory(config);
+
+        // then
+        assertThat(factory.createSnapshotPolicy(StreamProcessorIds.WORKFLOW_INSTANCE_PROCESSOR_ID)).isInstanceOf(AdaptiveSnapshotPolicy.class);
+        assertThat(factory.createSnapshotPolicy(StreamProcessorIds.INCIDENT_PROCESSOR_ID)).isNotInstanceOf(AdaptiveSnapshotPolicy.class);
+    }
+
+    @Test
+    public void shouldRejectUnknownPolicyType()
+    {
+        // given
+        final SnapshotPolicyCfg policyCfg = new SnapshotPolicyCfg();
+        policyCfg.type = "foo";
+
+        // then
+        thrown.expect(RuntimeException.class);
+        thrown.expectMessage("Unknown snapshot policy type 'foo'");
+
+        // when
+        SnapshotPolicyFactory.createSnapshotPolicy(policyCfg);
+    }
+
+    protected static LoggedEvent mockEvent(int valueLength, int metadataLength)
+    {
+        final LoggedEvent event = mock(LoggedEvent.class);
+        when(event.getValueLength()).thenReturn(valueLength);
+        when(event.getMetadataLength()).thenReturn(metadataLength);
+        return event;
+    }
+}
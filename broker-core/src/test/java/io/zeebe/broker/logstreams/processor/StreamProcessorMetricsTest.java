@@ -0,0 +1,146 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.util.buffer.BufferUtil;
+
+public class StreamProcessorMetricsTest
+{
+    protected CountersManager countersManager;
+    protected StreamProcessorMetricsRegistry registry;
+    protected LogStream logStream;
+
+    @Before
+    public void setUp()
+    {
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+        countersManager = new CountersManager(new UnsafeBuffer(new byte[256 * 1024]), countersBuffer);
+
+        registry = new StreamProcessorMetricsRegistry(new Counters(countersManager, countersBuffer));
+
+        logStream = mock(LogStream.class);
+        when(logStream.getTopicName()).thenReturn(BufferUtil.wrapString("test-topic"));
+        when(logStream.getPartitionId()).thenReturn(1);
+    }
+
+    @Test
+    public void shouldTrackPositions()
+    {
+        // given
+        final StreamProcessorMetrics metrics = registry.register(logStream, "processor");
+
+        // when
+        metrics.setLastProcessedPosition(10L);
+        metrics.incrementEventsWritten(20L);
+
+        // then
+        assertThat(metrics.getTopicName()).isEqualTo("test-topic");
+        assertThat(metrics.getPartitionId()).isEqualTo(1);
+        assertThat(metrics.getLastProcessedPosition()).isEqualTo(10L);
+        assertThat(metrics.getLastWrittenPosition()).isEqualTo(20L);
+        assertThat(metrics.getEventsWritten()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountEvents()
+    {
+        // given
+        final StreamProcessorMetrics metrics = registry.register(logStream, "processor");
+
+        // when
+        metrics.incrementEventsProcessed();
+        metrics.incrementEventsProcessed();
+        metrics.incrementEventsSkipped();
+
+        // then
+        assertThat(metrics.getEventsProcessed()).isEqualTo(2);
+        assertThat(metrics.getEventsSkipped()).isEqualTo(1);
+        assertThat(metrics.getEventsWritten()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldUnregisterMetrics()
+    {
+        // given
+        final StreamProcessorMetrics metrics = registry.register(logStream, "processor");
+
+        // when
+        registry.unregister(metrics);
+
+        // then
+        countersManager.forEach((id, label) ->
+        {
+            throw new AssertionError("counter not freed: " + label);
+        });
+    }
+
+    @Test
+    public void shouldRegisterMetricsIfCountersFileIsFull()
+    {
+        // given
+        final List<StreamProcessorMetrics> registered = new ArrayList<>();
+
+        // exceeds the capacity of the counters buffer
+        for (int i = 0; i < 200; i++)
+        {
+            registered.add(registry.register(logStream, "processor-" + i));
+        }
+
+        final StreamProcessorMetrics metrics = registered.get(registered.size() - 1);
+
+        // when
+        metrics.setLastProcessedPosition(10L);
+        metrics.incrementEventsWritten(20L);
+
+        // then
+        assertThat(metrics.getLastProcessedPosition()).isEqualTo(10L);
+        assertThat(metrics.getLastWrittenPosition()).isEqualTo(20L);
+        assertThat(metrics.getEventsWritten()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFreeCountersOnClose()
+    {
+        // given
+        registry.register(logStream, "processor-1");
+        registry.register(logStream, "processor-2");
+
+        // when
+        registry.close();
+
+        // then
+        countersManager.forEach((id, label) ->
+        {
+            throw new AssertionError("counter not freed: " + label);
+        });
+    }
+}
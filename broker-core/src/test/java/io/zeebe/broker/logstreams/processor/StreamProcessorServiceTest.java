@@ -19,12 +19,19 @@ package io.zeebe.broker.logstreams.processor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import io.zeebe.broker.logstreams.cfg.SnapshotStorageCfg;
+import io.zeebe.broker.services.Counters;
 import io.zeebe.broker.test.MockStreamProcessorController;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -174,6 +181,56 @@ public class StreamProcessorServiceTest
         assertThat(reprocessingEventFilter.applies(event)).isFalse();
     }
 
+    @Test
+    public void shouldNotifyReplayAwareProcessorOnReprocessing()
+    {
+        // given
+        final StreamProcessor streamProcessor = mock(StreamProcessor.class, withSettings().extraInterfaces(ReplayAware.class));
+
+        final StreamProcessorService streamProcessorService = new StreamProcessorService("foo", 1, streamProcessor);
+        injectMocks(streamProcessorService);
+
+        streamProcessorService.start(mock(ServiceStartContext.class));
+
+        final StreamProcessorController controller = streamProcessorService.getStreamProcessorController();
+        final EventFilter reprocessingEventFilter = controller.getReprocessingEventFilter();
+
+        final LoggedEvent event = mockController.buildLoggedEvent(1L, (e) ->
+        { });
+
+        // when
+        final boolean applies = reprocessingEventFilter.applies(event);
+
+        // then
+        assertThat(applies).isTrue();
+        verify((ReplayAware) streamProcessor).onReplay(event);
+    }
+
+    @Test
+    public void shouldNotNotifyReplayAwareProcessorIfReprocessingIsRejected()
+    {
+        // given
+        final StreamProcessor streamProcessor = mock(StreamProcessor.class, withSettings().extraInterfaces(ReplayAware.class));
+
+        final StreamProcessorService streamProcessorService = new StreamProcessorService("foo", 1, streamProcessor);
+        injectMocks(streamProcessorService);
+        streamProcessorService.reprocessingEventFilter(e -> false);
+
+        streamProcessorService.start(mock(ServiceStartContext.class));
+
+        final StreamProcessorController controller = streamProcessorService.getStreamProcessorController();
+        final EventFilter reprocessingEventFilter = controller.getReprocessingEventFilter();
+
+        final LoggedEvent event = mockController.buildLoggedEvent(1L, (e) ->
+        { });
+
+        // when
+        reprocessingEventFilter.applies(event);
+
+        // then
+        verify((ReplayAware) streamProcessor, never()).onReplay(event);
+    }
+
     protected void injectMocks(StreamProcessorService streamProcessorService)
     {
         final ActorScheduler actorScheduler = mock(ActorScheduler.class);
@@ -185,6 +242,13 @@ public class StreamProcessorServiceTest
         streamProcessorService.getLogStreamInjector().inject(logStream);
 
         streamProcessorService.getSnapshotStorageInjector().inject(mock(SnapshotStorage.class));
+
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+        final CountersManager countersManager = new CountersManager(new UnsafeBuffer(new byte[256 * 1024]), countersBuffer);
+        final Counters counters = new Counters(countersManager, countersBuffer);
+        streamProcessorService.getMetricsRegistryInjector().inject(new StreamProcessorMetricsRegistry(counters));
+
+        streamProcessorService.getSnapshotPolicyFactoryInjector().inject(new SnapshotPolicyFactory(new SnapshotStorageCfg()));
     }
 
     public static class TestEvent extends UnpackedObject
@@ -0,0 +1,119 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CountersTest
+{
+    protected CountersManager countersManager;
+    protected Counters counters;
+
+    @Before
+    public void setUp()
+    {
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[4 * 1024]);
+        countersManager = new CountersManager(new UnsafeBuffer(new byte[16 * 1024]), countersBuffer);
+
+        counters = new Counters(countersManager, countersBuffer);
+    }
+
+    @Test
+    public void shouldNotFailIfCountersFileIsFull()
+    {
+        // given
+        final List<AtomicCounter> allocatedCounters = new ArrayList<>();
+
+        // when
+        AtomicCounter counter = counters.newCounter("counter");
+        while (counters.isMapped(counter))
+        {
+            allocatedCounters.add(counter);
+            counter = counters.newCounter("counter");
+        }
+
+        // then
+        assertThat(allocatedCounters).isNotEmpty();
+        assertThat(countersInFile()).isEqualTo(allocatedCounters.size());
+
+        counter.increment();
+        counter.add(2);
+        assertThat(counter.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldKeepUnmappedCountersSeparate()
+    {
+        // given
+        AtomicCounter counter = counters.newCounter("counter");
+        while (counters.isMapped(counter))
+        {
+            counter = counters.newCounter("counter");
+        }
+        final AtomicCounter otherCounter = counters.newCounter("other");
+
+        // when
+        counter.set(5);
+        otherCounter.set(7);
+
+        // then
+        assertThat(counters.isMapped(otherCounter)).isFalse();
+        assertThat(counter.get()).isEqualTo(5);
+        assertThat(otherCounter.get()).isEqualTo(7);
+    }
+
+    @Test
+    public void shouldAllocateInFileAgainAfterFree()
+    {
+        // given
+        final List<AtomicCounter> allocatedCounters = new ArrayList<>();
+
+        AtomicCounter unmappedCounter = counters.newCounter("counter");
+        while (counters.isMapped(unmappedCounter))
+        {
+            allocatedCounters.add(unmappedCounter);
+            unmappedCounter = counters.newCounter("counter");
+        }
+
+        // when
+        counters.free(unmappedCounter);
+        counters.free(allocatedCounters.get(0));
+
+        final AtomicCounter counter = counters.newCounter("counter");
+
+        // then
+        assertThat(counters.isMapped(counter)).isTrue();
+        assertThat(countersInFile()).isEqualTo(allocatedCounters.size());
+    }
+
+    protected int countersInFile()
+    {
+        final int[] count = new int[1];
+        countersManager.forEach((id, label) -> count[0]++);
+        return count[0];
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.zeebe.broker.services.Counters;
+import io.zeebe.broker.system.metrics.CommandTracer.Interval;
+import io.zeebe.protocol.clientapi.EventType;
+
+public class CommandTracerTest
+{
+    protected CommandTracer commandTracer;
+
+    @Before
+    public void setUp()
+    {
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[1024 * 1024]);
+        final CountersManager countersManager = new CountersManager(new UnsafeBuffer(new byte[4 * 1024 * 1024]), countersBuffer);
+
+        commandTracer = new CommandTracer(new Counters(countersManager, countersBuffer));
+    }
+
+    @After
+    public void tearDown()
+    {
+        commandTracer.close();
+    }
+
+    @Test
+    public void shouldTraceCommand()
+    {
+        // given
+        final long receivedTime = System.nanoTime();
+        commandTracer.commandAppended(1, 2L, EventType.TASK_EVENT, receivedTime);
+
+        // when
+        commandTracer.commandPickedUp(1, 2L);
+        commandTracer.commandProcessed(1, 2L);
+        commandTracer.commandResponded(1, 2L);
+
+        // then
+        for (Interval interval : Interval.values())
+        {
+            assertThat(commandTracer.getHistogram(EventType.TASK_EVENT, interval).getCount()).isEqualTo(1);
+        }
+        assertThat(commandTracer.getHistogram(EventType.WORKFLOW_INSTANCE_EVENT, Interval.TOTAL).getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCompleteTraceOnlyOnce()
+    {
+        // given
+        commandTracer.commandAppended(1, 2L, EventType.TASK_EVENT, System.nanoTime());
+        commandTracer.commandResponded(1, 2L);
+
+        // when
+        commandTracer.commandResponded(1, 2L);
+
+        // then
+        assertThat(commandTracer.getHistogram(EventType.TASK_EVENT, Interval.TOTAL).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldIgnoreCommandWhichIsNotAppended()
+    {
+        // given
+        commandTracer.commandAppended(1, 2L, EventType.TASK_EVENT, System.nanoTime());
+
+        // when
+        commandTracer.commandPickedUp(2, 2L);
+        commandTracer.commandResponded(2, 2L);
+
+        // then
+        assertThat(commandTracer.getHistogram(EventType.TASK_EVENT, Interval.TOTAL).getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRecordMissingStampsAsZeroLatency()
+    {
+        // given
+        commandTracer.commandAppended(1, 2L, EventType.WORKFLOW_INSTANCE_EVENT, System.nanoTime());
+
+        // when
+        commandTracer.commandResponded(1, 2L);
+
+        // then
+        assertThat(commandTracer.getHistogram(EventType.WORKFLOW_INSTANCE_EVENT, Interval.PICK_UP).getCount()).isEqualTo(1);
+        assertThat(commandTracer.getHistogram(EventType.WORKFLOW_INSTANCE_EVENT, Interval.PROCESS).getSumInMicros()).isEqualTo(0);
+        assertThat(commandTracer.getHistogram(EventType.WORKFLOW_INSTANCE_EVENT, Interval.RESPOND).getSumInMicros()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.zeebe.broker.services.Counters;
+
+public class LatencyHistogramTest
+{
+    protected CountersManager countersManager;
+    protected LatencyHistogram histogram;
+
+    @Before
+    public void setUp()
+    {
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+        countersManager = new CountersManager(new UnsafeBuffer(new byte[256 * 1024]), countersBuffer);
+
+        histogram = new LatencyHistogram(new Counters(countersManager, countersBuffer), "test");
+    }
+
+    @Test
+    public void shouldRecordValues()
+    {
+        // when
+        histogram.recordValue(1, TimeUnit.MILLISECONDS);
+        histogram.recordValue(3, TimeUnit.MICROSECONDS);
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(2);
+        assertThat(histogram.getSumInMicros()).isEqualTo(1003);
+    }
+
+    @Test
+    public void shouldReturnUpperBoundOfBucketAtPercentile()
+    {
+        // given
+        for (int i = 0; i < 99; i++)
+        {
+            histogram.recordValue(100, TimeUnit.MICROSECONDS);
+        }
+        histogram.recordValue(10, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(128);
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(128);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(16384);
+    }
+
+    @Test
+    public void shouldReturnZeroIfEmpty()
+    {
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldFreeCountersOnClose()
+    {
+        // when
+        histogram.close();
+
+        // then
+        countersManager.forEach((id, label) ->
+        {
+            throw new AssertionError("counter not freed: " + label);
+        });
+    }
+}
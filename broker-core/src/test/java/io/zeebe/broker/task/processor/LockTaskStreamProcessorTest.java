@@ -436,6 +436,36 @@ public class LockTaskStreamProcessorTest
         streamProcessor.addSubscription(anotherSubscription);
     }
 
+    @Test
+    public void shouldAddPartialSubscriptionWithZeroCredits()
+    {
+        // given
+        anotherSubscription.setCredits(0);
+        anotherSubscription.setPartial(true);
+
+        streamProcessor.addSubscription(anotherSubscription);
+
+        mockController.processEvent(2L, event -> event
+                .setState(TaskState.CREATED)
+                .setType(TASK_TYPE_BUFFER, 0, TASK_TYPE_BUFFER.capacity()));
+
+        assertThat(mockController.getWrittenEvents()).hasSize(0);
+
+        // when
+        streamProcessor.increaseSubscriptionCreditsAsync(new CreditsRequest(anotherSubscription.getSubscriberKey(), 1));
+
+        mockController.processEvent(3L, event -> event
+                .setState(TaskState.CREATED)
+                .setType(TASK_TYPE_BUFFER, 0, TASK_TYPE_BUFFER.capacity()));
+
+        // then
+        assertThat(mockController.getWrittenEvents()).hasSize(1);
+
+        final WrittenEvent<TaskEvent> lastWrittenEvent = mockController.getLastWrittenEvent();
+        assertThat(lastWrittenEvent.getKey()).isEqualTo(3L);
+        assertThat(lastWrittenEvent.getValue().getState()).isEqualTo(TaskState.LOCK);
+    }
+
     @Test
     public void shouldFailToAddSubscriptionIfEmptyLockOwner()
     {
@@ -25,6 +25,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -38,6 +41,7 @@ import io.zeebe.test.util.FluentMock;
 import org.agrona.DirectBuffer;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -237,6 +241,238 @@ public class TaskSubscriptionManagerTest
         verify(mockServiceBuilder, times(2)).install();
     }
 
+    @Test
+    public void shouldCreateSingleServiceForMultipleTaskTypes() throws Exception
+    {
+        // given
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+
+        // when
+        final CompletableFuture<Void> future = manager.addSubscription(multiTypeSubscription);
+        manager.doWork();
+
+        // then
+        assertThat(future).isCompleted();
+
+        verify(mockStreamProcessorBuilder, times(1)).apply(TASK_TYPE_BUFFER);
+        verify(mockStreamProcessorBuilder, never()).apply(ANOTHER_TASK_TYPE_BUFFER);
+
+        verify(mockStreamProcessor).addSubscribedTaskType(ANOTHER_TASK_TYPE_BUFFER);
+        verify(mockStreamProcessor).addSubscription(multiTypeSubscription);
+
+        verify(mockServiceContext, times(1)).createService(eq(taskQueueLockStreamProcessorServiceName(LOG_STREAM_LOG_NAME, TASK_TYPE)), any());
+        verify(mockServiceBuilder, times(1)).install();
+    }
+
+    @Test
+    public void shouldAddMultiTypeSubscriptionToProcessorsOfOverlappingTaskTypes() throws Exception
+    {
+        // given
+        final TaskSubscription anotherSubscription = createTaskSubscription(LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+        final LockTaskStreamProcessor anotherMockStreamProcessor = createMockStreamProcessor(LOG_STREAM_TOPIC_NAME_BUFFER, LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+        multiTypeSubscription.setCredits(10);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+        manager.addSubscription(subscription);
+        manager.addSubscription(anotherSubscription);
+
+        // when
+        final CompletableFuture<Void> future = manager.addSubscription(multiTypeSubscription);
+        manager.doWork();
+
+        // then
+        assertThat(future).isCompleted();
+
+        final ArgumentCaptor<TaskSubscription> captor = ArgumentCaptor.forClass(TaskSubscription.class);
+        verify(mockStreamProcessor, times(2)).addSubscription(captor.capture());
+
+        final TaskSubscription partialSubscription = captor.getAllValues().get(1);
+        assertThat(partialSubscription.getLockTaskTypes()).containsExactly(TASK_TYPE_BUFFER);
+        assertThat(partialSubscription.getSubscriberKey()).isEqualTo(2L);
+        assertThat(partialSubscription.getCredits()).isEqualTo(5);
+
+        verify(anotherMockStreamProcessor, times(2)).addSubscription(captor.capture());
+
+        final TaskSubscription anotherPartialSubscription = captor.getAllValues().get(3);
+        assertThat(anotherPartialSubscription.getLockTaskTypes()).containsExactly(ANOTHER_TASK_TYPE_BUFFER);
+        assertThat(anotherPartialSubscription.getSubscriberKey()).isEqualTo(2L);
+        assertThat(anotherPartialSubscription.getCredits()).isEqualTo(5);
+
+        verify(mockServiceBuilder, times(2)).install();
+    }
+
+    @Test
+    public void shouldAddPartiallyOverlappingMultiTypeSubscription() throws Exception
+    {
+        // given
+        final LockTaskStreamProcessor anotherMockStreamProcessor = createMockStreamProcessor(LOG_STREAM_TOPIC_NAME_BUFFER, LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+        multiTypeSubscription.setCredits(3);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+        manager.addSubscription(subscription);
+
+        // when
+        final CompletableFuture<Void> future = manager.addSubscription(multiTypeSubscription);
+        manager.doWork();
+
+        // then
+        assertThat(future).isCompleted();
+
+        verify(mockStreamProcessorBuilder, times(1)).apply(TASK_TYPE_BUFFER);
+        verify(mockStreamProcessorBuilder, times(1)).apply(ANOTHER_TASK_TYPE_BUFFER);
+
+        final ArgumentCaptor<TaskSubscription> captor = ArgumentCaptor.forClass(TaskSubscription.class);
+        verify(mockStreamProcessor, times(2)).addSubscription(captor.capture());
+        verify(anotherMockStreamProcessor).addSubscription(captor.capture());
+
+        final List<TaskSubscription> subscriptions = captor.getAllValues();
+        assertThat(subscriptions.get(1).getLockTaskTypes()).containsExactly(TASK_TYPE_BUFFER);
+        assertThat(subscriptions.get(1).getCredits()).isEqualTo(2);
+        assertThat(subscriptions.get(2).getLockTaskTypes()).containsExactly(ANOTHER_TASK_TYPE_BUFFER);
+        assertThat(subscriptions.get(2).getCredits()).isEqualTo(1);
+
+        verify(mockServiceContext, times(1)).createService(eq(taskQueueLockStreamProcessorServiceName(LOG_STREAM_LOG_NAME, ANOTHER_TASK_TYPE)), any());
+        verify(mockServiceBuilder, times(2)).install();
+    }
+
+    @Test
+    public void shouldSplitCreditsOfMultiTypeSubscription() throws Exception
+    {
+        // given
+        final TaskSubscription anotherSubscription = createTaskSubscription(LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+        final LockTaskStreamProcessor anotherMockStreamProcessor = createMockStreamProcessor(LOG_STREAM_TOPIC_NAME_BUFFER, LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+        multiTypeSubscription.setCredits(2);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+        manager.addSubscription(subscription);
+        manager.addSubscription(anotherSubscription);
+        manager.addSubscription(multiTypeSubscription);
+
+        final List<Integer> credits = new ArrayList<>();
+        final List<Integer> anotherCredits = new ArrayList<>();
+        when(mockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i -> credits.add(((CreditsRequest) i.getArgument(0)).getCredits()));
+        when(anotherMockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i -> anotherCredits.add(((CreditsRequest) i.getArgument(0)).getCredits()));
+
+        // when
+        manager.increaseSubscriptionCreditsAsync(new CreditsRequest(2L, 5));
+        manager.doWork();
+
+        // then
+        assertThat(credits).containsExactly(3);
+        assertThat(anotherCredits).containsExactly(2);
+    }
+
+    @Test
+    public void shouldNotGrantMoreCreditsThanRequestedToMultiTypeSubscription() throws Exception
+    {
+        // given
+        final TaskSubscription anotherSubscription = createTaskSubscription(LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+        final LockTaskStreamProcessor anotherMockStreamProcessor = createMockStreamProcessor(LOG_STREAM_TOPIC_NAME_BUFFER, LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+        multiTypeSubscription.setCredits(1);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+        manager.addSubscription(subscription);
+        manager.addSubscription(anotherSubscription);
+
+        // when
+        manager.addSubscription(multiTypeSubscription);
+        manager.doWork();
+
+        final List<Integer> credits = new ArrayList<>();
+        final List<Integer> anotherCredits = new ArrayList<>();
+        when(mockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i -> credits.add(((CreditsRequest) i.getArgument(0)).getCredits()));
+        when(anotherMockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i -> anotherCredits.add(((CreditsRequest) i.getArgument(0)).getCredits()));
+
+        manager.increaseSubscriptionCreditsAsync(new CreditsRequest(2L, 1));
+        manager.doWork();
+
+        // then
+        final ArgumentCaptor<TaskSubscription> captor = ArgumentCaptor.forClass(TaskSubscription.class);
+        verify(mockStreamProcessor, times(2)).addSubscription(captor.capture());
+        verify(anotherMockStreamProcessor, times(2)).addSubscription(captor.capture());
+
+        final List<TaskSubscription> subscriptions = captor.getAllValues();
+        assertThat(subscriptions.get(1).getCredits()).isEqualTo(1);
+        assertThat(subscriptions.get(1).isPartial()).isTrue();
+        assertThat(subscriptions.get(3).getCredits()).isEqualTo(0);
+        assertThat(subscriptions.get(3).isPartial()).isTrue();
+
+        assertThat(credits).containsExactly(1);
+        assertThat(anotherCredits).isEmpty();
+    }
+
+    @Test
+    public void shouldRetryOnlyBackpressuredShareOfCredits() throws Exception
+    {
+        // given
+        final TaskSubscription anotherSubscription = createTaskSubscription(LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+        final LockTaskStreamProcessor anotherMockStreamProcessor = createMockStreamProcessor(LOG_STREAM_TOPIC_NAME_BUFFER, LOG_STREAM_PARTITION_ID, ANOTHER_TASK_TYPE_BUFFER);
+
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+        multiTypeSubscription.setCredits(2);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+        manager.addSubscription(subscription);
+        manager.addSubscription(anotherSubscription);
+        manager.addSubscription(multiTypeSubscription);
+
+        final List<Integer> credits = new ArrayList<>();
+        final List<Integer> anotherCredits = new ArrayList<>();
+        when(mockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i -> credits.add(((CreditsRequest) i.getArgument(0)).getCredits()));
+        when(anotherMockStreamProcessor.increaseSubscriptionCreditsAsync(any())).thenAnswer(i ->
+        {
+            anotherCredits.add(((CreditsRequest) i.getArgument(0)).getCredits());
+            // back pressured on the first attempt
+            return anotherCredits.size() > 1;
+        });
+
+        // when
+        manager.increaseSubscriptionCreditsAsync(new CreditsRequest(2L, 5));
+        manager.doWork();
+        manager.doWork();
+
+        // then
+        assertThat(credits).containsExactly(3);
+        assertThat(anotherCredits).containsExactly(2, 2);
+    }
+
+    @Test
+    public void shouldFailToAddMultiTypeSubscriptionIfZeroCredits() throws Exception
+    {
+        // given
+        final TaskSubscription multiTypeSubscription = new TaskSubscription(LOG_STREAM_PARTITION_ID,
+                Arrays.asList(TASK_TYPE_BUFFER, ANOTHER_TASK_TYPE_BUFFER), Duration.ofMinutes(5).toMillis(), wrapString("owner"), 11);
+
+        manager.addStream(mockLogStream, LOG_STREAM_SERVICE_NAME);
+
+        // when
+        final CompletableFuture<Void> future = manager.addSubscription(multiTypeSubscription);
+        manager.doWork();
+
+        // then
+        assertThat(future).hasFailedWithThrowableThat()
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("subscription credits must be greater than 0");
+
+        verify(mockServiceContext, never()).createService(any(), any());
+    }
+
     @Test
     public void shouldIncreateSubscriptionCredits() throws Exception
     {
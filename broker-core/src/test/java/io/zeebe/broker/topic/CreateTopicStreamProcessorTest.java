@@ -246,6 +246,72 @@ public class CreateTopicStreamProcessorTest
         assertThat(partitionEventsInState(PartitionState.CREATE).count()).isEqualTo(1);
     }
 
+    @Test
+    public void shouldSendLogSegmentSizeOfTopicWithPartitionRequest()
+    {
+        // given
+        partitionManager.addMember(SOCKET_ADDRESS1);
+
+        final StreamProcessorControl processorControl = streams.runStreamProcessor(STREAM_NAME, streamProcessor);
+        processorControl.unblock();
+
+        final TopicEvent createTopicCommand = createTopic("foo", 2);
+        createTopicCommand.setLogSegmentSize(16);
+
+        // when
+        streams.newEvent(STREAM_NAME)
+            .event(createTopicCommand)
+            .write();
+
+        // then
+        waitUntil(() -> partitionManager.getPartitionRequests().size() == 2);
+
+        assertThat(partitionManager.getPartitionRequests()).extracting("logSegmentSize").containsOnly(16 * 1024 * 1024);
+    }
+
+    @Test
+    public void shouldSendDefaultLogSegmentSizeWithPartitionRequest()
+    {
+        // given
+        partitionManager.addMember(SOCKET_ADDRESS1);
+
+        final StreamProcessorControl processorControl = streams.runStreamProcessor(STREAM_NAME, streamProcessor);
+        processorControl.unblock();
+
+        // when
+        streams.newEvent(STREAM_NAME)
+            .event(createTopic("foo", 1))
+            .write();
+
+        // then
+        waitUntil(() -> partitionManager.getPartitionRequests().size() == 1);
+
+        assertThat(partitionManager.getPartitionRequests()).extracting("logSegmentSize").containsOnly(-1);
+    }
+
+    @Test
+    public void shouldRejectInvalidLogSegmentSize()
+    {
+        // given
+        partitionManager.addMember(SOCKET_ADDRESS1);
+
+        final StreamProcessorControl processorControl = streams.runStreamProcessor(STREAM_NAME, streamProcessor);
+        processorControl.unblock();
+
+        final TopicEvent createTopicCommand = createTopic("foo", 1);
+        createTopicCommand.setLogSegmentSize(0);
+
+        // when
+        streams.newEvent(STREAM_NAME)
+            .event(createTopicCommand)
+            .write();
+
+        // then
+        waitUntil(() -> topicEventsInState(TopicState.CREATE_REJECTED).findFirst().isPresent());
+
+        assertThat(partitionEventsInState(PartitionState.CREATE).count()).isEqualTo(0);
+    }
+
     @Test
     public void shouldResendPartitionRequestToSameBrokerOnRecovery() throws InterruptedException
     {
@@ -459,6 +525,30 @@ public class CreateTopicStreamProcessorTest
 
     }
 
+    @Test
+    public void shouldDistributePartitionsToBrokerWithFewestLeaders()
+    {
+        // given
+        partitionManager.addMember(SOCKET_ADDRESS1);
+        partitionManager.addMember(SOCKET_ADDRESS2);
+        partitionManager.declarePartitionLeader(SOCKET_ADDRESS1, 100);
+        partitionManager.declarePartitionLeader(SOCKET_ADDRESS1, 101);
+
+        final StreamProcessorControl processorControl = streams.runStreamProcessor(STREAM_NAME, streamProcessor);
+        processorControl.unblock();
+
+        // when
+        streams.newEvent(STREAM_NAME)
+            .event(createTopic("foo", 3))
+            .write();
+        waitUntil(() -> partitionEventsInState(PartitionState.CREATING).count() == 3);
+
+        // then
+        final List<PartitionRequest> requests = partitionManager.getPartitionRequests();
+        assertThat(requests).extracting(r -> r.endpoint).containsExactly(
+                SOCKET_ADDRESS2, SOCKET_ADDRESS2, SOCKET_ADDRESS1);
+    }
+
     @Test
     public void shouldCreateNewPartitionOnExpiration()
     {
@@ -810,9 +900,9 @@ public class CreateTopicStreamProcessorTest
         }
 
         @Override
-        public boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId)
+        public boolean createPartitionRemote(SocketAddress remote, DirectBuffer topicName, int partitionId, int logSegmentSize)
         {
-            partitionRequests.add(new PartitionRequest(remote, partitionId));
+            partitionRequests.add(new PartitionRequest(remote, partitionId, logSegmentSize));
             return true;
         }
 
@@ -833,11 +923,13 @@ public class CreateTopicStreamProcessorTest
     {
         protected final SocketAddress endpoint = new SocketAddress();
         protected final int partitionId;
+        protected final int logSegmentSize;
 
-        public PartitionRequest(SocketAddress endpoint, int partitionId)
+        public PartitionRequest(SocketAddress endpoint, int partitionId, int logSegmentSize)
         {
             this.endpoint.wrap(endpoint);
             this.partitionId = partitionId;
+            this.logSegmentSize = logSegmentSize;
         }
 
         public int getPartitionId()
@@ -845,6 +937,11 @@ public class CreateTopicStreamProcessorTest
             return partitionId;
         }
 
+        public int getLogSegmentSize()
+        {
+            return logSegmentSize;
+        }
+
         public SocketAddress getEndpoint()
         {
             return endpoint;
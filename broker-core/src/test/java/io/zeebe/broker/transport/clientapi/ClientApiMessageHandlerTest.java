@@ -23,12 +23,15 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import io.zeebe.broker.services.Counters;
+import io.zeebe.broker.system.metrics.CommandTracer;
 import io.zeebe.broker.task.data.TaskEvent;
 import io.zeebe.broker.task.data.TaskState;
 import io.zeebe.broker.transport.controlmessage.ControlMessageRequestHeaderDescriptor;
@@ -41,9 +44,11 @@ import io.zeebe.protocol.clientapi.*;
 import io.zeebe.protocol.impl.BrokerEventMetadata;
 import io.zeebe.test.util.agent.ManualActorScheduler;
 import io.zeebe.transport.RemoteAddress;
+import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.SocketAddress;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
 import org.junit.*;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
@@ -85,6 +90,7 @@ public class ClientApiMessageHandlerTest
 
     private LogStream logStream;
     private ClientApiMessageHandler messageHandler;
+    private ClientApiMetrics metrics;
 
     @Mock
     private Dispatcher mockControlMessageDispatcher;
@@ -111,7 +117,11 @@ public class ClientApiMessageHandlerTest
 
         logStream.openAsync();
 
-        messageHandler = new ClientApiMessageHandler(mockControlMessageDispatcher);
+        final UnsafeBuffer countersBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+        final CountersManager countersManager = new CountersManager(new UnsafeBuffer(new byte[256 * 1024]), countersBuffer);
+        metrics = new ClientApiMetrics(new Counters(countersManager, countersBuffer));
+
+        messageHandler = new ClientApiMessageHandler(mockControlMessageDispatcher, metrics, mock(CommandTracer.class));
 
         messageHandler.addStream(logStream);
         logStream.setTerm(RAFT_TERM);
@@ -259,6 +269,52 @@ public class ClientApiMessageHandlerTest
         assertThat(errorDecoder.errorData()).isEqualTo("Cannot execute command. Partition with id '99' not found");
     }
 
+    @Test
+    public void shouldCountRequests()
+    {
+        // given
+        final int writtenLength = writeCommandRequestToBuffer(buffer, LOG_STREAM_PARTITION_ID, null, EventType.TASK_EVENT);
+        final UnsafeBuffer invalidRequest = new UnsafeBuffer(new byte[1024]);
+        final int invalidLength = writeCommandRequestToBuffer(invalidRequest, 99, null, EventType.TASK_EVENT);
+
+        // when
+        messageHandler.onRequest(serverOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+        messageHandler.onRequest(serverOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+        messageHandler.onRequest(serverOutput, DEFAULT_ADDRESS, invalidRequest, 0, invalidLength, REQUEST_ID);
+
+        // then
+        assertThat(metrics.getCommandRequests()).isEqualTo(2);
+        assertThat(metrics.getRejectedRequests()).isEqualTo(1);
+        assertThat(metrics.getBackpressuredRequests()).isEqualTo(0);
+        assertThat(metrics.getControlMessageRequests()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotCountRejectedRequestAsBackpressuredIfErrorResponseIsNotSent()
+    {
+        // given
+        final ServerOutput fullOutput = mock(ServerOutput.class);
+        when(fullOutput.sendResponse(any())).thenReturn(false);
+
+        final int writtenLength = writeCommandRequestToBuffer(buffer, 99, null, EventType.TASK_EVENT);
+
+        // when
+        final boolean isHandled = messageHandler.onRequest(fullOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+        // then
+        assertThat(isHandled).isFalse();
+
+        assertThat(metrics.getRejectedRequests()).isEqualTo(0);
+        assertThat(metrics.getBackpressuredRequests()).isEqualTo(0);
+        assertThat(metrics.getCommandRequests()).isEqualTo(0);
+
+        // and when the request is retried
+        messageHandler.onRequest(serverOutput, DEFAULT_ADDRESS, buffer, 0, writtenLength, REQUEST_ID);
+
+        // then
+        assertThat(metrics.getRejectedRequests()).isEqualTo(1);
+    }
+
     @Test
     public void shouldNotHandleUnkownRequest() throws InterruptedException, ExecutionException
     {
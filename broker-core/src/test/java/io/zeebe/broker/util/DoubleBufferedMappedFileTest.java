@@ -0,0 +1,175 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.util;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.agrona.DirectBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DoubleBufferedMappedFileTest
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadNothingFromNewFile() throws IOException
+    {
+        // given
+        final File file = new File(tempFolder.getRoot(), "test.meta");
+
+        // when
+        final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 64);
+
+        // then
+        assertThat(mappedFile.read()).isNull();
+        assertThat(DoubleBufferedMappedFile.isMappedFile(file)).isTrue();
+
+        mappedFile.close();
+    }
+
+    @Test
+    public void shouldReadLatestWrite() throws IOException
+    {
+        // given
+        final File file = new File(tempFolder.getRoot(), "test.meta");
+        final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 64);
+
+        // when
+        write(mappedFile, "first");
+        write(mappedFile, "second");
+        write(mappedFile, "third");
+
+        mappedFile.close();
+
+        // then
+        final DoubleBufferedMappedFile reopened = new DoubleBufferedMappedFile(file, 64);
+        assertThat(bufferAsString(reopened.read())).isEqualTo("third");
+
+        reopened.close();
+    }
+
+    @Test
+    public void shouldGrowIfDataExceedsCapacity() throws IOException
+    {
+        // given
+        final File file = new File(tempFolder.getRoot(), "test.meta");
+        final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 8);
+
+        write(mappedFile, "short");
+
+        // when
+        write(mappedFile, "a value which exceeds the capacity");
+
+        // then
+        assertThat(bufferAsString(mappedFile.read())).isEqualTo("a value which exceeds the capacity");
+
+        mappedFile.close();
+
+        final DoubleBufferedMappedFile reopened = new DoubleBufferedMappedFile(file, 8);
+        assertThat(bufferAsString(reopened.read())).isEqualTo("a value which exceeds the capacity");
+
+        reopened.close();
+    }
+
+    @Test
+    public void shouldReadPreviousWriteIfLatestIsCorrupted() throws IOException
+    {
+        // given
+        final File file = new File(tempFolder.getRoot(), "test.meta");
+        final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 64);
+
+        write(mappedFile, "first");
+        write(mappedFile, "second");
+
+        mappedFile.close();
+
+        // when
+        // the second write went to the second slot
+        final int secondSlotDataOffset = DoubleBufferedMappedFile.HEADER_LENGTH +
+            2 * DoubleBufferedMappedFile.SLOT_HEADER_LENGTH + 64;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            raf.seek(secondSlotDataOffset);
+            raf.write('x');
+        }
+
+        // then
+        final DoubleBufferedMappedFile reopened = new DoubleBufferedMappedFile(file, 64);
+        assertThat(bufferAsString(reopened.read())).isEqualTo("first");
+
+        reopened.close();
+    }
+
+    @Test
+    public void shouldNotOpenFileOfOtherFormat() throws IOException
+    {
+        // given
+        final File file = tempFolder.newFile("test.meta");
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            raf.write(new byte[64]);
+        }
+
+        // then
+        assertThat(DoubleBufferedMappedFile.isMappedFile(file)).isFalse();
+    }
+
+    @Test
+    public void shouldReplaceFileOfOtherFormat() throws IOException
+    {
+        // given
+        final File file = tempFolder.newFile("test.meta");
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            raf.write(new byte[64]);
+        }
+
+        final DirectBuffer data = wrapString("a value which exceeds the capacity");
+
+        // when
+        DoubleBufferedMappedFile.replace(file, 8, data, 0, data.capacity());
+
+        // then
+        assertThat(DoubleBufferedMappedFile.isMappedFile(file)).isTrue();
+        assertThat(new File(file.getAbsolutePath() + ".tmp")).doesNotExist();
+
+        final DoubleBufferedMappedFile mappedFile = new DoubleBufferedMappedFile(file, 8);
+        assertThat(bufferAsString(mappedFile.read())).isEqualTo("a value which exceeds the capacity");
+
+        mappedFile.close();
+    }
+
+    protected static void write(final DoubleBufferedMappedFile mappedFile, final String value)
+    {
+        final DirectBuffer buffer = wrapString(value);
+        mappedFile.write(buffer, 0, buffer.capacity());
+    }
+
+}
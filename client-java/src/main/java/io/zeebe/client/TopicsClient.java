@@ -52,6 +52,12 @@ public interface TopicsClient
      */
     Request<Event> create(String topicName, int partitions);
 
+    /**
+     * Creates a new topic with the given name and number of partitions. The log of each partition
+     * is split into segments of the given size in megabytes, instead of the broker's default size.
+     */
+    Request<Event> create(String topicName, int partitions, int logSegmentSize);
+
     /**
      * Requests all topics. Can be used to inspect which topics and partitions have been created.
      */
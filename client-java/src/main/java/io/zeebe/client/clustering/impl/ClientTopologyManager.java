@@ -146,14 +146,23 @@ public class ClientTopologyManager implements Actor
 
     protected void onNewTopology(TopologyResponse topologyResponse)
     {
-        final TopologyImpl topology = new TopologyImpl();
-        topology.update(topologyResponse, transport);
-        this.topology = topology;
+        if (!isSameVersion(topologyResponse))
+        {
+            final TopologyImpl topology = new TopologyImpl();
+            topology.update(topologyResponse, transport);
+            this.topology = topology;
+        }
 
         refreshFutures.forEach(f -> f.complete(null));
         refreshFutures.clear();
     }
 
+    protected boolean isSameVersion(TopologyResponse topologyResponse)
+    {
+        final Long version = topologyResponse.getVersion();
+        return version != null && version.equals(topology.getVersion());
+    }
+
     protected void failRefreshFutures(Exception e)
     {
         refreshFutures.forEach(f -> f.completeExceptionally(e));
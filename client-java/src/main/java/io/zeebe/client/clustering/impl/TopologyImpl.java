@@ -36,6 +36,7 @@ public class TopologyImpl implements Topology
     protected List<RemoteAddress> brokers;
     protected final Random randomBroker = new Random();
     protected Map<String, List<Integer>> partitionsByTopic = new HashMap<>();
+    protected Long version;
 
     public TopologyImpl()
     {
@@ -74,6 +75,11 @@ public class TopologyImpl implements Topology
         return partitionsByTopic.get(topic);
     }
 
+    public Long getVersion()
+    {
+        return version;
+    }
+
     @Override
     public String toString()
     {
@@ -96,6 +102,8 @@ public class TopologyImpl implements Topology
             CollectionUtil.addToMapOfLists(partitionsByTopic, leader.getTopicName(), leader.getPartitionId());
         }
 
+        version = topologyDto.getVersion();
+
     }
 
 }
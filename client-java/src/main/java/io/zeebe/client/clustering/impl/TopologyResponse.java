@@ -25,6 +25,8 @@ public class TopologyResponse
 
     private List<TopicLeader> topicLeaders;
 
+    private Long version;
+
     public List<SocketAddress> getBrokers()
     {
         return brokers;
@@ -45,10 +47,24 @@ public class TopologyResponse
         this.topicLeaders = topicLeaders;
     }
 
+    /**
+     * @return a checksum of the topology which is the same on each broker, or <code>null</code>
+     *   if the broker doesn't provide it
+     */
+    public Long getVersion()
+    {
+        return version;
+    }
+
+    public void setVersion(Long version)
+    {
+        this.version = version;
+    }
+
     @Override
     public String toString()
     {
-        return "TopologyResponse{" + "brokers=" + brokers + ", topicLeaders=" + topicLeaders + '}';
+        return "TopologyResponse{" + "brokers=" + brokers + ", topicLeaders=" + topicLeaders + ", version=" + version + '}';
     }
 
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event;
+
+/**
+ * Determines the key by which the events of a topic subscription are ordered when they
+ * are handled in parallel. Events with the same key are handled one after another in the
+ * order of their position, events with different keys may be handled concurrently.
+ */
+@FunctionalInterface
+public interface OrderingKeyExtractor
+{
+
+    /**
+     * @param event the received event
+     * @return the ordering key of the event
+     */
+    long extractKey(GeneralEvent event);
+}
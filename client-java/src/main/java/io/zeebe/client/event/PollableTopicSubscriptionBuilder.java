@@ -58,6 +58,23 @@ public interface PollableTopicSubscriptionBuilder
      */
     PollableTopicSubscriptionBuilder startAtHeadOfTopic();
 
+    /**
+     * <p>Starts the subscription with a snapshot of the current state of the topic instead of a position.
+     * First, the latest event of each running workflow instance, active activity, open task and
+     * open incident is received, ordered by position. Afterwards, the events which are written to the topic
+     * after the subscription is opened are received.
+     *
+     * <p>The snapshot is only created if the subscription is opened for the first time
+     * (or with {@link #forcedStart()}). Otherwise, the subscription resumes at the last acknowledged position.
+     * Since the snapshot events are acknowledged as well, a subscription which is reopened while receiving
+     * the snapshot resumes at the last acknowledged snapshot event and may receive events again.
+     *
+     * <p>Overrides the start positions.
+     *
+     * @return this builder
+     */
+    PollableTopicSubscriptionBuilder startWithStateSnapshot();
+
     /**
      * <p>Sets the name of a subscription. The name is used by the broker to record and persist the
      * subscription's position. When a subscription is reopened, this state is used to resume
@@ -126,6 +126,23 @@ public interface TopicSubscriptionBuilder
      */
     TopicSubscriptionBuilder startAtHeadOfTopic();
 
+    /**
+     * <p>Starts the subscription with a snapshot of the current state of the topic instead of a position.
+     * First, the latest event of each running workflow instance, active activity, open task and
+     * open incident is received, ordered by position. Afterwards, the events which are written to the topic
+     * after the subscription is opened are received.
+     *
+     * <p>The snapshot is only created if the subscription is opened for the first time
+     * (or with {@link #forcedStart()}). Otherwise, the subscription resumes at the last acknowledged position.
+     * Since the snapshot events are acknowledged as well, a subscription which is reopened while receiving
+     * the snapshot resumes at the last acknowledged snapshot event and may receive events again.
+     *
+     * <p>Overrides the start positions.
+     *
+     * @return this builder
+     */
+    TopicSubscriptionBuilder startWithStateSnapshot();
+
     /**
      * <p>Sets the name of a subscription. The name is used by the broker to record and persist the
      * subscription's position. When a subscription is reopened, this state is used to resume
@@ -154,6 +171,32 @@ public interface TopicSubscriptionBuilder
      */
     TopicSubscriptionBuilder name(String name);
 
+    /**
+     * <p>Handles events in parallel on up to <code>parallelism</code> subscription executor threads.
+     * Events with the same ordering key (see {@link #orderingKeyExtractor(OrderingKeyExtractor)})
+     * are still handled one after another in the order of their position. By default, events are
+     * ordered by the workflow instance they belong to.
+     *
+     * <p>The subscription acknowledges the highest position up to which all events have been handled,
+     * i.e. when the subscription is reopened, events that were handled out of order may be received again.
+     *
+     * <p>Default is <code>1</code>, i.e. all events of a partition are handled sequentially. Note that the
+     * effective parallelism is limited by the number of subscription execution threads of the client.
+     *
+     * @param parallelism the number of events that can be handled concurrently. Must be greater than 0.
+     * @return this builder
+     */
+    TopicSubscriptionBuilder parallelism(int parallelism);
+
+    /**
+     * Defines the key by which events are ordered when they are handled in parallel
+     * (see {@link #parallelism(int)}).
+     *
+     * @param keyExtractor determines the ordering key of an event
+     * @return this builder
+     */
+    TopicSubscriptionBuilder orderingKeyExtractor(OrderingKeyExtractor keyExtractor);
+
     /**
      * Opens a new topic subscription with the defined parameters.
      *
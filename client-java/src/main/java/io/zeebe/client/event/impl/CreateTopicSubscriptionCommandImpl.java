@@ -53,6 +53,12 @@ public class CreateTopicSubscriptionCommandImpl extends CommandImpl<TopicSubscri
         return this;
     }
 
+    public CreateTopicSubscriptionCommandImpl startWithSnapshot(boolean startWithSnapshot)
+    {
+        this.subscription.setStartWithSnapshot(startWithSnapshot);
+        return this;
+    }
+
     @Override
     public EventImpl getEvent()
     {
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event.impl;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the positions of events which are handled concurrently and determines
+ * the low-water mark, i.e. the highest position up to which all events have been handled.
+ * Positions must be added in ascending order.
+ */
+public class InFlightPositions
+{
+    protected long[] positions;
+    protected boolean[] completed;
+
+    protected int head;
+    protected int size;
+
+    public InFlightPositions(int initialCapacity)
+    {
+        final int capacity = Math.max(initialCapacity, 1);
+        this.positions = new long[capacity];
+        this.completed = new boolean[capacity];
+    }
+
+    public synchronized void add(long position)
+    {
+        if (size == positions.length)
+        {
+            grow();
+        }
+
+        final int index = (head + size) % positions.length;
+        positions[index] = position;
+        completed[index] = false;
+        size++;
+    }
+
+    /**
+     * Marks the event with the given position as handled.
+     *
+     * @return the new low-water mark or <code>-1</code> if it has not advanced
+     */
+    public synchronized long complete(long position)
+    {
+        final int offset = find(position);
+        if (offset < 0)
+        {
+            return -1L;
+        }
+
+        completed[(head + offset) % positions.length] = true;
+
+        long lowWaterMark = -1L;
+
+        while (size > 0 && completed[head])
+        {
+            lowWaterMark = positions[head];
+            completed[head] = false;
+            head = (head + 1) % positions.length;
+            size--;
+        }
+
+        return lowWaterMark;
+    }
+
+    public synchronized int size()
+    {
+        return size;
+    }
+
+    public synchronized void clear()
+    {
+        head = 0;
+        size = 0;
+        Arrays.fill(completed, false);
+    }
+
+    /**
+     * binary search over the ring buffer; positions are sorted ascending
+     */
+    protected int find(long position)
+    {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high)
+        {
+            final int mid = (low + high) >>> 1;
+            final long midPosition = positions[(head + mid) % positions.length];
+
+            if (midPosition < position)
+            {
+                low = mid + 1;
+            }
+            else if (midPosition > position)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    protected void grow()
+    {
+        final int newCapacity = positions.length * 2;
+        final long[] newPositions = new long[newCapacity];
+        final boolean[] newCompleted = new boolean[newCapacity];
+
+        for (int i = 0; i < size; i++)
+        {
+            final int index = (head + i) % positions.length;
+            newPositions[i] = positions[index];
+            newCompleted[i] = completed[index];
+        }
+
+        positions = newPositions;
+        completed = newCompleted;
+        head = 0;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event.impl;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+import io.zeebe.client.event.OrderingKeyExtractor;
+
+/**
+ * Distributes the events of a subscription to a fixed number of lanes by their ordering key.
+ * A lane is processed by at most one thread at a time, so that events with the same key
+ * are handled in order while different lanes are handled in parallel by the subscription executors.
+ */
+public class KeyOrderedEventDispatcher
+{
+    protected final OrderingKeyExtractor keyExtractor;
+    protected final Lane[] lanes;
+
+    protected final AtomicInteger nextLane = new AtomicInteger(0);
+
+    public KeyOrderedEventDispatcher(int parallelism, int laneCapacity, OrderingKeyExtractor keyExtractor)
+    {
+        this.keyExtractor = keyExtractor;
+        this.lanes = new Lane[parallelism];
+
+        for (int i = 0; i < parallelism; i++)
+        {
+            lanes[i] = new Lane(laneCapacity);
+        }
+    }
+
+    /**
+     * Must only be invoked by one thread at a time.
+     */
+    public Lane selectLane(GeneralEventImpl event)
+    {
+        final long key = keyExtractor.extractKey(event);
+        final int hash = (int) (key ^ (key >>> 32));
+
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    public int processLanes()
+    {
+        int workCount = 0;
+
+        // threads start at different lanes so that they do not compete for the same lane
+        final int offset = nextLane.getAndIncrement();
+
+        for (int i = 0; i < lanes.length; i++)
+        {
+            workCount += lanes[Math.floorMod(offset + i, lanes.length)].process();
+        }
+
+        return workCount;
+    }
+
+    public static class Lane
+    {
+        protected final ManyToManyConcurrentArrayQueue<DispatchedEvent> events;
+        protected final AtomicBoolean processingFlag = new AtomicBoolean(false);
+
+        public Lane(int capacity)
+        {
+            this.events = new ManyToManyConcurrentArrayQueue<>(capacity);
+        }
+
+        public boolean hasCapacity()
+        {
+            return events.remainingCapacity() > 0;
+        }
+
+        public boolean offer(TopicSubscriber subscriber, GeneralEventImpl event, int generation)
+        {
+            return events.offer(new DispatchedEvent(subscriber, event, generation));
+        }
+
+        protected int process()
+        {
+            int handledEvents = 0;
+
+            if (processingFlag.compareAndSet(false, true))
+            {
+                try
+                {
+                    final int currentlyAvailableEvents = events.size();
+
+                    DispatchedEvent dispatchedEvent;
+                    while (handledEvents < currentlyAvailableEvents && (dispatchedEvent = events.poll()) != null)
+                    {
+                        dispatchedEvent.subscriber.handleDispatchedEvent(dispatchedEvent.event, dispatchedEvent.generation);
+                        handledEvents++;
+                    }
+                }
+                finally
+                {
+                    processingFlag.set(false);
+                }
+            }
+
+            return handledEvents;
+        }
+    }
+
+    protected static class DispatchedEvent
+    {
+        protected final TopicSubscriber subscriber;
+        protected final GeneralEventImpl event;
+        protected final int generation;
+
+        DispatchedEvent(TopicSubscriber subscriber, GeneralEventImpl event, int generation)
+        {
+            this.subscriber = subscriber;
+            this.event = event;
+            this.generation = generation;
+        }
+    }
+}
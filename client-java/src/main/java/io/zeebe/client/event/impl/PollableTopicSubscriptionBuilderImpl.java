@@ -67,6 +67,13 @@ public class PollableTopicSubscriptionBuilderImpl implements PollableTopicSubscr
         return this;
     }
 
+    @Override
+    public PollableTopicSubscriptionBuilder startWithStateSnapshot()
+    {
+        implBuilder.startWithSnapshot();
+        return this;
+    }
+
     @Override
     public PollableTopicSubscriptionBuilder name(String subscriptionName)
     {
@@ -53,6 +53,12 @@ public class TopicClientImpl implements TopicsClient
         return new CreateTopicCommandImpl(client.getCommandManager(), topicName, partitions);
     }
 
+    @Override
+    public Request<Event> create(String topicName, int partitions, int logSegmentSize)
+    {
+        return new CreateTopicCommandImpl(client.getCommandManager(), topicName, partitions, logSegmentSize);
+    }
+
     public CreateTopicSubscriptionCommandImpl createTopicSubscription(String topicName, int partitionId)
     {
         return new CreateTopicSubscriptionCommandImpl(client.getCommandManager(), topicName, partitionId);
@@ -17,6 +17,7 @@ package io.zeebe.client.event.impl;
 
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import io.zeebe.client.task.impl.subscription.EventAcquisition;
@@ -39,6 +40,18 @@ public class TopicSubscriber extends EventSubscriber
 
     protected final Function<CheckedConsumer<GeneralEventImpl>, CheckedConsumer<GeneralEventImpl>> eventHandlerAdapter;
 
+    // parallel handling only
+    protected final InFlightPositions inFlightPositions;
+    protected final CheckedConsumer<GeneralEventImpl> dispatchedEventHandler;
+    protected volatile int generation;
+
+    /**
+     * Dispatched events which are not handled yet. In contrast to {@link #eventsInProcessing}, this counter is
+     * not reset when the subscriber is reopened, since the events of the previous generation are still
+     * handled (i.e. discarded) by the executors.
+     */
+    protected final AtomicInteger dispatchedEventsInProcessing = new AtomicInteger(0);
+
     public TopicSubscriber(
             TopicClientImpl client,
             TopicSubscriptionSpec subscription,
@@ -65,6 +78,19 @@ public class TopicSubscriber extends EventSubscriber
                 .andOnException(this::logExceptionAndPropagate);
         }
 
+        if (subscription.isParallel())
+        {
+            inFlightPositions = new InFlightPositions(subscription.getPrefetchCapacity());
+            dispatchedEventHandler = subscription.getHandler()
+                .andThen(this::recordCompletedEvent)
+                .andOnExceptionRetry(MAX_HANDLING_RETRIES, this::logRetry)
+                .andOnException(this::logExceptionAndClose);
+        }
+        else
+        {
+            inFlightPositions = null;
+            dispatchedEventHandler = null;
+        }
     }
 
     public int pollEvents(CheckedConsumer<GeneralEventImpl> consumer)
@@ -72,6 +98,118 @@ public class TopicSubscriber extends EventSubscriber
         return super.pollEvents(eventHandlerAdapter.apply(consumer));
     }
 
+    /**
+     * Moves pending events to the lanes of the dispatcher. Must only be invoked by one thread at a time.
+     */
+    public int dispatchEvents(KeyOrderedEventDispatcher dispatcher)
+    {
+        final int currentlyAvailableEvents = size();
+        int dispatchedEvents = 0;
+
+        while (dispatchedEvents < currentlyAvailableEvents)
+        {
+            final GeneralEventImpl event = pendingEvents.peek();
+            if (event == null)
+            {
+                break;
+            }
+
+            final KeyOrderedEventDispatcher.Lane lane;
+            try
+            {
+                lane = dispatcher.selectLane(event);
+            }
+            catch (Exception e)
+            {
+                logEventHandlingError(e, event, "Could not determine ordering key. Closing subscription.");
+                closeAsync();
+                break;
+            }
+
+            if (!lane.hasCapacity())
+            {
+                // keep the event pending to preserve the order
+                break;
+            }
+
+            // see EventSubscriber#pollEvents for why the counter is incremented before checking the state
+            dispatchedEventsInProcessing.incrementAndGet();
+
+            if (!isOpen() || isCloseIssued.get())
+            {
+                dispatchedEventsInProcessing.decrementAndGet();
+                break;
+            }
+
+            pendingEvents.poll();
+            inFlightPositions.add(event.getMetadata().getPosition());
+
+            lane.offer(this, event, generation);
+            dispatchedEvents++;
+        }
+
+        return dispatchedEvents;
+    }
+
+    public void handleDispatchedEvent(GeneralEventImpl event, int eventGeneration)
+    {
+        // skip the event if the subscriber has been reopened since the event was dispatched
+        final boolean isCurrentGeneration = eventGeneration == generation;
+
+        try
+        {
+            if (isCurrentGeneration && isOpen() && !isCloseIssued.get())
+            {
+                logHandling(event);
+                dispatchedEventHandler.accept(event);
+            }
+        }
+        catch (Exception e)
+        {
+            onUnhandledEventHandlingException(event, e);
+        }
+        finally
+        {
+            if (isCurrentGeneration)
+            {
+                eventsProcessedSinceLastReplenishment.incrementAndGet();
+            }
+
+            dispatchedEventsInProcessing.decrementAndGet();
+        }
+    }
+
+    protected void recordCompletedEvent(GeneralEventImpl event)
+    {
+        synchronized (inFlightPositions)
+        {
+            final long lowWaterMark = inFlightPositions.complete(event.getMetadata().getPosition());
+
+            if (lowWaterMark > lastProcessedEventPosition)
+            {
+                this.lastProcessedEventPosition = lowWaterMark;
+            }
+        }
+    }
+
+    @Override
+    protected boolean hasEventsInProcessing()
+    {
+        return super.hasEventsInProcessing() || dispatchedEventsInProcessing.get() > 0;
+    }
+
+    @Override
+    protected void resetProcessingState()
+    {
+        super.resetProcessingState();
+
+        if (inFlightPositions != null)
+        {
+            generation++;
+            inFlightPositions.clear();
+        }
+    }
+
     protected void logExceptionAndClose(GeneralEventImpl event, Exception e)
     {
         logEventHandlingError(e, event, "Closing subscription.");
@@ -97,6 +235,7 @@ public class TopicSubscriber extends EventSubscriber
                 .prefetchCapacity(subscription.getPrefetchCapacity())
                 .name(subscription.getName())
                 .forceStart(subscription.isForceStart())
+                .startWithSnapshot(subscription.isStartWithSnapshot())
                 .executeAsync();
     }
 
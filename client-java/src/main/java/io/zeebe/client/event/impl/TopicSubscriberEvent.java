@@ -31,6 +31,7 @@ public class TopicSubscriberEvent extends EventImpl implements EventSubscription
     protected String name;
     protected int prefetchCapacity = -1;
     protected boolean forceStart;
+    protected boolean startWithSnapshot;
 
     protected RemoteAddress remote;
 
@@ -80,6 +81,16 @@ public class TopicSubscriberEvent extends EventImpl implements EventSubscription
         this.forceStart = forceStart;
     }
 
+    public boolean isStartWithSnapshot()
+    {
+        return startWithSnapshot;
+    }
+
+    public void setStartWithSnapshot(boolean startWithSnapshot)
+    {
+        this.startWithSnapshot = startWithSnapshot;
+    }
+
     @Override
     public void setReceiver(RemoteAddress receiver)
     {
@@ -33,6 +33,7 @@ public class TopicSubscriberGroup extends EventSubscriberGroup<TopicSubscriber>
 
     protected AtomicBoolean processingFlag = new AtomicBoolean(false);
     protected final TopicSubscriptionSpec subscription;
+    protected final KeyOrderedEventDispatcher dispatcher;
 
     public TopicSubscriberGroup(
             ZeebeClient client,
@@ -41,6 +42,18 @@ public class TopicSubscriberGroup extends EventSubscriberGroup<TopicSubscriber>
     {
         super(acquisition, client, subscription.getTopic());
         this.subscription = subscription;
+
+        if (subscription.isParallel())
+        {
+            this.dispatcher = new KeyOrderedEventDispatcher(
+                    subscription.getParallelism(),
+                    subscription.getPrefetchCapacity(),
+                    subscription.getOrderingKeyExtractor());
+        }
+        else
+        {
+            this.dispatcher = null;
+        }
     }
 
     @Override
@@ -58,6 +71,10 @@ public class TopicSubscriberGroup extends EventSubscriberGroup<TopicSubscriber>
     @Override
     public int pollEvents(CheckedConsumer<GeneralEventImpl> pollHandler)
     {
+        if (dispatcher != null)
+        {
+            return dispatchAndHandleEvents();
+        }
 
         // ensuring at most one thread polls at a time which is the guarantee we give for
         // topic subscriptions
@@ -78,6 +95,32 @@ public class TopicSubscriberGroup extends EventSubscriberGroup<TopicSubscriber>
         }
     }
 
+    protected int dispatchAndHandleEvents()
+    {
+        int workCount = 0;
+
+        // events are dispatched by one thread at a time, so that the order is preserved per lane;
+        // the lanes are then handled concurrently by all executors
+        if (processingFlag.compareAndSet(false, true))
+        {
+            try
+            {
+                for (TopicSubscriber subscriber : subscribers)
+                {
+                    workCount += subscriber.dispatchEvents(dispatcher);
+                }
+            }
+            finally
+            {
+                processingFlag.set(false);
+            }
+        }
+
+        workCount += dispatcher.processLanes();
+
+        return workCount;
+    }
+
     @Override
     public boolean isManagedGroup()
     {
@@ -19,6 +19,7 @@ import org.agrona.collections.Long2LongHashMap;
 
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.clustering.impl.ClientTopologyManager;
+import io.zeebe.client.event.OrderingKeyExtractor;
 import io.zeebe.client.task.impl.subscription.EventAcquisition;
 import io.zeebe.util.CheckedConsumer;
 import io.zeebe.util.EnsureUtil;
@@ -34,7 +35,10 @@ public class TopicSubscriberGroupBuilder
     protected String name;
     protected final int prefetchCapacity;
     protected boolean forceStart;
+    protected boolean startWithSnapshot;
     protected long defaultStartPosition;
+    protected int parallelism = 1;
+    protected OrderingKeyExtractor orderingKeyExtractor;
     protected final Long2LongHashMap startPositions = new Long2LongHashMap(-1);
 
     public TopicSubscriberGroupBuilder(
@@ -83,12 +87,30 @@ public class TopicSubscriberGroupBuilder
         return defaultStartPosition(0L);
     }
 
+    public TopicSubscriberGroupBuilder startWithSnapshot()
+    {
+        this.startWithSnapshot = true;
+        return this;
+    }
+
     public TopicSubscriberGroupBuilder forceStart()
     {
         this.forceStart = true;
         return this;
     }
 
+    public TopicSubscriberGroupBuilder parallelism(int parallelism)
+    {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public TopicSubscriberGroupBuilder orderingKeyExtractor(OrderingKeyExtractor orderingKeyExtractor)
+    {
+        this.orderingKeyExtractor = orderingKeyExtractor;
+        return this;
+    }
+
     public TopicSubscriberGroupBuilder name(String name)
     {
         this.name = name;
@@ -105,6 +127,11 @@ public class TopicSubscriberGroupBuilder
         return name;
     }
 
+    public OrderingKeyExtractor getOrderingKeyExtractor()
+    {
+        return orderingKeyExtractor;
+    }
+
     public TopicSubscriberGroup build()
     {
         final TopicSubscriptionSpec subscription = new TopicSubscriptionSpec(
@@ -113,8 +140,11 @@ public class TopicSubscriberGroupBuilder
                 defaultStartPosition,
                 startPositions,
                 forceStart,
+                startWithSnapshot,
                 name,
-                prefetchCapacity);
+                prefetchCapacity,
+                parallelism,
+                orderingKeyExtractor);
 
         final TopicSubscriberGroup subscriberGroup = new TopicSubscriberGroup(
                 client,
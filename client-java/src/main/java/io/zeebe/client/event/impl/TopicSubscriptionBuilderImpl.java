@@ -19,6 +19,7 @@ import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.clustering.impl.ClientTopologyManager;
 import io.zeebe.client.cmd.ClientException;
 import io.zeebe.client.event.IncidentEventHandler;
+import io.zeebe.client.event.OrderingKeyExtractor;
 import io.zeebe.client.event.RaftEventHandler;
 import io.zeebe.client.event.TaskEventHandler;
 import io.zeebe.client.event.TopicEventType;
@@ -117,6 +118,11 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder
 
         builder.handler(this::dispatchEvent);
 
+        if (builder.getOrderingKeyExtractor() == null)
+        {
+            builder.orderingKeyExtractor(new WorkflowInstanceKeyExtractor());
+        }
+
         return builder.build();
     }
 
@@ -181,6 +187,13 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder
         return this;
     }
 
+    @Override
+    public TopicSubscriptionBuilder startWithStateSnapshot()
+    {
+        builder.startWithSnapshot();
+        return this;
+    }
+
     @Override
     public TopicSubscriptionBuilder name(String name)
     {
@@ -188,6 +201,22 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder
         return this;
     }
 
+    @Override
+    public TopicSubscriptionBuilder parallelism(int parallelism)
+    {
+        EnsureUtil.ensureGreaterThan("parallelism", parallelism, 0);
+        builder.parallelism(parallelism);
+        return this;
+    }
+
+    @Override
+    public TopicSubscriptionBuilder orderingKeyExtractor(OrderingKeyExtractor keyExtractor)
+    {
+        EnsureUtil.ensureNotNull("keyExtractor", keyExtractor);
+        builder.orderingKeyExtractor(keyExtractor);
+        return this;
+    }
+
     @Override
     public TopicSubscriptionBuilder forcedStart()
     {
@@ -17,6 +17,7 @@ package io.zeebe.client.event.impl;
 
 import org.agrona.collections.Long2LongHashMap;
 
+import io.zeebe.client.event.OrderingKeyExtractor;
 import io.zeebe.util.CheckedConsumer;
 
 public class TopicSubscriptionSpec
@@ -25,10 +26,13 @@ public class TopicSubscriptionSpec
     protected final String topic;
     protected final CheckedConsumer<GeneralEventImpl> handler;
     protected final boolean forceStart;
+    protected final boolean startWithSnapshot;
     protected final String name;
     protected final int prefetchCapacity;
     protected final long defaultStartPosition;
     protected final Long2LongHashMap startPositions;
+    protected final int parallelism;
+    protected final OrderingKeyExtractor orderingKeyExtractor;
 
     public TopicSubscriptionSpec(
             String topic,
@@ -36,16 +40,22 @@ public class TopicSubscriptionSpec
             long defaultStartPosition,
             Long2LongHashMap startPositions,
             boolean forceStart,
+            boolean startWithSnapshot,
             String name,
-            int prefetchCapacity)
+            int prefetchCapacity,
+            int parallelism,
+            OrderingKeyExtractor orderingKeyExtractor)
     {
         this.topic = topic;
         this.handler = handler;
         this.defaultStartPosition = defaultStartPosition;
         this.startPositions = startPositions;
         this.forceStart = forceStart;
+        this.startWithSnapshot = startWithSnapshot;
         this.name = name;
         this.prefetchCapacity = prefetchCapacity;
+        this.parallelism = parallelism;
+        this.orderingKeyExtractor = orderingKeyExtractor;
     }
 
     public String getTopic()
@@ -77,6 +87,10 @@ public class TopicSubscriptionSpec
     {
         return forceStart;
     }
+    public boolean isStartWithSnapshot()
+    {
+        return startWithSnapshot;
+    }
     public String getName()
     {
         return name;
@@ -85,6 +99,18 @@ public class TopicSubscriptionSpec
     {
         return prefetchCapacity;
     }
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+    public boolean isParallel()
+    {
+        return parallelism > 1;
+    }
+    public OrderingKeyExtractor getOrderingKeyExtractor()
+    {
+        return orderingKeyExtractor;
+    }
 
     @Override
     public String toString()
@@ -100,10 +126,14 @@ public class TopicSubscriptionSpec
         builder.append(startPositions);
         builder.append(", forceStart=");
         builder.append(forceStart);
+        builder.append(", startWithSnapshot=");
+        builder.append(startWithSnapshot);
         builder.append(", name=");
         builder.append(name);
         builder.append(", prefetchCapacity=");
         builder.append(prefetchCapacity);
+        builder.append(", parallelism=");
+        builder.append(parallelism);
         builder.append("]");
         return builder.toString();
     }
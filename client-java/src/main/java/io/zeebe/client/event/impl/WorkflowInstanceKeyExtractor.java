@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event.impl;
+
+import java.io.IOException;
+
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ValueType;
+
+import io.zeebe.client.event.GeneralEvent;
+import io.zeebe.client.event.OrderingKeyExtractor;
+import io.zeebe.client.event.TopicEventType;
+
+/**
+ * Orders events by the workflow instance they belong to. Events that are not related to
+ * a workflow instance are ordered by their own key.
+ *
+ * <p>Only the <code>workflowInstanceKey</code> property (or header of a task) is read
+ * from the event, the event is not deserialized.
+ */
+public class WorkflowInstanceKeyExtractor implements OrderingKeyExtractor
+{
+    protected static final String PROP_WORKFLOW_INSTANCE_KEY = "workflowInstanceKey";
+    protected static final String PROP_HEADERS = "headers";
+
+    @Override
+    public long extractKey(GeneralEvent event)
+    {
+        final TopicEventType eventType = event.getMetadata().getType();
+
+        long workflowInstanceKey = -1L;
+
+        if (TopicEventType.WORKFLOW_INSTANCE == eventType
+                || TopicEventType.INCIDENT == eventType
+                || TopicEventType.TASK == eventType)
+        {
+            workflowInstanceKey = readWorkflowInstanceKey(((GeneralEventImpl) event).getAsMsgPack());
+        }
+
+        if (workflowInstanceKey > 0)
+        {
+            return workflowInstanceKey;
+        }
+        else
+        {
+            return event.getMetadata().getKey();
+        }
+    }
+
+    protected long readWorkflowInstanceKey(byte[] msgPack)
+    {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(msgPack))
+        {
+            return readWorkflowInstanceKey(unpacker, true);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Failed to read workflow instance key", e);
+        }
+    }
+
+    /**
+     * Reads the workflow instance key of the next map. The key of the map itself
+     * takes precedence over the key of its headers.
+     */
+    protected long readWorkflowInstanceKey(MessageUnpacker unpacker, boolean readHeaders) throws IOException
+    {
+        if (!unpacker.hasNext() || unpacker.getNextFormat().getValueType() != ValueType.MAP)
+        {
+            if (unpacker.hasNext())
+            {
+                unpacker.skipValue();
+            }
+            return -1L;
+        }
+
+        long key = -1L;
+        long headerKey = -1L;
+
+        final int size = unpacker.unpackMapHeader();
+        for (int i = 0; i < size; i++)
+        {
+            if (unpacker.getNextFormat().getValueType() != ValueType.STRING)
+            {
+                unpacker.skipValue();
+                unpacker.skipValue();
+                continue;
+            }
+
+            final String property = unpacker.unpackString();
+
+            if (PROP_WORKFLOW_INSTANCE_KEY.equals(property) && unpacker.getNextFormat().getValueType() == ValueType.INTEGER)
+            {
+                key = unpacker.unpackLong();
+
+                if (key > 0 && readHeaders)
+                {
+                    // the remaining properties of the event are not relevant
+                    return key;
+                }
+            }
+            else if (readHeaders && PROP_HEADERS.equals(property))
+            {
+                headerKey = readWorkflowInstanceKey(unpacker, false);
+            }
+            else
+            {
+                unpacker.skipValue();
+            }
+        }
+
+        return key > 0 ? key : headerKey;
+    }
+}
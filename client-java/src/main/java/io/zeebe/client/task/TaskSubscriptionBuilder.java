@@ -64,6 +64,23 @@ public interface TaskSubscriptionBuilder
      */
     TaskSubscriptionBuilder handler(TaskHandler handler);
 
+    /**
+     * <p>Subscribes to tasks of the given type and registers the {@link TaskHandler} that receives them.
+     * Can be invoked multiple times to cover many task types with a single subscription. All task types
+     * share the same task fetch size, lock time and lock owner. A subscription for multiple types
+     * requires much less resources than separate subscriptions per type.
+     *
+     * <p>Tasks of the type set via {@link #taskType(String)} are handled by the handler set via
+     * {@link #handler(TaskHandler)}.
+     *
+     * <p>Note that a task type can only be subscribed by multi-type subscriptions which cover the same
+     * set of types or by single-type subscriptions.
+     *
+     * @param taskType the task type to subscribe to
+     * @param handler the handler for tasks of this type
+     */
+    TaskSubscriptionBuilder handler(String taskType, TaskHandler handler);
+
     /**
      * Opens a new {@link PollableTaskSubscription}. Begins receiving
      * tasks from that point on.
@@ -15,6 +15,8 @@
  */
 package io.zeebe.client.task.impl;
 
+import java.util.List;
+
 import io.zeebe.client.impl.RequestManager;
 import io.zeebe.protocol.clientapi.ControlMessageType;
 
@@ -60,6 +62,15 @@ public class CreateTaskSubscriptionCommandImpl extends ControlMessageRequest<Tas
         return this;
     }
 
+    /**
+     * Additional task types covered by the subscription
+     */
+    public CreateTaskSubscriptionCommandImpl taskTypes(final List<String> taskTypes)
+    {
+        this.subscription.setTaskTypes(taskTypes);
+        return this;
+    }
+
     @Override
     public void setTargetPartition(int targetPartition)
     {
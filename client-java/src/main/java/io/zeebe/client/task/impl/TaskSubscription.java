@@ -15,6 +15,8 @@
  */
 package io.zeebe.client.task.impl;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import io.zeebe.client.impl.cmd.ReceiverAwareResponseResult;
@@ -26,6 +28,7 @@ public class TaskSubscription implements EventSubscriptionCreationResult, Receiv
     private long subscriberKey;
 
     private String taskType;
+    private List<String> taskTypes;
 
     private long lockDuration;
     private String lockOwner;
@@ -54,6 +57,16 @@ public class TaskSubscription implements EventSubscriptionCreationResult, Receiv
         this.taskType = taskType;
     }
 
+    public List<String> getTaskTypes()
+    {
+        return taskTypes;
+    }
+
+    public void setTaskTypes(final List<String> taskTypes)
+    {
+        this.taskTypes = taskTypes;
+    }
+
     public long getLockDuration()
     {
         return lockDuration;
@@ -80,7 +80,14 @@ public class EventAcquisition implements SubscribedEventHandler, Actor
         if (subscriber != null && subscriber.isOpen())
         {
             event.setTopicName(subscriber.getTopicName());
-            return subscriber.addEvent(event);
+            final boolean added = subscriber.addEvent(event);
+
+            if (added)
+            {
+                subscribers.signalEventsAvailable();
+            }
+
+            return added;
         }
         else
         {
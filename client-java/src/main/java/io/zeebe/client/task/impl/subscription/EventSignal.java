@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.impl.subscription;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wakes up idle subscription executors when events become available. Signalling is cheap
+ * as long as no executor is waiting, so that it can be invoked for every received event.
+ */
+public class EventSignal
+{
+    protected final AtomicLong signalCount = new AtomicLong(0);
+    protected final AtomicInteger waitingThreads = new AtomicInteger(0);
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final Condition signalled = lock.newCondition();
+
+    public void signal()
+    {
+        signalCount.incrementAndGet();
+
+        if (waitingThreads.get() > 0)
+        {
+            lock.lock();
+            try
+            {
+                signalled.signal();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wakes up all waiting threads, e.g. to stop them.
+     */
+    public void signalAll()
+    {
+        signalCount.incrementAndGet();
+
+        lock.lock();
+        try
+        {
+            signalled.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    public int getWaitingThreads()
+    {
+        return waitingThreads.get();
+    }
+
+    /**
+     * @return a token to be passed to {@link #await(long, long)}; must be obtained before
+     *   checking for available work to not miss a signal
+     */
+    public long currentSignal()
+    {
+        return signalCount.get();
+    }
+
+    /**
+     * Blocks until the signal has been raised since the given token was obtained or the timeout elapsed.
+     */
+    public void await(long lastSignal, long timeoutMs) throws InterruptedException
+    {
+        lock.lock();
+        try
+        {
+            // incremented while holding the lock, so that a signalling thread which observes it
+            // can only acquire the lock after this thread started waiting
+            waitingThreads.incrementAndGet();
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+            while (signalCount.get() == lastSignal && remainingNanos > 0)
+            {
+                remainingNanos = signalled.awaitNanos(remainingNanos);
+            }
+        }
+        finally
+        {
+            waitingThreads.decrementAndGet();
+            lock.unlock();
+        }
+    }
+}
@@ -39,6 +39,19 @@ public class EventSubscribers
     protected final List<EventSubscriberGroup> pollableSubscriberGroups = new CopyOnWriteArrayList<>();
     protected final List<EventSubscriberGroup> managedSubscriberGroups = new CopyOnWriteArrayList<>();
 
+    // shared by all executor threads, since each of them polls all managed groups
+    protected final EventSignal executorSignal;
+
+    public EventSubscribers()
+    {
+        this(new EventSignal());
+    }
+
+    public EventSubscribers(EventSignal executorSignal)
+    {
+        this.executorSignal = executorSignal;
+    }
+
     public void addGroup(final EventSubscriberGroup subscription)
     {
         if (subscription.isManagedGroup())
@@ -183,6 +196,15 @@ public class EventSubscribers
         return forAllDo(managedSubscriberGroups, s -> s.poll());
     }
 
+    /**
+     * Wakes up one of the idle executors, if any. Busy executors pick up the events
+     * with their next poll.
+     */
+    public void signalEventsAvailable()
+    {
+        executorSignal.signal();
+    }
+
     public boolean isAnySubscriberOpening()
     {
         for (EventSubscriber subscriber : subscribers)
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.impl.subscription;
+
+import org.slf4j.Logger;
+
+import io.zeebe.client.impl.Loggers;
+
+/**
+ * Runs subscription executors on a dedicated thread. Instead of busy polling, the thread
+ * waits for the {@link EventSignal} when there is no work to do.
+ */
+public class SubscriptionExecutorRunner implements Runnable
+{
+    protected static final Logger LOGGER = Loggers.SUBSCRIPTION_LOGGER;
+
+    /**
+     * upper bound for idling in case a signal is missed (e.g. a postponed event which is retried by the transport)
+     */
+    protected static final long MAX_IDLE_TIME_MS = 1000L;
+
+    protected final EventSignal signal;
+    protected final SubscriptionExecutor[] executors;
+
+    protected volatile boolean isRunning = true;
+
+    public SubscriptionExecutorRunner(EventSignal signal, SubscriptionExecutor... executors)
+    {
+        this.signal = signal;
+        this.executors = executors;
+    }
+
+    @Override
+    public void run()
+    {
+        while (isRunning)
+        {
+            final long lastSignal = signal.currentSignal();
+
+            final int workCount = doWork();
+
+            try
+            {
+                if (workCount == 0)
+                {
+                    signal.await(lastSignal, MAX_IDLE_TIME_MS);
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                isRunning = false;
+            }
+        }
+    }
+
+    protected int doWork()
+    {
+        int workCount = 0;
+
+        for (int i = 0; i < executors.length; i++)
+        {
+            try
+            {
+                workCount += executors[i].doWork();
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("Exception in subscription executor", e);
+            }
+        }
+
+        return workCount;
+    }
+
+    public void stop()
+    {
+        isRunning = false;
+        // the signal is shared with the other runners
+        signal.signalAll();
+    }
+}
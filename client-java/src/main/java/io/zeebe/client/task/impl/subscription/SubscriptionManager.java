@@ -15,12 +15,15 @@
  */
 package io.zeebe.client.task.impl.subscription;
 
+import org.slf4j.Logger;
+
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.clustering.impl.ClientTopologyManager;
 import io.zeebe.client.event.PollableTopicSubscriptionBuilder;
 import io.zeebe.client.event.TopicSubscriptionBuilder;
 import io.zeebe.client.event.impl.PollableTopicSubscriptionBuilderImpl;
 import io.zeebe.client.event.impl.TopicSubscriptionBuilderImpl;
+import io.zeebe.client.impl.Loggers;
 import io.zeebe.client.impl.ZeebeClientImpl;
 import io.zeebe.client.impl.data.MsgPackMapper;
 import io.zeebe.client.task.PollableTaskSubscriptionBuilder;
@@ -35,17 +38,26 @@ import io.zeebe.util.actor.ActorSchedulerBuilder;
 
 public class SubscriptionManager implements TransportListener, Actor
 {
+    protected static final Logger LOGGER = Loggers.SUBSCRIPTION_LOGGER;
+
     protected final EventAcquisition taskAcquisition;
     protected final EventAcquisition topicSubscriptionAcquisition;
     protected final ClientInputMessageSubscription messageSubscription;
     protected final MsgPackMapper msgPackMapper;
     protected final ClientTopologyManager topologyManager;
 
-    protected final ActorScheduler executorActorScheduler;
     protected final ActorScheduler acquisitionActorScheduler;
 
     protected ActorReference[] acquisitionActorRefs;
-    protected ActorReference[] executorActorRefs;
+
+    /**
+     * upper bound for waiting on an executor thread to finish, e.g. if a handler blocks
+     */
+    protected static final long EXECUTOR_SHUTDOWN_TIMEOUT_MS = 10_000L;
+
+    protected final EventSignal executorSignal;
+    protected SubscriptionExecutorRunner[] executorRunners;
+    protected Thread[] executorThreads;
 
     protected final int numExecutionThreads;
 
@@ -60,8 +72,11 @@ public class SubscriptionManager implements TransportListener, Actor
             int numExecutionThreads,
             int topicSubscriptionPrefetchCapacity)
     {
-        this.taskSubscribers = new EventSubscribers();
-        this.topicSubscribers = new EventSubscribers();
+        // all executor threads poll both kinds of subscriptions, so that any idle thread can be woken up
+        this.executorSignal = new EventSignal();
+
+        this.taskSubscribers = new EventSubscribers(executorSignal);
+        this.topicSubscribers = new EventSubscribers(executorSignal);
 
         this.taskAcquisition = new EventAcquisition("task-acquisition", taskSubscribers);
         this.topicSubscriptionAcquisition = new EventAcquisition("topic-event-acquisition", topicSubscribers);
@@ -81,7 +96,6 @@ public class SubscriptionManager implements TransportListener, Actor
         this.topologyManager = client.getTopologyManager();
 
         this.acquisitionActorScheduler = ActorSchedulerBuilder.createDefaultScheduler("acquisition");
-        this.executorActorScheduler = ActorSchedulerBuilder.createDefaultScheduler("executors", numExecutionThreads);
     }
 
     public void start()
@@ -99,7 +113,6 @@ public class SubscriptionManager implements TransportListener, Actor
     public void close()
     {
         acquisitionActorScheduler.close();
-        executorActorScheduler.close();
     }
 
     protected void startAcquisition()
@@ -126,26 +139,51 @@ public class SubscriptionManager implements TransportListener, Actor
 
     protected void startExecution()
     {
-        if (executorActorRefs == null)
+        if (executorRunners == null)
         {
-            executorActorRefs = new ActorReference[numExecutionThreads * 2];
+            executorRunners = new SubscriptionExecutorRunner[numExecutionThreads];
+            executorThreads = new Thread[numExecutionThreads];
 
-            for (int i = 0; i < executorActorRefs.length; i += 2)
+            for (int i = 0; i < numExecutionThreads; i++)
             {
-                executorActorRefs[i] = executorActorScheduler.schedule(new SubscriptionExecutor(taskSubscribers));
-                executorActorRefs[i + 1] = executorActorScheduler.schedule(new SubscriptionExecutor(topicSubscribers));
+                executorRunners[i] = new SubscriptionExecutorRunner(
+                        executorSignal,
+                        new SubscriptionExecutor(taskSubscribers),
+                        new SubscriptionExecutor(topicSubscribers));
+
+                executorThreads[i] = new Thread(executorRunners[i], "executors-" + i);
+                executorThreads[i].setDaemon(true);
+                executorThreads[i].start();
             }
         }
     }
 
     protected void stopExecution()
     {
-        for (int i = 0; i < executorActorRefs.length; i++)
+        for (int i = 0; i < executorRunners.length; i++)
         {
-            executorActorRefs[i].close();
+            executorRunners[i].stop();
+        }
+
+        for (int i = 0; i < executorThreads.length; i++)
+        {
+            try
+            {
+                executorThreads[i].join(EXECUTOR_SHUTDOWN_TIMEOUT_MS);
+
+                if (executorThreads[i].isAlive())
+                {
+                    LOGGER.warn("Subscription executor thread {} did not stop within {} ms", executorThreads[i].getName(), EXECUTOR_SHUTDOWN_TIMEOUT_MS);
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
         }
 
-        executorActorRefs = null;
+        executorRunners = null;
+        executorThreads = null;
     }
 
     public void closeAllSubscribers()
@@ -102,6 +102,11 @@ public class TaskSubscriber extends EventSubscriber
             cmd = taskClient.createTaskSubscription(subscription.getTopic());
         }
 
+        if (subscription.isMultiTypeSubscription())
+        {
+            cmd.taskTypes(subscription.getTaskTypes());
+        }
+
         return cmd.taskType(subscription.getTaskType())
                 .lockDuration(subscription.getLockTime())
                 .lockOwner(subscription.getLockOwner())
@@ -119,7 +124,7 @@ public class TaskSubscriber extends EventSubscriber
     public String toString()
     {
         return "TaskSubscriber[topic=" + subscription.getTopic() + ", partition=" + partitionId +
-                ", taskType=" + subscription.getTaskType() + ", subscriberKey=" + subscriberKey + "]";
+                ", taskTypes=" + subscription.getTaskTypes() + ", subscriberKey=" + subscriberKey + "]";
     }
 
     @Override
@@ -15,6 +15,9 @@
  */
 package io.zeebe.client.task.impl.subscription;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.clustering.impl.ClientTopologyManager;
 import io.zeebe.client.impl.data.MsgPackMapper;
@@ -26,6 +29,7 @@ public class TaskSubscriberGroupBuilder
     public static final int DEFAULT_TASK_FETCH_SIZE = 32;
 
     protected String taskType;
+    protected final List<String> additionalTaskTypes = new ArrayList<>();
     protected long lockTime = -1L;
     protected String lockOwner;
     protected TaskHandler taskHandler;
@@ -57,6 +61,12 @@ public class TaskSubscriberGroupBuilder
         return this;
     }
 
+    public TaskSubscriberGroupBuilder additionalTaskType(String taskType)
+    {
+        this.additionalTaskTypes.add(taskType);
+        return this;
+    }
+
     public TaskSubscriberGroupBuilder lockTime(long lockTime)
     {
         this.lockTime = lockTime;
@@ -81,6 +91,11 @@ public class TaskSubscriberGroupBuilder
         return this;
     }
 
+    public String getTaskType()
+    {
+        return taskType;
+    }
+
     public TaskSubscriberGroup build()
     {
         EnsureUtil.ensureNotNullOrEmpty("taskType", taskType);
@@ -88,8 +103,21 @@ public class TaskSubscriberGroupBuilder
         EnsureUtil.ensureNotNullOrEmpty("lockOwner", lockOwner);
         EnsureUtil.ensureGreaterThan("taskFetchSize", taskFetchSize, 0);
 
+        final List<String> taskTypes = new ArrayList<>();
+        taskTypes.add(taskType);
+
+        for (String additionalTaskType : additionalTaskTypes)
+        {
+            EnsureUtil.ensureNotNullOrEmpty("taskType", additionalTaskType);
+
+            if (!taskTypes.contains(additionalTaskType))
+            {
+                taskTypes.add(additionalTaskType);
+            }
+        }
+
         final TaskSubscriptionSpec subscription =
-                new TaskSubscriptionSpec(topic, taskHandler, taskType, lockTime, lockOwner, taskFetchSize);
+                new TaskSubscriptionSpec(topic, taskHandler, taskType, taskTypes, lockTime, lockOwner, taskFetchSize);
 
         final TaskSubscriberGroup subscriberGroup = new TaskSubscriberGroup(
                 client,
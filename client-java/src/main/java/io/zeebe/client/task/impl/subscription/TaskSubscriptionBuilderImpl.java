@@ -16,6 +16,8 @@
 package io.zeebe.client.task.impl.subscription;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.clustering.impl.ClientTopologyManager;
@@ -28,6 +30,7 @@ import io.zeebe.util.EnsureUtil;
 public class TaskSubscriptionBuilderImpl implements TaskSubscriptionBuilder
 {
     protected TaskHandler taskHandler;
+    protected final Map<String, TaskHandler> handlersByTaskType = new LinkedHashMap<>();
 
     protected final TaskSubscriberGroupBuilder subscriberBuilder;
 
@@ -68,6 +71,16 @@ public class TaskSubscriptionBuilderImpl implements TaskSubscriptionBuilder
         return this;
     }
 
+    @Override
+    public TaskSubscriptionBuilder handler(String taskType, TaskHandler handler)
+    {
+        EnsureUtil.ensureNotNullOrEmpty("taskType", taskType);
+        EnsureUtil.ensureNotNull("handler", handler);
+
+        handlersByTaskType.put(taskType, handler);
+        return this;
+    }
+
     @Override
     public TaskSubscriptionBuilder taskFetchSize(int numTasks)
     {
@@ -85,8 +98,41 @@ public class TaskSubscriptionBuilderImpl implements TaskSubscriptionBuilder
     @Override
     public TaskSubscription open()
     {
-        EnsureUtil.ensureNotNull("taskHandler", taskHandler);
-        subscriberBuilder.taskHandler(taskHandler);
+        if (handlersByTaskType.isEmpty())
+        {
+            EnsureUtil.ensureNotNull("taskHandler", taskHandler);
+            subscriberBuilder.taskHandler(taskHandler);
+        }
+        else
+        {
+            final Map<String, TaskHandler> handlers = new LinkedHashMap<>();
+
+            final String taskType = subscriberBuilder.getTaskType();
+            if (taskType != null)
+            {
+                EnsureUtil.ensureNotNull("taskHandler", taskHandler);
+                handlers.put(taskType, taskHandler);
+            }
+
+            for (Map.Entry<String, TaskHandler> handler : handlersByTaskType.entrySet())
+            {
+                handlers.putIfAbsent(handler.getKey(), handler.getValue());
+            }
+
+            for (String subscribedTaskType : handlers.keySet())
+            {
+                if (subscriberBuilder.getTaskType() == null)
+                {
+                    subscriberBuilder.taskType(subscribedTaskType);
+                }
+                else
+                {
+                    subscriberBuilder.additionalTaskType(subscribedTaskType);
+                }
+            }
+
+            subscriberBuilder.taskHandler(new TaskTypeDispatchingHandler(handlers));
+        }
 
         final TaskSubscriberGroup subscriberGroup = subscriberBuilder.build();
         subscriberGroup.open();
@@ -15,6 +15,8 @@
  */
 package io.zeebe.client.task.impl.subscription;
 
+import java.util.List;
+
 import io.zeebe.client.task.TaskHandler;
 
 public class TaskSubscriptionSpec
@@ -23,6 +25,7 @@ public class TaskSubscriptionSpec
     protected final String topic;
     protected final TaskHandler taskHandler;
     protected final String taskType;
+    protected final List<String> taskTypes;
     protected final long lockTime;
     protected final String lockOwner;
     protected final int capacity;
@@ -31,6 +34,7 @@ public class TaskSubscriptionSpec
             String topic,
             TaskHandler taskHandler,
             String taskType,
+            List<String> taskTypes,
             long lockTime,
             String lockOwner,
             int capacity)
@@ -38,6 +42,7 @@ public class TaskSubscriptionSpec
         this.topic = topic;
         this.taskHandler = taskHandler;
         this.taskType = taskType;
+        this.taskTypes = taskTypes;
         this.lockTime = lockTime;
         this.lockOwner = lockOwner;
         this.capacity = capacity;
@@ -58,6 +63,19 @@ public class TaskSubscriptionSpec
         return taskType;
     }
 
+    /**
+     * @return all task types of the subscription, including {@link #getTaskType()}
+     */
+    public List<String> getTaskTypes()
+    {
+        return taskTypes;
+    }
+
+    public boolean isMultiTypeSubscription()
+    {
+        return taskTypes.size() > 1;
+    }
+
     public long getLockTime()
     {
         return lockTime;
@@ -88,6 +106,8 @@ public class TaskSubscriptionSpec
         builder.append(taskHandler);
         builder.append(", taskType=");
         builder.append(taskType);
+        builder.append(", taskTypes=");
+        builder.append(taskTypes);
         builder.append(", lockTime=");
         builder.append(lockTime);
         builder.append(", lockOwner=");
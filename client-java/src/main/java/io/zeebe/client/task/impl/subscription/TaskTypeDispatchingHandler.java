@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.impl.subscription;
+
+import java.util.Map;
+
+import io.zeebe.client.TasksClient;
+import io.zeebe.client.event.TaskEvent;
+import io.zeebe.client.task.TaskHandler;
+
+/**
+ * Handles the tasks of a subscription covering multiple task types by delegating to the handler of the task's type.
+ */
+public class TaskTypeDispatchingHandler implements TaskHandler
+{
+    protected final Map<String, TaskHandler> handlersByTaskType;
+
+    public TaskTypeDispatchingHandler(Map<String, TaskHandler> handlersByTaskType)
+    {
+        this.handlersByTaskType = handlersByTaskType;
+    }
+
+    @Override
+    public void handle(TasksClient client, TaskEvent task)
+    {
+        final TaskHandler handler = handlersByTaskType.get(task.getType());
+
+        if (handler == null)
+        {
+            throw new RuntimeException("No handler registered for task type '" + task.getType() + "'");
+        }
+
+        handler.handle(client, task);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TaskTypeDispatchingHandler[taskTypes=" + handlersByTaskType.keySet() + "]";
+    }
+}
@@ -27,11 +27,16 @@ public class CreateTopicCommandImpl extends CommandImpl<Event>
     protected final TopicEventImpl event;
 
     public CreateTopicCommandImpl(RequestManager client, String name, int partitions)
+    {
+        this(client, name, partitions, null);
+    }
+
+    public CreateTopicCommandImpl(RequestManager client, String name, int partitions, Integer logSegmentSize)
     {
         super(client);
         EnsureUtil.ensureNotNull("name", name);
 
-        this.event = new TopicEventImpl(TopicEventType.CREATE.name(), name, partitions);
+        this.event = new TopicEventImpl(TopicEventType.CREATE.name(), name, partitions, logSegmentSize);
         this.event.setTopicName(client.getSystemTopic());
         this.event.setPartitionId(client.getSystemPartition());
     }
@@ -25,16 +25,20 @@ public class TopicEventImpl extends EventImpl
 {
     protected final String name;
     protected final int partitions;
+    // in megabytes; null to use the broker's default
+    protected final Integer logSegmentSize;
 
     @JsonCreator
     public TopicEventImpl(
             @JsonProperty("state") String state,
             @JsonProperty("name") String name,
-            @JsonProperty("partitions") int partitions)
+            @JsonProperty("partitions") int partitions,
+            @JsonProperty("logSegmentSize") Integer logSegmentSize)
     {
         super(TopicEventType.TOPIC, state);
         this.name = name;
         this.partitions = partitions;
+        this.logSegmentSize = logSegmentSize;
     }
 
     public String getName()
@@ -47,4 +51,9 @@ public class TopicEventImpl extends EventImpl
         return partitions;
     }
 
+    public Integer getLogSegmentSize()
+    {
+        return logSegmentSize;
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.clustering.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zeebe.client.clustering.Topology;
+import io.zeebe.transport.ClientTransport;
+import io.zeebe.transport.SocketAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClientTopologyManagerTest
+{
+    protected ClientTopologyManager topologyManager;
+
+    @Before
+    public void setUp()
+    {
+        final ClientTransport transport = mock(ClientTransport.class);
+
+        topologyManager = new ClientTopologyManager(transport, new ObjectMapper(), 3, new SocketAddress("localhost", 51015));
+    }
+
+    @Test
+    public void shouldBeSameVersion()
+    {
+        // given
+        topologyManager.onNewTopology(topologyResponse(123L, 0));
+
+        // then
+        assertThat(topologyManager.isSameVersion(topologyResponse(123L, 1))).isTrue();
+    }
+
+    @Test
+    public void shouldNotBeSameVersionIfVersionDiffers()
+    {
+        // given
+        topologyManager.onNewTopology(topologyResponse(123L, 0));
+
+        // then
+        assertThat(topologyManager.isSameVersion(topologyResponse(456L, 0))).isFalse();
+    }
+
+    @Test
+    public void shouldNotBeSameVersionIfResponseHasNoVersion()
+    {
+        // given
+        topologyManager.onNewTopology(topologyResponse(null, 0));
+
+        // then
+        assertThat(topologyManager.isSameVersion(topologyResponse(null, 0))).isFalse();
+    }
+
+    @Test
+    public void shouldKeepTopologyIfVersionIsUnchanged()
+    {
+        // given
+        topologyManager.onNewTopology(topologyResponse(123L, 0));
+        final Topology topology = topologyManager.getTopology();
+
+        // when
+        topologyManager.onNewTopology(topologyResponse(123L, 1));
+
+        // then
+        assertThat(topologyManager.getTopology()).isSameAs(topology);
+    }
+
+    @Test
+    public void shouldReplaceTopologyIfVersionChanged()
+    {
+        // given
+        topologyManager.onNewTopology(topologyResponse(123L, 0));
+        final Topology topology = topologyManager.getTopology();
+
+        // when
+        topologyManager.onNewTopology(topologyResponse(456L, 1));
+
+        // then
+        assertThat(topologyManager.getTopology()).isNotSameAs(topology);
+    }
+
+    protected static TopologyResponse topologyResponse(final Long version, final int partitionId)
+    {
+        final TopicLeader topicLeader = new TopicLeader()
+            .setHost("localhost")
+            .setPort(51015)
+            .setTopicName("topic")
+            .setPartitionId(partitionId);
+
+        final TopologyResponse topologyResponse = new TopologyResponse();
+        topologyResponse.setBrokers(Collections.singletonList(new SocketAddress("localhost", 51015)));
+        topologyResponse.setTopicLeaders(Collections.singletonList(topicLeader));
+        topologyResponse.setVersion(version);
+
+        return topologyResponse;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import io.zeebe.client.event.impl.InFlightPositions;
+
+public class InFlightPositionsTest
+{
+
+    protected InFlightPositions positions = new InFlightPositions(2);
+
+    @Test
+    public void shouldAdvanceLowWaterMarkInOrder()
+    {
+        // given
+        positions.add(1L);
+        positions.add(4L);
+
+        // when
+        final long firstMark = positions.complete(1L);
+        final long secondMark = positions.complete(4L);
+
+        // then
+        assertThat(firstMark).isEqualTo(1L);
+        assertThat(secondMark).isEqualTo(4L);
+        assertThat(positions.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotAdvanceLowWaterMarkBeyondIncompletePosition()
+    {
+        // given
+        positions.add(1L);
+        positions.add(4L);
+        positions.add(7L);
+
+        // when
+        final long mark = positions.complete(4L);
+
+        // then
+        assertThat(mark).isEqualTo(-1L);
+        assertThat(positions.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldAdvanceLowWaterMarkOverCompletedPositions()
+    {
+        // given
+        positions.add(1L);
+        positions.add(4L);
+        positions.add(7L);
+        positions.complete(7L);
+        positions.complete(4L);
+
+        // when
+        final long mark = positions.complete(1L);
+
+        // then
+        assertThat(mark).isEqualTo(7L);
+        assertThat(positions.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldIgnoreUnknownPosition()
+    {
+        // given
+        positions.add(1L);
+
+        // when
+        final long mark = positions.complete(2L);
+
+        // then
+        assertThat(mark).isEqualTo(-1L);
+        assertThat(positions.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.zeebe.client.event.impl.GeneralEventImpl;
+import io.zeebe.client.event.impl.KeyOrderedEventDispatcher;
+import io.zeebe.client.event.impl.KeyOrderedEventDispatcher.Lane;
+import io.zeebe.client.event.impl.TopicSubscriber;
+import io.zeebe.client.impl.data.MsgPackConverter;
+
+public class KeyOrderedEventDispatcherTest
+{
+    protected static final int PARALLELISM = 2;
+    protected static final int LANE_CAPACITY = 4;
+
+    protected final MsgPackConverter msgPackConverter = new MsgPackConverter();
+
+    protected final List<GeneralEventImpl> handledEvents = Collections.synchronizedList(new ArrayList<>());
+
+    protected TopicSubscriber subscriber;
+    protected KeyOrderedEventDispatcher dispatcher;
+
+    @Before
+    public void setUp()
+    {
+        subscriber = mock(TopicSubscriber.class);
+        doAnswer(invocation ->
+        {
+            handledEvents.add((GeneralEventImpl) invocation.getArguments()[0]);
+            return null;
+        }).when(subscriber).handleDispatchedEvent(any(), anyInt());
+
+        // orders by the key of the event
+        dispatcher = new KeyOrderedEventDispatcher(PARALLELISM, LANE_CAPACITY, e -> e.getMetadata().getKey());
+    }
+
+    @Test
+    public void shouldSelectSameLaneForSameKey()
+    {
+        // when
+        final Lane lane = dispatcher.selectLane(event(1L, 1L));
+
+        // then
+        assertThat(dispatcher.selectLane(event(1L, 2L))).isSameAs(lane);
+        assertThat(dispatcher.selectLane(event(1L, 3L))).isSameAs(lane);
+    }
+
+    @Test
+    public void shouldLimitLaneCapacity()
+    {
+        // given
+        final Lane lane = dispatcher.selectLane(event(1L, 1L));
+
+        // when
+        for (int i = 0; i < LANE_CAPACITY; i++)
+        {
+            assertThat(lane.hasCapacity()).isTrue();
+            assertThat(lane.offer(subscriber, event(1L, i), 0)).isTrue();
+        }
+
+        // then
+        assertThat(lane.hasCapacity()).isFalse();
+        assertThat(lane.offer(subscriber, event(1L, LANE_CAPACITY), 0)).isFalse();
+    }
+
+    @Test
+    public void shouldFreeLaneCapacityWhenEventsAreHandled()
+    {
+        // given
+        final Lane lane = dispatcher.selectLane(event(1L, 1L));
+
+        for (int i = 0; i < LANE_CAPACITY; i++)
+        {
+            lane.offer(subscriber, event(1L, i), 0);
+        }
+
+        // when
+        final int handled = dispatcher.processLanes();
+
+        // then
+        assertThat(handled).isEqualTo(LANE_CAPACITY);
+        assertThat(lane.hasCapacity()).isTrue();
+    }
+
+    @Test
+    public void shouldHandleEventsOfSameKeyInOrder() throws Exception
+    {
+        // given
+        final int eventsPerKey = 1000;
+        final long[] keys = {1L, 2L, 3L, 4L};
+
+        final Thread[] executors = new Thread[3];
+        final int totalEvents = eventsPerKey * keys.length;
+
+        for (int i = 0; i < executors.length; i++)
+        {
+            executors[i] = new Thread(() ->
+            {
+                while (handledEvents.size() < totalEvents)
+                {
+                    dispatcher.processLanes();
+                }
+            });
+            executors[i].start();
+        }
+
+        // when
+        long position = 0;
+        for (int i = 0; i < eventsPerKey; i++)
+        {
+            for (long key : keys)
+            {
+                final GeneralEventImpl event = event(key, position++);
+                final Lane lane = dispatcher.selectLane(event);
+
+                while (!lane.offer(subscriber, event, 0))
+                {
+                    Thread.yield();
+                }
+            }
+        }
+
+        for (Thread executor : executors)
+        {
+            executor.join(10_000);
+        }
+
+        // then
+        assertThat(handledEvents).hasSize(totalEvents);
+
+        for (long key : keys)
+        {
+            final List<Long> positions = handledEvents.stream()
+                .filter(e -> e.getMetadata().getKey() == key)
+                .map(e -> e.getMetadata().getPosition())
+                .collect(Collectors.toList());
+
+            assertThat(positions).hasSize(eventsPerKey).isSorted();
+        }
+    }
+
+    protected GeneralEventImpl event(long key, long position)
+    {
+        return new GeneralEventImpl(0, key, position, TopicEventType.WORKFLOW_INSTANCE, new byte[0], msgPackConverter);
+    }
+}
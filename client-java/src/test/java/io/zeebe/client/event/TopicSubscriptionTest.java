@@ -157,6 +157,56 @@ public class TopicSubscriptionTest
             .doesNotContainEntry("forceStart", true);
     }
 
+    @Test
+    public void shouldOpenSubscriptionWithStateSnapshot()
+    {
+        // given
+        broker.stubTopicSubscriptionApi(123L);
+
+        // when
+        clientRule.topics().newSubscription(clientRule.getDefaultTopicName())
+            .startWithStateSnapshot()
+            .handler(DO_NOTHING)
+            .name(SUBSCRIPTION_NAME)
+            .open();
+
+        // then
+        final ExecuteCommandRequest subscribeRequest = broker.getReceivedCommandRequests()
+            .stream()
+            .filter((e) -> e.eventType() == EventType.SUBSCRIBER_EVENT)
+            .findFirst()
+            .get();
+
+        assertThat(subscribeRequest.getCommand())
+            .containsEntry("startWithSnapshot", true)
+            .containsEntry("state", "SUBSCRIBE")
+            .containsEntry("name", SUBSCRIPTION_NAME)
+            .doesNotContainEntry("forceStart", true);
+    }
+
+    @Test
+    public void shouldNotStartWithStateSnapshotByDefault()
+    {
+        // given
+        broker.stubTopicSubscriptionApi(123L);
+
+        // when
+        clientRule.topics().newSubscription(clientRule.getDefaultTopicName())
+            .startAtHeadOfTopic()
+            .handler(DO_NOTHING)
+            .name(SUBSCRIPTION_NAME)
+            .open();
+
+        // then
+        final ExecuteCommandRequest subscribeRequest = broker.getReceivedCommandRequests()
+            .stream()
+            .filter((e) -> e.eventType() == EventType.SUBSCRIBER_EVENT)
+            .findFirst()
+            .get();
+
+        assertThat(subscribeRequest.getCommand()).doesNotContainEntry("startWithSnapshot", true);
+    }
+
     @Test
     public void shouldOpenSubscriptionAtPosition()
     {
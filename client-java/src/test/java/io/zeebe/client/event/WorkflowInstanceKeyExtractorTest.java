@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import io.zeebe.client.event.impl.GeneralEventImpl;
+import io.zeebe.client.event.impl.WorkflowInstanceKeyExtractor;
+import io.zeebe.client.impl.data.MsgPackConverter;
+
+public class WorkflowInstanceKeyExtractorTest
+{
+    protected final MsgPackConverter msgPackConverter = new MsgPackConverter();
+    protected final WorkflowInstanceKeyExtractor extractor = new WorkflowInstanceKeyExtractor();
+
+    @Test
+    public void shouldExtractWorkflowInstanceKey()
+    {
+        // given
+        final GeneralEventImpl event = event(TopicEventType.WORKFLOW_INSTANCE,
+            "{\"state\":\"ACTIVITY_READY\", \"payload\":{\"workflowInstanceKey\":99}, \"workflowInstanceKey\":5}");
+
+        // when
+        final long key = extractor.extractKey(event);
+
+        // then
+        assertThat(key).isEqualTo(5L);
+    }
+
+    @Test
+    public void shouldExtractWorkflowInstanceKeyFromTaskHeaders()
+    {
+        // given
+        final GeneralEventImpl event = event(TopicEventType.TASK,
+            "{\"state\":\"CREATED\", \"headers\":{\"bpmnProcessId\":\"process\", \"workflowInstanceKey\":7}, \"type\":\"foo\"}");
+
+        // when
+        final long key = extractor.extractKey(event);
+
+        // then
+        assertThat(key).isEqualTo(7L);
+    }
+
+    @Test
+    public void shouldFallBackToEventKey()
+    {
+        // given
+        final GeneralEventImpl event = event(TopicEventType.TASK, "{\"state\":\"CREATED\", \"headers\":{}, \"type\":\"foo\"}");
+
+        // when
+        final long key = extractor.extractKey(event);
+
+        // then
+        assertThat(key).isEqualTo(123L);
+    }
+
+    @Test
+    public void shouldUseEventKeyForOtherEvents()
+    {
+        // given
+        final GeneralEventImpl event = event(TopicEventType.RAFT, "{\"workflowInstanceKey\":5}");
+
+        // when
+        final long key = extractor.extractKey(event);
+
+        // then
+        assertThat(key).isEqualTo(123L);
+    }
+
+    protected GeneralEventImpl event(TopicEventType type, String json)
+    {
+        return new GeneralEventImpl(0, 123L, 1L, type, msgPackConverter.convertToMsgPack(json), msgPackConverter);
+    }
+}
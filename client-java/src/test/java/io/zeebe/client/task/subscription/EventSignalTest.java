@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.zeebe.client.task.impl.subscription.EventSignal;
+
+public class EventSignalTest
+{
+
+    protected EventSignal signal = new EventSignal();
+
+    @Test
+    public void shouldNotWaitIfSignalledBefore() throws Exception
+    {
+        // given
+        final long lastSignal = signal.currentSignal();
+        signal.signal();
+
+        // when
+        final long start = System.nanoTime();
+        signal.await(lastSignal, 10_000L);
+
+        // then
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void shouldWakeUpWaitingThread() throws Exception
+    {
+        // given
+        final CountDownLatch woken = new CountDownLatch(1);
+        final long lastSignal = signal.currentSignal();
+
+        final Thread waitingThread = new Thread(() ->
+        {
+            try
+            {
+                signal.await(lastSignal, 10_000L);
+                woken.countDown();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waitingThread.start();
+
+        // when
+        signal.signal();
+
+        // then
+        assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+        waitingThread.join();
+    }
+
+    @Test
+    public void shouldWakeUpOnlyOneWaitingThread() throws Exception
+    {
+        // given
+        final CountDownLatch woken = new CountDownLatch(2);
+        final long lastSignal = signal.currentSignal();
+
+        final Thread[] waitingThreads = new Thread[2];
+        for (int i = 0; i < waitingThreads.length; i++)
+        {
+            waitingThreads[i] = new Thread(() ->
+            {
+                try
+                {
+                    signal.await(lastSignal, 10_000L);
+                    woken.countDown();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            waitingThreads[i].start();
+        }
+
+        waitUntilWaiting(2);
+
+        // when
+        signal.signal();
+
+        // then
+        assertThat(woken.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(woken.getCount()).isEqualTo(1);
+
+        signal.signal();
+        assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (Thread waitingThread : waitingThreads)
+        {
+            waitingThread.join();
+        }
+    }
+
+    @Test
+    public void shouldReturnAfterTimeout() throws Exception
+    {
+        // given
+        final long lastSignal = signal.currentSignal();
+
+        // when
+        signal.await(lastSignal, 10L);
+
+        // then
+        assertThat(signal.currentSignal()).isEqualTo(lastSignal);
+    }
+
+    protected void waitUntilWaiting(int threads) throws InterruptedException
+    {
+        while (signal.getWaitingThreads() < threads)
+        {
+            Thread.sleep(1);
+        }
+    }
+}
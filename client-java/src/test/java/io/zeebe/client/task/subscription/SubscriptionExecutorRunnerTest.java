@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.zeebe.client.task.impl.subscription.EventSignal;
+import io.zeebe.client.task.impl.subscription.EventSubscriberGroup;
+import io.zeebe.client.task.impl.subscription.EventSubscribers;
+import io.zeebe.client.task.impl.subscription.SubscriptionExecutor;
+import io.zeebe.client.task.impl.subscription.SubscriptionExecutorRunner;
+
+@SuppressWarnings("rawtypes")
+public class SubscriptionExecutorRunnerTest
+{
+    protected final EventSignal signal = new EventSignal();
+    protected final EventSubscribers subscribers = new EventSubscribers(signal);
+
+    protected final CountDownLatch busyExecutorStarted = new CountDownLatch(1);
+    protected final CountDownLatch releaseBusyExecutor = new CountDownLatch(1);
+
+    protected SubscriptionExecutorRunner[] runners = new SubscriptionExecutorRunner[0];
+    protected Thread[] threads = new Thread[0];
+
+    @After
+    public void tearDown() throws Exception
+    {
+        releaseBusyExecutor.countDown();
+
+        for (SubscriptionExecutorRunner runner : runners)
+        {
+            runner.stop();
+        }
+
+        for (Thread thread : threads)
+        {
+            thread.join(5_000L);
+        }
+    }
+
+    @Test
+    public void shouldWakeIdleExecutorIfOtherExecutorIsBusy() throws Exception
+    {
+        // given
+        final AtomicBoolean isBusy = new AtomicBoolean(false);
+        final EventSubscriberGroup busyGroup = managedGroup(() ->
+        {
+            // the first executor which polls the group is blocked by the handler
+            if (isBusy.compareAndSet(false, true))
+            {
+                busyExecutorStarted.countDown();
+                releaseBusyExecutor.await();
+            }
+            return 0;
+        });
+
+        final AtomicBoolean hasEvents = new AtomicBoolean(false);
+        final CountDownLatch eventsPolled = new CountDownLatch(1);
+        final EventSubscriberGroup group = managedGroup(() ->
+        {
+            if (hasEvents.compareAndSet(true, false))
+            {
+                eventsPolled.countDown();
+                return 1;
+            }
+            return 0;
+        });
+
+        subscribers.addGroup(busyGroup);
+        subscribers.addGroup(group);
+
+        startRunners(2);
+
+        assertThat(busyExecutorStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        waitUntilWaiting(1);
+
+        // when
+        hasEvents.set(true);
+        subscribers.signalEventsAvailable();
+
+        // then the idle executor polls the events without waiting for its idle timeout
+        assertThat(eventsPolled.await(500, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldStopAllRunnersSharingTheSignal() throws Exception
+    {
+        // given
+        startRunners(3);
+        waitUntilWaiting(3);
+
+        // when
+        for (SubscriptionExecutorRunner runner : runners)
+        {
+            runner.stop();
+        }
+
+        // then
+        for (Thread thread : threads)
+        {
+            thread.join(500L);
+            assertThat(thread.isAlive()).isFalse();
+        }
+    }
+
+    protected void startRunners(int count)
+    {
+        runners = new SubscriptionExecutorRunner[count];
+        threads = new Thread[count];
+
+        for (int i = 0; i < count; i++)
+        {
+            runners[i] = new SubscriptionExecutorRunner(signal, new SubscriptionExecutor(subscribers));
+
+            threads[i] = new Thread(runners[i], "executors-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    protected void waitUntilWaiting(int threads) throws InterruptedException
+    {
+        while (signal.getWaitingThreads() < threads)
+        {
+            Thread.sleep(1);
+        }
+    }
+
+    protected static EventSubscriberGroup managedGroup(PollAction pollAction) throws Exception
+    {
+        final EventSubscriberGroup group = mock(EventSubscriberGroup.class);
+        when(group.isManagedGroup()).thenReturn(true);
+        when(group.poll()).thenAnswer(invocation -> pollAction.poll());
+
+        return group;
+    }
+
+    @FunctionalInterface
+    protected interface PollAction
+    {
+        int poll() throws Exception;
+    }
+}
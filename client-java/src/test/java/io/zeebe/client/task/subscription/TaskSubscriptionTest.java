@@ -447,6 +447,82 @@ public class TaskSubscriptionTest
         assertThat(task2.getType()).isEqualTo("type2");
     }
 
+    @Test
+    public void shouldOpenSubscriptionWithHandlersPerTaskType()
+    {
+        // given
+        broker.stubTaskSubscriptionApi(123L);
+
+        // when
+        final TaskSubscription subscription = clientRule.tasks().newTaskSubscription(clientRule.getDefaultTopicName())
+            .handler("foo", DO_NOTHING)
+            .handler("bar", DO_NOTHING)
+            .lockOwner("owner")
+            .lockTime(10000L)
+            .open();
+
+        // then
+        assertThat(subscription.isOpen()).isTrue();
+
+        final List<ControlMessageRequest> subscriptionRequests = getSubscribeRequests().collect(Collectors.toList());
+        assertThat(subscriptionRequests).hasSize(1);
+
+        final Map<String, Object> data = subscriptionRequests.get(0).getData();
+        assertThat(data).contains(entry("taskType", "foo"));
+        assertThat((List<?>) data.get("taskTypes")).containsExactly("foo", "bar");
+    }
+
+    @Test
+    public void shouldOpenSubscriptionWithHandlerAndHandlersPerTaskType()
+    {
+        // given
+        broker.stubTaskSubscriptionApi(123L);
+
+        // when
+        clientRule.tasks().newTaskSubscription(clientRule.getDefaultTopicName())
+            .handler(DO_NOTHING)
+            .taskType("foo")
+            .handler("bar", DO_NOTHING)
+            .lockOwner("owner")
+            .lockTime(10000L)
+            .open();
+
+        // then
+        final Map<String, Object> data = getSubscribeRequests().findFirst().get().getData();
+        assertThat(data).contains(entry("taskType", "foo"));
+        assertThat((List<?>) data.get("taskTypes")).containsExactly("foo", "bar");
+    }
+
+    @Test
+    public void shouldInvokeHandlerOfTaskType()
+    {
+        // given
+        broker.stubTaskSubscriptionApi(123L);
+        stubTaskCompleteRequest();
+
+        final RecordingTaskHandler fooHandler = new RecordingTaskHandler();
+        final RecordingTaskHandler barHandler = new RecordingTaskHandler();
+
+        clientRule.tasks().newTaskSubscription(clientRule.getDefaultTopicName())
+            .handler("foo", fooHandler)
+            .handler("bar", barHandler)
+            .lockOwner("owner")
+            .lockTime(10000L)
+            .open();
+
+        final RemoteAddress clientAddress = getSubscribeRequests().findFirst().get().getSource();
+
+        // when
+        broker.pushLockedTask(clientAddress, 123L, 4L, 5L, "owner", "foo");
+        broker.pushLockedTask(clientAddress, 123L, 5L, 6L, "owner", "bar");
+
+        // then
+        TestUtil.waitUntil(() -> fooHandler.numHandledTasks() + barHandler.numHandledTasks() == 2);
+
+        assertThat(fooHandler.getHandledTasks()).extracting("type").containsExactly("foo");
+        assertThat(barHandler.getHandledTasks()).extracting("type").containsExactly("bar");
+    }
+
     @Test
     public void shouldInvokeTaskHandlerForPollableSubscription()
     {
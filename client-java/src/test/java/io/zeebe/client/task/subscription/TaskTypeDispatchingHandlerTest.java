@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.task.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.zeebe.client.TasksClient;
+import io.zeebe.client.event.TaskEvent;
+import io.zeebe.client.task.TaskHandler;
+import io.zeebe.client.task.impl.subscription.TaskTypeDispatchingHandler;
+
+public class TaskTypeDispatchingHandlerTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    protected final TasksClient client = mock(TasksClient.class);
+
+    @Test
+    public void shouldDispatchTaskToHandlerOfType()
+    {
+        // given
+        final RecordingTaskHandler fooHandler = new RecordingTaskHandler();
+        final RecordingTaskHandler barHandler = new RecordingTaskHandler();
+
+        final Map<String, TaskHandler> handlers = new HashMap<>();
+        handlers.put("foo", fooHandler);
+        handlers.put("bar", barHandler);
+
+        final TaskTypeDispatchingHandler handler = new TaskTypeDispatchingHandler(handlers);
+
+        final TaskEvent fooTask = task("foo");
+        final TaskEvent barTask = task("bar");
+
+        // when
+        handler.handle(client, fooTask);
+        handler.handle(client, barTask);
+        handler.handle(client, fooTask);
+
+        // then
+        assertThat(fooHandler.getHandledTasks()).containsExactly(fooTask, fooTask);
+        assertThat(barHandler.getHandledTasks()).containsExactly(barTask);
+    }
+
+    @Test
+    public void shouldFailIfNoHandlerIsRegisteredForType()
+    {
+        // given
+        final Map<String, TaskHandler> handlers = new HashMap<>();
+        handlers.put("foo", new RecordingTaskHandler());
+
+        final TaskTypeDispatchingHandler handler = new TaskTypeDispatchingHandler(handlers);
+
+        // then
+        exception.expect(RuntimeException.class);
+        exception.expectMessage("No handler registered for task type 'bar'");
+
+        // when
+        handler.handle(client, task("bar"));
+    }
+
+    protected TaskEvent task(String type)
+    {
+        final TaskEvent task = mock(TaskEvent.class);
+        when(task.getType()).thenReturn(type);
+        return task;
+    }
+}
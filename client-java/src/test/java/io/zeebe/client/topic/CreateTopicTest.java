@@ -82,6 +82,35 @@ public class CreateTopicTest
         assertThat(responseEvent.getState()).isEqualTo("CREATED");
     }
 
+    @Test
+    public void shouldCreateTopicWithLogSegmentSize()
+    {
+        // given
+        brokerRule.onExecuteCommandRequest(Protocol.SYSTEM_PARTITION, EventType.TOPIC_EVENT, "CREATE")
+            .respondWith()
+            .key(123)
+            .position(456)
+            .event()
+              .allOf((r) -> r.getCommand())
+              .put("state", "CREATED")
+              .done()
+            .register();
+
+        // when
+        final Event responseEvent = clientRule.topics().create("newTopic", 14, 256).execute();
+
+        // then
+        final ExecuteCommandRequest request = brokerRule.getReceivedCommandRequests().get(0);
+
+        assertThat(request.getCommand()).containsOnly(
+                entry("state", "CREATE"),
+                entry("name", "newTopic"),
+                entry("partitions", 14),
+                entry("logSegmentSize", 256));
+
+        assertThat(responseEvent.getState()).isEqualTo("CREATED");
+    }
+
     @Test
     public void shouldValidateTopicNameNotNull()
     {